@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.ParallelBatchMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping a batch of records with {@link EasyObjectMapper#mapAll(List, List)} against calling
+ * {@link EasyObjectMapper#map(Object, Object)} in a loop, and against splitting the batch across the common
+ * {@link java.util.concurrent.ForkJoinPool} with a {@link ParallelBatchMapper}. Scores are reported per record.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchMappingBenchmark {
+    private static final int BATCH_SIZE = 1024;
+    private static final int MIN_CHUNK_SIZE = 128;
+
+    private List<SourceRecord> sources;
+    private List<TargetRecord> targets;
+    private EasyObjectMapper<SourceRecord, TargetRecord> mapper;
+    private ParallelBatchMapper<SourceRecord, TargetRecord> parallelMapper;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(BATCH_SIZE);
+        targets = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sources.add(SourceRecord.create());
+            targets.add(new TargetRecord());
+        }
+        mapper = RecordMappers.recordMapper();
+        parallelMapper = new ParallelBatchMapper<>(mapper, MIN_CHUNK_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TargetRecord> mapInLoop() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            mapper.map(sources.get(i), targets.get(i));
+        }
+        return targets;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TargetRecord> mapAll() {
+        mapper.mapAll(sources, targets);
+        return targets;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TargetRecord> mapAllWithTargetSupplier() {
+        return mapper.mapAll(sources, TargetRecord::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TargetRecord> mapAllInParallel() {
+        parallelMapper.mapAll(sources, targets);
+        return targets;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.BinaryRecord;
+import com.theakashv22.util.easyobjectmapper.BinaryRecordLayout;
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures writing a {@link SourceRecord} into a binary record in a direct {@link ByteBuffer}, either by mapping it
+ * into a new {@link TargetRecord} and serializing that, or by mapping it straight into a {@link BinaryRecord}. Run
+ * with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinaryRecordBenchmark {
+    private static final int STRING_LENGTH = 16;
+    private static final BinaryRecordLayout LAYOUT = BinaryRecordLayout.builder()
+            .addString("quantity", STRING_LENGTH)
+            .addDouble("price")
+            .addString("name", STRING_LENGTH)
+            .addString("tag", STRING_LENGTH)
+            .addInt("code")
+            .addString("label", STRING_LENGTH)
+            .build();
+
+    private SourceRecord source;
+    private EasyObjectMapper<SourceRecord, TargetRecord> objectMapper;
+    private Mapper<SourceRecord, BinaryRecord> binaryMapper;
+    private BinaryRecord record;
+
+    @Setup
+    public void setUp() {
+        source = SourceRecord.create();
+        objectMapper = RecordMappers.recordMapper();
+        binaryMapper = new EasyObjectMapper<>(
+                LAYOUT.stringMapper("quantity", sourceRecord -> String.valueOf(sourceRecord.getQuantity())),
+                LAYOUT.doubleMapper("price", SourceRecord::getPrice),
+                LAYOUT.stringMapper("name", SourceRecord::getName),
+                LAYOUT.stringMapper("tag", SourceRecord::getTag),
+                LAYOUT.intMapper("code", sourceRecord -> sourceRecord.getInner().getCode()),
+                LAYOUT.stringMapper("label", sourceRecord -> sourceRecord.getInner().getLabel())
+        );
+        record = new BinaryRecord(LAYOUT).wrap(ByteBuffer.allocateDirect(LAYOUT.getSize()), 0);
+    }
+
+    @Benchmark
+    public BinaryRecord mapIntoObjectAndSerialize() {
+        TargetRecord target = new TargetRecord();
+        objectMapper.map(source, target);
+        record.putString(LAYOUT.getOffset("quantity"), STRING_LENGTH, target.getQuantity());
+        record.putDouble(LAYOUT.getOffset("price"), target.getPrice());
+        record.putString(LAYOUT.getOffset("name"), STRING_LENGTH, target.getName());
+        record.putString(LAYOUT.getOffset("tag"), STRING_LENGTH, target.getTags().get(0));
+        record.putInt(LAYOUT.getOffset("code"), target.getInner().getCode());
+        record.putString(LAYOUT.getOffset("label"), STRING_LENGTH, target.getInner().getLabel());
+        return record;
+    }
+
+    @Benchmark
+    public BinaryRecord mapIntoBinaryRecord() {
+        binaryMapper.map(source, record);
+        return record;
+    }
+}
\ No newline at end of file
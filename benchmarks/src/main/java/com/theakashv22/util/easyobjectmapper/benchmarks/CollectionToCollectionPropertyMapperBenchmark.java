@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.AddSingleToCollectionPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.CollectionToCollectionPropertyMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a list of {@link InnerRecord}s into a new list of {@link TargetRecord}s by looping over an
+ * {@link AddSingleToCollectionPropertyMapper} with a single {@link CollectionToCollectionPropertyMapper}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionToCollectionPropertyMapperBenchmark {
+    @Param({"10", "1000"})
+    private int size;
+
+    private List<InnerRecord> source;
+    private AddSingleToCollectionPropertyMapper<InnerRecord, InnerRecord, List<String>, String> elementMapper;
+    private CollectionToCollectionPropertyMapper<List<InnerRecord>, InnerRecord, List<String>, String> listMapper;
+
+    @Setup
+    public void setUp() {
+        source = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            source.add(new InnerRecord(i, "label" + i));
+        }
+        elementMapper = new AddSingleToCollectionPropertyMapper<InnerRecord, InnerRecord, List<String>, String>() {
+            @Override
+            protected InnerRecord getPropertyFromSource(InnerRecord source) {
+                return source;
+            }
+
+            @Override
+            protected Collection<String> getPropertyFromTarget(List<String> target) {
+                return target;
+            }
+
+            @Override
+            protected String convert(InnerRecord sourceProperty) {
+                return sourceProperty.getLabel();
+            }
+        };
+        listMapper = new CollectionToCollectionPropertyMapper<List<InnerRecord>, InnerRecord, List<String>, String>() {
+            @Override
+            protected Collection<InnerRecord> getPropertyFromSource(List<InnerRecord> source) {
+                return source;
+            }
+
+            @Override
+            protected Collection<String> getPropertyFromTarget(List<String> target) {
+                return target;
+            }
+
+            @Override
+            protected String convert(InnerRecord sourceProperty) {
+                return sourceProperty.getLabel();
+            }
+        };
+    }
+
+    @Benchmark
+    public List<String> mapEachElement() {
+        List<String> target = new ArrayList<>();
+        for (InnerRecord element : source) {
+            elementMapper.map(element, target);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public List<String> mapCollection() {
+        List<String> target = new ArrayList<>();
+        listMapper.map(source, target);
+        return target;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.ConstructingMapper;
+import com.theakashv22.util.easyobjectmapper.ConstructorArguments;
+import com.theakashv22.util.easyobjectmapper.DoublePropertyMapper;
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.IntPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.SimplePropertyMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures constructing an immutable {@link Order} by mapping into a mutable {@link ShadowOrder} and copying that,
+ * against constructing it from {@link ConstructorArguments} through a {@link ConstructingMapper}. Run with
+ * {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructingMapperBenchmark {
+    private static final int NAME = 0;
+    private static final int QUANTITY = 1;
+    private static final int PRICE = 2;
+
+    private ShadowOrder source;
+    private EasyObjectMapper<ShadowOrder, ShadowOrder> shadowMapper;
+    private ConstructingMapper<ShadowOrder, Order> constructingMapper;
+
+    @Setup
+    public void setUp() {
+        source = new ShadowOrder();
+        source.name = "order";
+        source.quantity = 3;
+        source.price = 9.99;
+        shadowMapper = new EasyObjectMapper<>(
+                new SimplePropertyMapper<ShadowOrder, ShadowOrder, String>() {
+                    @Override
+                    protected String getPropertyFromSource(ShadowOrder source) {
+                        return source.name;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ShadowOrder target, String targetProperty) {
+                        target.name = targetProperty;
+                    }
+                },
+                new IntPropertyMapper<ShadowOrder, ShadowOrder>() {
+                    @Override
+                    protected int getPropertyFromSource(ShadowOrder source) {
+                        return source.quantity;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ShadowOrder target, int targetProperty) {
+                        target.quantity = targetProperty;
+                    }
+                },
+                new DoublePropertyMapper<ShadowOrder, ShadowOrder>() {
+                    @Override
+                    protected double getPropertyFromSource(ShadowOrder source) {
+                        return source.price;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ShadowOrder target, double targetProperty) {
+                        target.price = targetProperty;
+                    }
+                }
+        );
+        constructingMapper = new ConstructingMapper<>(
+                3,
+                arguments -> new Order(
+                        arguments.get(NAME),
+                        arguments.getInt(QUANTITY),
+                        arguments.getDouble(PRICE)
+                ),
+                new SimplePropertyMapper<ShadowOrder, ConstructorArguments, String>() {
+                    @Override
+                    protected String getPropertyFromSource(ShadowOrder source) {
+                        return source.name;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, String targetProperty) {
+                        target.set(NAME, targetProperty);
+                    }
+                },
+                new IntPropertyMapper<ShadowOrder, ConstructorArguments>() {
+                    @Override
+                    protected int getPropertyFromSource(ShadowOrder source) {
+                        return source.quantity;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, int targetProperty) {
+                        target.setInt(QUANTITY, targetProperty);
+                    }
+                },
+                new DoublePropertyMapper<ShadowOrder, ConstructorArguments>() {
+                    @Override
+                    protected double getPropertyFromSource(ShadowOrder source) {
+                        return source.price;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, double targetProperty) {
+                        target.setDouble(PRICE, targetProperty);
+                    }
+                }
+        );
+    }
+
+    @Benchmark
+    public Order mapIntoShadowAndCopy() {
+        ShadowOrder shadow = new ShadowOrder();
+        shadowMapper.map(source, shadow);
+        return new Order(shadow.name, shadow.quantity, shadow.price);
+    }
+
+    @Benchmark
+    public Order construct() {
+        return constructingMapper.apply(source);
+    }
+
+    public static final class ShadowOrder {
+        private String name;
+        private int quantity;
+        private double price;
+    }
+
+    public static final class Order {
+        private final String name;
+        private final int quantity;
+        private final double price;
+
+        public Order(String name, int quantity, double price) {
+            this.name = name;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.ConversionCache;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing dates from a small set of repeating strings directly with parsing them through a
+ * {@link ConversionCache}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionCacheBenchmark {
+    private static final int DISTINCT_DATE_COUNT = 64;
+
+    private String[] dates;
+    private ConversionCache<String, LocalDate> cache;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        dates = new String[DISTINCT_DATE_COUNT];
+        for (int i = 0; i < DISTINCT_DATE_COUNT; i++) {
+            dates[i] = LocalDate.of(2018, 1, 1).plusDays(i).toString();
+        }
+        cache = new ConversionCache<>(DISTINCT_DATE_COUNT, LocalDate::parse);
+    }
+
+    @Benchmark
+    public LocalDate parse() {
+        return LocalDate.parse(nextDate());
+    }
+
+    @Benchmark
+    public LocalDate parseCached() {
+        return cache.convert(nextDate());
+    }
+
+    private String nextDate() {
+        index = (index + 1) & (DISTINCT_DATE_COUNT - 1);
+        return dates[index];
+    }
+}
\ No newline at end of file
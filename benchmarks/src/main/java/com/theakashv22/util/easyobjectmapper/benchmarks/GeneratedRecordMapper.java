@@ -0,0 +1,31 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.GenerateMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+
+/**
+ * A mapper implemented by the annotation processor, mapping the same setter properties as
+ * {@link GeneratedMapperBenchmark}'s equivalent {@link com.theakashv22.util.easyobjectmapper.EasyObjectMapper}.
+ */
+@GenerateMapper
+public interface GeneratedRecordMapper extends Mapper<SourceRecord, TargetRecord> {
+    default String convertQuantity(Integer quantity) {
+        return String.valueOf(quantity);
+    }
+}
\ No newline at end of file
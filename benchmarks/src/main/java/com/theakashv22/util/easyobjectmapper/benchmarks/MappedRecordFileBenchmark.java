@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.BinaryRecord;
+import com.theakashv22.util.easyobjectmapper.BinaryRecordLayout;
+import com.theakashv22.util.easyobjectmapper.DoublePropertyMapper;
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.IntPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.LongPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.MappedRecordFile;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures ingesting a file of {@value #RECORD_COUNT} fixed-size records, either by deserializing each record into a
+ * new object and mapping that, or by mapping each record in place through a {@link MappedRecordFile}. Run with
+ * {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedRecordFileBenchmark {
+    private static final int RECORD_COUNT = 100_000;
+    private static final BinaryRecordLayout LAYOUT = BinaryRecordLayout.builder()
+            .addInt("quantity")
+            .addDouble("price")
+            .addLong("id")
+            .build();
+    private static final int QUANTITY = LAYOUT.getOffset("quantity");
+    private static final int PRICE = LAYOUT.getOffset("price");
+    private static final int ID = LAYOUT.getOffset("id");
+
+    private Path path;
+    private MappedRecordFile file;
+    private Mapper<BinaryRecord, Row> recordMapper;
+    private Mapper<Row, Row> rowMapper;
+    private Row target;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempFile(getClass().getSimpleName(), ".bin");
+        ByteBuffer buffer = ByteBuffer.allocate(LAYOUT.getSize() * RECORD_COUNT).order(ByteOrder.nativeOrder());
+        BinaryRecord record = new BinaryRecord(LAYOUT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            record.wrap(buffer, i * LAYOUT.getSize());
+            record.putInt(QUANTITY, i);
+            record.putDouble(PRICE, i / 4.0);
+            record.putLong(ID, i * 31L);
+        }
+        Files.write(path, buffer.array());
+        file = MappedRecordFile.open(path, LAYOUT, ByteOrder.nativeOrder(), Integer.MAX_VALUE);
+
+        recordMapper = new EasyObjectMapper<>(
+                new IntPropertyMapper<BinaryRecord, Row>() {
+                    @Override
+                    protected int getPropertyFromSource(BinaryRecord source) {
+                        return source.getInt(QUANTITY);
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, int targetProperty) {
+                        target.quantity = targetProperty;
+                    }
+                },
+                new DoublePropertyMapper<BinaryRecord, Row>() {
+                    @Override
+                    protected double getPropertyFromSource(BinaryRecord source) {
+                        return source.getDouble(PRICE);
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, double targetProperty) {
+                        target.price = targetProperty;
+                    }
+                },
+                new LongPropertyMapper<BinaryRecord, Row>() {
+                    @Override
+                    protected long getPropertyFromSource(BinaryRecord source) {
+                        return source.getLong(ID);
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, long targetProperty) {
+                        target.id = targetProperty;
+                    }
+                }
+        );
+        rowMapper = new EasyObjectMapper<>(
+                new IntPropertyMapper<Row, Row>() {
+                    @Override
+                    protected int getPropertyFromSource(Row source) {
+                        return source.quantity;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, int targetProperty) {
+                        target.quantity = targetProperty;
+                    }
+                },
+                new DoublePropertyMapper<Row, Row>() {
+                    @Override
+                    protected double getPropertyFromSource(Row source) {
+                        return source.price;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, double targetProperty) {
+                        target.price = targetProperty;
+                    }
+                },
+                new LongPropertyMapper<Row, Row>() {
+                    @Override
+                    protected long getPropertyFromSource(Row source) {
+                        return source.id;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Row target, long targetProperty) {
+                        target.id = targetProperty;
+                    }
+                }
+        );
+        target = new Row();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        file.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public void deserializeAndMap(Blackhole blackhole) throws IOException {
+        file.forEach(
+                (BinaryRecord source, Row deserialized) -> {
+                    Row row = new Row();
+                    row.quantity = source.getInt(QUANTITY);
+                    row.price = source.getDouble(PRICE);
+                    row.id = source.getLong(ID);
+                    rowMapper.map(row, deserialized);
+                },
+                target,
+                blackhole::consume
+        );
+    }
+
+    @Benchmark
+    public void mapInPlace(Blackhole blackhole) throws IOException {
+        file.forEach(recordMapper, target, blackhole::consume);
+    }
+
+    public static class Row {
+        int quantity;
+        double price;
+        long id;
+    }
+}
\ No newline at end of file
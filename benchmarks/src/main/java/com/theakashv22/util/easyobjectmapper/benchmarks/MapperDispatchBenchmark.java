@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapperBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares an {@link EasyObjectMapper} whose inner mappers are each their own anonymous class with one built by an
+ * {@link EasyObjectMapperBuilder}, whose inner mappers share a small set of final classes.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapperDispatchBenchmark {
+    private SourceRecord source;
+    private TargetRecord target;
+    private EasyObjectMapper<SourceRecord, TargetRecord> anonymousClassMapper;
+    private EasyObjectMapper<SourceRecord, TargetRecord> builtMapper;
+
+    @Setup
+    public void setUp() {
+        source = SourceRecord.create();
+        target = new TargetRecord();
+        anonymousClassMapper = RecordMappers.recordMapper();
+        builtMapper = RecordMappers.builtRecordMapper();
+    }
+
+    @Benchmark
+    public TargetRecord mapAnonymousClasses() {
+        anonymousClassMapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public TargetRecord mapBuilt() {
+        builtMapper.map(source, target);
+        return target;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.MappingPatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures fanning a change to one property of a {@link SourceRecord} out to {@code targetCount} cached
+ * {@link TargetRecord}s, either by mapping the new {@link SourceRecord} into each of them or by computing a
+ * {@link MappingPatch} once and applying it to each of them.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingPatchBenchmark {
+    @Param({"1", "100"})
+    private int targetCount;
+
+    private SourceRecord oldSource;
+    private SourceRecord newSource;
+    private List<TargetRecord> targets;
+    private EasyObjectMapper<SourceRecord, TargetRecord> mapper;
+
+    @Setup
+    public void setUp() {
+        oldSource = SourceRecord.create();
+        newSource = new SourceRecord(1000, 13.5, "name", "tag", oldSource.getInner());
+        mapper = RecordMappers.recordMapper();
+        targets = new ArrayList<>(targetCount);
+        for (int i = 0; i < targetCount; i++) {
+            TargetRecord target = new TargetRecord();
+            mapper.map(oldSource, target);
+            targets.add(target);
+        }
+    }
+
+    @Benchmark
+    public List<TargetRecord> mapIntoEachTarget() {
+        SourceRecord source = swapSources();
+        for (TargetRecord target : targets) {
+            mapper.map(source, target);
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public List<TargetRecord> diffAndApplyPatch() {
+        MappingPatch<TargetRecord> patch = MappingPatch.diff(mapper, oldSource, swapSources());
+        patch.applyToAll(targets);
+        return targets;
+    }
+
+    private SourceRecord swapSources() {
+        SourceRecord source = newSource;
+        newSource = oldSource;
+        oldSource = source;
+        return source;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares trees of {@link EasyObjectMapper}s nested {@code depth} levels deep, which are flattened into a single
+ * level when constructed, with the same trees built from {@link UnflattenedMapper}s, which walk every level of nesting
+ * on each call like {@link EasyObjectMapper} used to.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestedEasyObjectMapperBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int depth;
+
+    private SourceRecord source;
+    private TargetRecord target;
+    private Mapper<SourceRecord, TargetRecord> flattenedMapper;
+    private Mapper<SourceRecord, TargetRecord> unflattenedMapper;
+
+    @Setup
+    public void setUp() {
+        source = SourceRecord.create();
+        target = new TargetRecord();
+
+        flattenedMapper = RecordMappers.priceMapper();
+        unflattenedMapper = RecordMappers.priceMapper();
+        for (int i = 0; i < depth; i++) {
+            flattenedMapper = new EasyObjectMapper<>(flattenedMapper, RecordMappers.nameMapper());
+            unflattenedMapper = new UnflattenedMapper<>(Arrays.asList(unflattenedMapper, RecordMappers.nameMapper()));
+        }
+    }
+
+    @Benchmark
+    public TargetRecord mapFlattened() {
+        flattenedMapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public TargetRecord mapUnflattened() {
+        unflattenedMapper.map(source, target);
+        return target;
+    }
+
+    /**
+     * Maps using a {@link Collection} of inner mappers, without flattening them.
+     */
+    private static class UnflattenedMapper<S, T> implements Mapper<S, T> {
+        private final Collection<? extends Mapper<S, T>> innerMappers;
+
+        private UnflattenedMapper(Collection<? extends Mapper<S, T>> innerMappers) {
+            this.innerMappers = innerMappers;
+        }
+
+        @Override
+        public void map(S source, T target) {
+            for (Mapper<S, T> mapper : innerMappers) {
+                mapper.map(source, target);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.IndependentMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import com.theakashv22.util.easyobjectmapper.ParallelEasyObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the latency of mapping a single object whose properties are expensive to convert with a
+ * {@link ParallelEasyObjectMapper}, against mapping it with an {@link EasyObjectMapper} that converts them one after
+ * another, and of mapping a batch of such objects with a {@link ParallelEasyObjectMapper} one object at a time against
+ * mapping it with {@link ParallelEasyObjectMapper#mapAll(List, List)}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelEasyObjectMapperBenchmark {
+    private static final int PROPERTY_COUNT = 4;
+    private static final int BATCH_SIZE = 64;
+
+    @Param({"100", "10000"})
+    private long convertTokens;
+
+    private long[] source;
+    private long[] target;
+    private List<long[]> sources;
+    private List<long[]> targets;
+    private ExecutorService executor;
+    private EasyObjectMapper<long[], long[]> sequentialMapper;
+    private ParallelEasyObjectMapper<long[], long[]> parallelMapper;
+
+    @Setup
+    public void setUp() {
+        source = new long[PROPERTY_COUNT];
+        target = new long[PROPERTY_COUNT];
+        sources = new ArrayList<>(BATCH_SIZE);
+        targets = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sources.add(new long[PROPERTY_COUNT]);
+            targets.add(new long[PROPERTY_COUNT]);
+        }
+        executor = Executors.newFixedThreadPool(PROPERTY_COUNT - 1);
+        List<IndependentMapper<long[], long[]>> innerMappers = new ArrayList<>(PROPERTY_COUNT);
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            innerMappers.add(IndependentMapper.of(expensiveMapper(i), convertTokens, "property" + i));
+        }
+        sequentialMapper = new EasyObjectMapper<>(innerMappers);
+        parallelMapper = new ParallelEasyObjectMapper<>(executor, 1000, innerMappers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Mapper<long[], long[]> expensiveMapper(int index) {
+        return (source, target) -> {
+            Blackhole.consumeCPU(convertTokens);
+            target[index] = source[index] + 1;
+        };
+    }
+
+    @Benchmark
+    public long[] mapSequentially() {
+        sequentialMapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public long[] mapInParallel() {
+        parallelMapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public List<long[]> mapBatchInParallelOneAtATime() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            parallelMapper.map(sources.get(i), targets.get(i));
+        }
+        return targets;
+    }
+
+    @Benchmark
+    public List<long[]> mapBatchInParallel() {
+        parallelMapper.mapAll(sources, targets);
+        return targets;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.LongToDoublePropertyMapper;
+import com.theakashv22.util.easyobjectmapper.SourceToTargetPropertyMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares mapping a {@code long} property to a {@code double} property through the generic
+ * {@link SourceToTargetPropertyMapper}, which boxes both, with {@link LongToDoublePropertyMapper}, which boxes neither.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitivePropertyMapperBenchmark {
+    private Reading source;
+    private Reading target;
+    private SourceToTargetPropertyMapper<Reading, Long, Reading, Double> boxedMapper;
+    private LongToDoublePropertyMapper<Reading, Reading> primitiveMapper;
+
+    @Setup
+    public void setUp() {
+        source = new Reading();
+        target = new Reading();
+        boxedMapper = new SourceToTargetPropertyMapper<Reading, Long, Reading, Double>() {
+            @Override
+            protected Long getPropertyFromSource(Reading source) {
+                return source.nextMicros();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Reading target, Double targetProperty) {
+                target.setSeconds(targetProperty);
+            }
+
+            @Override
+            protected Double convert(Long sourceProperty) {
+                return sourceProperty / 1_000_000.0;
+            }
+        };
+        primitiveMapper = new LongToDoublePropertyMapper<Reading, Reading>() {
+            @Override
+            protected long getPropertyFromSource(Reading source) {
+                return source.nextMicros();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Reading target, double targetProperty) {
+                target.setSeconds(targetProperty);
+            }
+
+            @Override
+            protected double convert(long sourceProperty) {
+                return sourceProperty / 1_000_000.0;
+            }
+        };
+    }
+
+    @Benchmark
+    public Reading mapBoxed() {
+        boxedMapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public Reading mapPrimitive() {
+        primitiveMapper.map(source, target);
+        return target;
+    }
+
+    public static class Reading {
+        private long micros = 1_000_000_000L;
+        private double seconds;
+
+        public long nextMicros() {
+            return micros++;
+        }
+
+        public void setSeconds(double seconds) {
+            this.seconds = seconds;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.AddSingleToCollectionPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import com.theakashv22.util.easyobjectmapper.SimpleObjectPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.SimplePropertyMapper;
+import com.theakashv22.util.easyobjectmapper.SourceToTargetObjectPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.SourceToTargetPropertyMapper;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Creates the mappers exercised by the benchmarks, written the way users of the library write them.
+ */
+public final class RecordMappers {
+    private RecordMappers() {}
+
+    public static SourceToTargetPropertyMapper<SourceRecord, Integer, TargetRecord, String> quantityMapper() {
+        return new SourceToTargetPropertyMapper<SourceRecord, Integer, TargetRecord, String>() {
+            @Override
+            protected Integer getPropertyFromSource(SourceRecord source) {
+                return source.getQuantity();
+            }
+
+            @Override
+            protected void setPropertyToTarget(TargetRecord target, String targetProperty) {
+                target.setQuantity(targetProperty);
+            }
+
+            @Override
+            protected String convert(Integer sourceProperty) {
+                return String.valueOf(sourceProperty);
+            }
+        };
+    }
+
+    public static SimplePropertyMapper<SourceRecord, TargetRecord, Double> priceMapper() {
+        return new SimplePropertyMapper<SourceRecord, TargetRecord, Double>() {
+            @Override
+            protected Double getPropertyFromSource(SourceRecord source) {
+                return source.getPrice();
+            }
+
+            @Override
+            protected void setPropertyToTarget(TargetRecord target, Double targetProperty) {
+                target.setPrice(targetProperty);
+            }
+        };
+    }
+
+    public static SimplePropertyMapper<SourceRecord, TargetRecord, String> nameMapper() {
+        return new SimplePropertyMapper<SourceRecord, TargetRecord, String>() {
+            @Override
+            protected String getPropertyFromSource(SourceRecord source) {
+                return source.getName();
+            }
+
+            @Override
+            protected void setPropertyToTarget(TargetRecord target, String targetProperty) {
+                target.setName(targetProperty);
+            }
+        };
+    }
+
+    public static AddSingleToCollectionPropertyMapper<SourceRecord, String, TargetRecord, String> tagMapper(
+            boolean clearCollectionUponAdding
+    ) {
+        return new AddSingleToCollectionPropertyMapper<SourceRecord, String, TargetRecord, String>(
+                clearCollectionUponAdding
+        ) {
+            @Override
+            protected String getPropertyFromSource(SourceRecord source) {
+                return source.getTag();
+            }
+
+            @Override
+            protected Collection<String> getPropertyFromTarget(TargetRecord target) {
+                return target.getTags();
+            }
+
+            @Override
+            protected String convert(String sourceProperty) {
+                return sourceProperty;
+            }
+        };
+    }
+
+    public static SimpleObjectPropertyMapper<SourceRecord, TargetRecord, InnerRecord> innerMapper() {
+        return new SimpleObjectPropertyMapper<SourceRecord, TargetRecord, InnerRecord>(
+                new SimplePropertyMapper<InnerRecord, InnerRecord, Integer>() {
+                    @Override
+                    protected Integer getPropertyFromSource(InnerRecord source) {
+                        return source.getCode();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(InnerRecord target, Integer targetProperty) {
+                        target.setCode(targetProperty);
+                    }
+                },
+                new SimplePropertyMapper<InnerRecord, InnerRecord, String>() {
+                    @Override
+                    protected String getPropertyFromSource(InnerRecord source) {
+                        return source.getLabel();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(InnerRecord target, String targetProperty) {
+                        target.setLabel(targetProperty);
+                    }
+                }
+        ) {
+            @Override
+            protected InnerRecord getPropertyFromSource(SourceRecord source) {
+                return source.getInner();
+            }
+
+            @Override
+            protected InnerRecord getPropertyFromTarget(TargetRecord target) {
+                return target.getInner();
+            }
+        };
+    }
+
+    public static EasyObjectMapper<SourceRecord, TargetRecord> recordMapper() {
+        return new EasyObjectMapper<>(
+                quantityMapper(),
+                priceMapper(),
+                nameMapper(),
+                tagMapper(true),
+                innerMapper()
+        );
+    }
+
+    /**
+     * Builds a mapper doing the same work as {@link #recordMapper()} with an
+     * {@link com.theakashv22.util.easyobjectmapper.EasyObjectMapperBuilder}.
+     * @return the built mapper
+     */
+    public static EasyObjectMapper<SourceRecord, TargetRecord> builtRecordMapper() {
+        return EasyObjectMapper.builder(SourceRecord.class, TargetRecord.class)
+                .map(SourceRecord::getQuantity, String::valueOf, TargetRecord::setQuantity)
+                .map(SourceRecord::getPrice, TargetRecord::setPrice)
+                .map(SourceRecord::getName, TargetRecord::setName)
+                .addToCollection(SourceRecord::getTag, tag -> tag, TargetRecord::getTags, true)
+                .nested(
+                        SourceRecord::getInner,
+                        TargetRecord::getInner,
+                        EasyObjectMapper.builder(InnerRecord.class, InnerRecord.class)
+                                .map(InnerRecord::getCode, InnerRecord::setCode)
+                                .map(InnerRecord::getLabel, InnerRecord::setLabel)
+                                .build()
+                )
+                .build();
+    }
+
+    /**
+     * Maps a {@link SourceRecord} to a {@link TargetRecord} by hand, doing the same work as {@link #recordMapper()}.
+     * @param source the record to map from
+     * @param target the record to map to
+     */
+    public static void mapRecordByHand(SourceRecord source, TargetRecord target) {
+        target.setQuantity(String.valueOf(source.getQuantity()));
+        target.setPrice(source.getPrice());
+        target.setName(source.getName());
+        target.getTags().clear();
+        target.getTags().add(source.getTag());
+        InnerRecord sourceInner = source.getInner();
+        InnerRecord targetInner = target.getInner();
+        targetInner.setCode(sourceInner.getCode());
+        targetInner.setLabel(sourceInner.getLabel());
+    }
+
+    /**
+     * Creates a mapper tree for {@link SourceNode} and {@link TargetNode} chains, where every level maps its value and
+     * descends into its child through a {@link SourceToTargetObjectPropertyMapper}.
+     * @param depth the number of nested {@link SourceToTargetObjectPropertyMapper} levels
+     * @param convertSourceToTargetProperty whether each level creates its child target node rather than mapping into
+     *                                      an existing one
+     * @return the root mapper of the tree
+     */
+    public static Mapper<SourceNode, TargetNode> nodeMapper(int depth, boolean convertSourceToTargetProperty) {
+        Mapper<SourceNode, TargetNode> mapper = nodeValueMapper();
+        for (int i = 0; i < depth; i++) {
+            mapper = new EasyObjectMapper<>(nodeValueMapper(), childMapper(convertSourceToTargetProperty, mapper));
+        }
+        return mapper;
+    }
+
+    /**
+     * Maps a {@link SourceNode} chain to a {@link TargetNode} chain by hand, doing the same work as
+     * {@link #nodeMapper(int, boolean)}.
+     * @param source the root node to map from
+     * @param target the root node to map to
+     * @param depth the number of child nodes to descend into
+     * @param convertSourceToTargetProperty whether to create each child target node rather than mapping into an
+     *                                      existing one
+     */
+    public static void mapNodeByHand(
+            SourceNode source,
+            TargetNode target,
+            int depth,
+            boolean convertSourceToTargetProperty
+    ) {
+        target.setValue(source.getValue());
+        for (int i = 0; i < depth; i++) {
+            source = source.getChild();
+            if (convertSourceToTargetProperty) {
+                TargetNode child = new TargetNode();
+                target.setChild(child);
+                target = child;
+            } else {
+                target = target.getChild();
+            }
+            target.setValue(source.getValue());
+        }
+    }
+
+    private static SimplePropertyMapper<SourceNode, TargetNode, Integer> nodeValueMapper() {
+        return new SimplePropertyMapper<SourceNode, TargetNode, Integer>() {
+            @Override
+            protected Integer getPropertyFromSource(SourceNode source) {
+                return source.getValue();
+            }
+
+            @Override
+            protected void setPropertyToTarget(TargetNode target, Integer targetProperty) {
+                target.setValue(targetProperty);
+            }
+        };
+    }
+
+    private static SourceToTargetObjectPropertyMapper<SourceNode, SourceNode, TargetNode, TargetNode> childMapper(
+            boolean convertSourceToTargetProperty,
+            Mapper<SourceNode, TargetNode> innerMapper
+    ) {
+        return new SourceToTargetObjectPropertyMapper<SourceNode, SourceNode, TargetNode, TargetNode>(
+                convertSourceToTargetProperty,
+                Collections.singletonList(innerMapper)
+        ) {
+            @Override
+            protected SourceNode getPropertyFromSource(SourceNode source) {
+                return source.getChild();
+            }
+
+            @Override
+            protected void setPropertyToTarget(TargetNode target, TargetNode targetProperty) {
+                target.setChild(targetProperty);
+            }
+
+            @Override
+            protected TargetNode convert(SourceNode sourceProperty) {
+                return new TargetNode();
+            }
+
+            @Override
+            protected TargetNode getPropertyFromTarget(TargetNode target) {
+                return target.getChild();
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+/**
+ * A linked {@code source} node used to build object trees of a given depth.
+ */
+public class SourceNode {
+    private final int value;
+    private final SourceNode child;
+
+    public SourceNode(int value, SourceNode child) {
+        this.value = value;
+        this.child = child;
+    }
+
+    /**
+     * Creates a chain of {@code depth + 1} nodes, so that a mapper tree of {@code depth} nested object property
+     * mappers has a node to descend into at every level.
+     * @param depth the number of child nodes below the root node
+     * @return the root node of the chain
+     */
+    public static SourceNode chain(int depth) {
+        SourceNode node = null;
+        for (int i = depth; i >= 0; i--) {
+            node = new SourceNode(i, node);
+        }
+        return node;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public SourceNode getChild() {
+        return child;
+    }
+}
\ No newline at end of file
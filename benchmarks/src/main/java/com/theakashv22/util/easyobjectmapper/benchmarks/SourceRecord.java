@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+/**
+ * The flat {@code source} record mapped by the benchmarks.
+ */
+public class SourceRecord {
+    private final Integer quantity;
+    private final Double price;
+    private final String name;
+    private final String tag;
+    private final InnerRecord inner;
+
+    public SourceRecord(Integer quantity, Double price, String name, String tag, InnerRecord inner) {
+        this.quantity = quantity;
+        this.price = price;
+        this.name = name;
+        this.tag = tag;
+        this.inner = inner;
+    }
+
+    public static SourceRecord create() {
+        return new SourceRecord(1000, 12.5, "name", "tag", new InnerRecord(7, "label"));
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public Double getPrice() {
+        return price;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public InnerRecord getInner() {
+        return inner;
+    }
+}
\ No newline at end of file
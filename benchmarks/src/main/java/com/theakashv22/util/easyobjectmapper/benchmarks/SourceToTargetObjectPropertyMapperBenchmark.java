@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import com.theakashv22.util.easyobjectmapper.SourceToTargetObjectPropertyMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures trees of nested {@link SourceToTargetObjectPropertyMapper}s of increasing {@code depth}, both when each
+ * level maps into an existing target object and when it converts the source object into a new one.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SourceToTargetObjectPropertyMapperBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int depth;
+
+    @Param({"false", "true"})
+    private boolean convertSourceToTargetProperty;
+
+    private SourceNode source;
+    private TargetNode target;
+    private Mapper<SourceNode, TargetNode> mapper;
+
+    @Setup
+    public void setUp() {
+        source = SourceNode.chain(depth);
+        target = TargetNode.chain(depth);
+        mapper = RecordMappers.nodeMapper(depth, convertSourceToTargetProperty);
+    }
+
+    @Benchmark
+    public TargetNode map() {
+        mapper.map(source, target);
+        return target;
+    }
+
+    @Benchmark
+    public TargetNode mapByHand() {
+        RecordMappers.mapNodeByHand(source, target, depth, convertSourceToTargetProperty);
+        return target;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+/**
+ * A linked {@code target} node used to build object trees of a given depth.
+ */
+public class TargetNode {
+    private int value;
+    private TargetNode child;
+
+    /**
+     * Creates a chain of {@code depth + 1} nodes, which is the shape a {@link SourceNode#chain(int)} chain of the same
+     * {@code depth} maps to.
+     * @param depth the number of child nodes below the root node
+     * @return the root node of the chain
+     */
+    public static TargetNode chain(int depth) {
+        TargetNode node = null;
+        for (int i = depth; i >= 0; i--) {
+            TargetNode parent = new TargetNode();
+            parent.setChild(node);
+            node = parent;
+        }
+        return node;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    public TargetNode getChild() {
+        return child;
+    }
+
+    public void setChild(TargetNode child) {
+        this.child = child;
+    }
+}
\ No newline at end of file
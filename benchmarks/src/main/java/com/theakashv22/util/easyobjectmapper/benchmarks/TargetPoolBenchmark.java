@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.TargetPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures mapping each {@link SourceRecord} into a {@link TargetRecord} borrowed from a {@link TargetPool}, against
+ * mapping it into a new {@link TargetRecord} each time. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetPoolBenchmark {
+    private SourceRecord source;
+    private EasyObjectMapper<SourceRecord, TargetRecord> mapper;
+    private TargetPool<TargetRecord> pool;
+    private Consumer<TargetRecord> action;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        source = SourceRecord.create();
+        mapper = RecordMappers.recordMapper();
+        // Every property is overwritten by the mapper, so there is nothing to reset.
+        pool = new TargetPool<>(TargetRecord::new, target -> { }, 16);
+        action = blackhole::consume;
+    }
+
+    @Benchmark
+    public void mapIntoNewTarget(Blackhole blackhole) {
+        TargetRecord target = new TargetRecord();
+        mapper.map(source, target);
+        blackhole.consume(target);
+    }
+
+    @Benchmark
+    public void mapIntoPooledTarget() {
+        mapper.mapPooled(source, pool, action);
+    }
+}
\ No newline at end of file
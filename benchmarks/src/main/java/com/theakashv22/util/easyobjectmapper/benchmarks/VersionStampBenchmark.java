@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.benchmarks;
+
+import com.theakashv22.util.easyobjectmapper.EasyObjectMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import com.theakashv22.util.easyobjectmapper.SourceToTargetObjectPropertyMapper;
+import com.theakashv22.util.easyobjectmapper.VersionStamped;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures re-mapping an aggregate of {@code childCount} children into the same target when only one child has
+ * changed, both when the children are {@link VersionStamped} and when they are not.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VersionStampBenchmark {
+    private static final long CONVERT_TOKENS = 50;
+
+    @Param({"16", "256"})
+    private int childCount;
+
+    @Param({"false", "true"})
+    private boolean versionStamped;
+
+    private Child[] source;
+    private long[] target;
+    private Mapper<Child[], long[]> mapper;
+    private int changedChild;
+
+    @Setup
+    public void setUp() {
+        source = new Child[childCount];
+        target = new long[childCount];
+        List<Mapper<Child[], long[]>> childMappers = new ArrayList<>(childCount);
+        for (int i = 0; i < childCount; i++) {
+            source[i] = versionStamped ? new VersionStampedChild(i) : new Child(i);
+            childMappers.add(createChildMapper(i, versionStamped));
+        }
+        mapper = new EasyObjectMapper<>(childMappers);
+        mapper.map(source, target);
+    }
+
+    private static Mapper<Child[], long[]> createChildMapper(int index, boolean skipUnchangedVersionStamps) {
+        return new SourceToTargetObjectPropertyMapper<Child[], Child, long[], long[]>(
+                false,
+                skipUnchangedVersionStamps,
+                (Child child, long[] target) -> {
+                    Blackhole.consumeCPU(CONVERT_TOKENS);
+                    target[index] = child.value;
+                }
+        ) {
+            @Override
+            protected Child getPropertyFromSource(Child[] source) {
+                return source[index];
+            }
+
+            @Override
+            protected long[] getPropertyFromTarget(long[] target) {
+                return target;
+            }
+        };
+    }
+
+    @Benchmark
+    public long[] remapWithOneChangedChild() {
+        source[changedChild].change();
+        changedChild = (changedChild + 1) % childCount;
+        mapper.map(source, target);
+        return target;
+    }
+
+    private static class Child {
+        long value;
+
+        private Child(long value) {
+            this.value = value;
+        }
+
+        void change() {
+            value++;
+        }
+    }
+
+    private static class VersionStampedChild extends Child implements VersionStamped {
+        private long version;
+
+        private VersionStampedChild(long value) {
+            super(value);
+        }
+
+        @Override
+        void change() {
+            super.change();
+            version++;
+        }
+
+        @Override
+        public long getVersionStamp() {
+            return version;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.processor;
+
+import com.theakashv22.util.easyobjectmapper.GenerateMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * This annotation processor generates an implementation of every interface annotated with {@link GenerateMapper}.
+ * <br><br>
+ * The generated class is a final class whose {@link Mapper#map(Object, Object)} implementation is a straight line of
+ * direct getter and setter calls, one for each property of the {@code target} type that has a setter and a matching
+ * getter in the {@code source} type. A value that cannot be passed to a setter as it is must be converted by a
+ * {@code default} method of the annotated interface taking the getter's type and returning a type the setter accepts.
+ */
+public class MapperProcessor extends AbstractProcessor {
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private MapperSourceWriter sourceWriter;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        messager = processingEnv.getMessager();
+        sourceWriter = new MapperSourceWriter(processingEnv.getFiler(), elements);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(GenerateMapper.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateMapper.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@GenerateMapper can only be applied to interfaces.");
+            } else {
+                processMapperInterface((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void processMapperInterface(TypeElement mapperInterface) {
+        DeclaredType mapperType = findMapperType(mapperInterface);
+        if (mapperType == null) {
+            error(mapperInterface, "@GenerateMapper interfaces must extend " + Mapper.class.getName() + ".");
+            return;
+        }
+
+        List<? extends TypeMirror> typeArguments = mapperType.getTypeArguments();
+        if (typeArguments.size() != 2
+                || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                || typeArguments.get(1).getKind() != TypeKind.DECLARED) {
+            error(mapperInterface, "@GenerateMapper interfaces must extend " + Mapper.class.getName()
+                    + " with concrete source and target types.");
+            return;
+        }
+        DeclaredType sourceType = (DeclaredType) typeArguments.get(0);
+        DeclaredType targetType = (DeclaredType) typeArguments.get(1);
+
+        DeclaredType mapperInterfaceType = (DeclaredType) mapperInterface.asType();
+        List<ExecutableElement> converters = findConverters(mapperInterface);
+        if (converters == null) {
+            return;
+        }
+
+        Set<String> ignoredProperties = new HashSet<>(
+                Arrays.asList(mapperInterface.getAnnotation(GenerateMapper.class).ignoredProperties())
+        );
+        Map<String, ExecutableElement> getters = findGetters(sourceType);
+        List<PropertyMapping> propertyMappings = new ArrayList<>();
+        boolean valid = true;
+
+        for (Map.Entry<String, ExecutableElement> setterEntry : findSetters(targetType).entrySet()) {
+            String propertyName = setterEntry.getKey();
+            if (ignoredProperties.contains(propertyName)) {
+                continue;
+            }
+
+            ExecutableElement setter = setterEntry.getValue();
+            ExecutableElement getter = getters.get(propertyName);
+            if (getter == null) {
+                warning(mapperInterface, "Target property \"" + propertyName + "\" of " + targetType
+                        + " has no matching getter in " + sourceType + " and will not be mapped. Add it to "
+                        + "ignoredProperties to silence this warning.");
+                continue;
+            }
+
+            TypeMirror getterType = getMethodType(sourceType, getter).getReturnType();
+            TypeMirror setterType = getMethodType(targetType, setter).getParameterTypes().get(0);
+            if (types.isAssignable(getterType, setterType)) {
+                propertyMappings.add(new PropertyMapping(getter, null, setter));
+                continue;
+            }
+
+            List<ExecutableElement> matchingConverters = converters.stream()
+                    .filter(converter -> {
+                        ExecutableType converterType = getMethodType(mapperInterfaceType, converter);
+                        return types.isAssignable(getterType, converterType.getParameterTypes().get(0))
+                                && types.isAssignable(converterType.getReturnType(), setterType);
+                    })
+                    .collect(Collectors.toList());
+            if (matchingConverters.size() == 1) {
+                propertyMappings.add(new PropertyMapping(getter, matchingConverters.get(0), setter));
+            } else {
+                valid = false;
+                error(mapperInterface, (matchingConverters.isEmpty() ? "No" : "More than one")
+                        + " default method converts " + getterType + " to " + setterType + " for property \""
+                        + propertyName + "\".");
+            }
+        }
+
+        if (valid) {
+            try {
+                sourceWriter.write(mapperInterface, sourceType, targetType, propertyMappings);
+            } catch (IOException e) {
+                error(mapperInterface, "Could not write mapper implementation: " + e.getMessage());
+            }
+        }
+    }
+
+    private DeclaredType findMapperType(TypeElement mapperInterface) {
+        TypeMirror mapperErasure = types.erasure(elements.getTypeElement(Mapper.class.getCanonicalName()).asType());
+        Deque<TypeMirror> supertypes = new ArrayDeque<>(types.directSupertypes(mapperInterface.asType()));
+        while (!supertypes.isEmpty()) {
+            TypeMirror supertype = supertypes.removeFirst();
+            if (types.isSameType(types.erasure(supertype), mapperErasure)) {
+                return (DeclaredType) supertype;
+            }
+            supertypes.addAll(types.directSupertypes(supertype));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the {@code default} methods of {@code mapperInterface} that can convert a value, reporting an error for
+     * any abstract method other than {@link Mapper#map(Object, Object)}.
+     * @param mapperInterface the annotated interface
+     * @return the converter methods, or {@code null} if {@code mapperInterface} cannot be implemented
+     */
+    private List<ExecutableElement> findConverters(TypeElement mapperInterface) {
+        List<ExecutableElement> converters = new ArrayList<>();
+        boolean valid = true;
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(mapperInterface))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.ABSTRACT)) {
+                if (!isMapMethod(method)) {
+                    valid = false;
+                    error(method, "Methods of @GenerateMapper interfaces other than map must be default methods.");
+                }
+            } else if (modifiers.contains(Modifier.DEFAULT)
+                    && method.getParameters().size() == 1
+                    && method.getReturnType().getKind() != TypeKind.VOID
+                    && !isDeclaredIn(method, Mapper.class)) {
+                converters.add(method);
+            }
+        }
+
+        return valid ? converters : null;
+    }
+
+    private boolean isMapMethod(ExecutableElement method) {
+        return method.getSimpleName().contentEquals("map") && isDeclaredIn(method, Mapper.class);
+    }
+
+    private Map<String, ExecutableElement> findGetters(DeclaredType sourceType) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        for (ExecutableElement method : findPublicInstanceMethods(sourceType)) {
+            String name = method.getSimpleName().toString();
+            TypeMirror returnType = method.getReturnType();
+            if (!method.getParameters().isEmpty() || returnType.getKind() == TypeKind.VOID
+                    || isDeclaredIn(method, Object.class)) {
+                continue;
+            }
+
+            if (name.startsWith("get") && name.length() > 3) {
+                getters.put(toPropertyName(name.substring(3)), method);
+            } else if (name.startsWith("is") && name.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+                getters.put(toPropertyName(name.substring(2)), method);
+            }
+        }
+        return getters;
+    }
+
+    private Map<String, ExecutableElement> findSetters(DeclaredType targetType) {
+        Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : findPublicInstanceMethods(targetType)) {
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                setters.put(toPropertyName(name.substring(3)), method);
+            }
+        }
+        return setters;
+    }
+
+    /**
+     * Returns the public instance methods of {@code type} and its superclasses, with those of superclasses first and
+     * each class's methods in declaration order, so that the generated code is the same on every compilation.
+     * Overridden methods are only returned once.
+     * @param type the type to find the methods of
+     * @return the methods found
+     */
+    private List<ExecutableElement> findPublicInstanceMethods(DeclaredType type) {
+        Deque<TypeElement> classes = new ArrayDeque<>();
+        for (TypeMirror current = type; current.getKind() == TypeKind.DECLARED;
+             current = ((TypeElement) types.asElement(current)).getSuperclass()) {
+            classes.addFirst((TypeElement) types.asElement(current));
+        }
+
+        TypeElement typeElement = (TypeElement) type.asElement();
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (TypeElement currentClass : classes) {
+            for (ExecutableElement method : ElementFilter.methodsIn(currentClass.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)
+                        && !isOverridden(method, typeElement)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private boolean isOverridden(ExecutableElement method, TypeElement typeElement) {
+        for (ExecutableElement other : ElementFilter.methodsIn(elements.getAllMembers(typeElement))) {
+            if (other != method && elements.overrides(other, method, typeElement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ExecutableType getMethodType(DeclaredType containingType, ExecutableElement method) {
+        return (ExecutableType) types.asMemberOf(containingType, method);
+    }
+
+    private boolean isDeclaredIn(ExecutableElement method, Class<?> type) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(type.getCanonicalName());
+    }
+
+    /**
+     * Converts the part of a getter or setter name after its prefix into a property name, following the JavaBeans
+     * convention of leaving names that start with two capital letters as they are.
+     * @param name the name without its prefix
+     * @return the property name
+     */
+    private static String toPropertyName(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warning(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+
+/**
+ * Writes the source code of a generated mapper class.
+ */
+final class MapperSourceWriter {
+    private final Filer filer;
+    private final Elements elements;
+
+    MapperSourceWriter(Filer filer, Elements elements) {
+        this.filer = filer;
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the simple name of the class generated for {@code mapperInterface}, which is the name of the interface,
+     * prefixed with the names of any classes it is nested in, followed by {@code Impl}.
+     * @param mapperInterface the annotated interface
+     * @return the simple name of the generated class
+     */
+    String getImplementationName(TypeElement mapperInterface) {
+        String packageName = elements.getPackageOf(mapperInterface).getQualifiedName().toString();
+        String qualifiedName = mapperInterface.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return nestedName.replace('.', '_') + "Impl";
+    }
+
+    /**
+     * Writes a final class implementing {@code mapperInterface}, whose {@code map} method performs each of the
+     * {@code propertyMappings} in order with direct method calls.
+     * @param mapperInterface the annotated interface
+     * @param sourceType the type of the {@code source} object
+     * @param targetType the type of the {@code target} object
+     * @param propertyMappings the property mappings to perform
+     * @throws IOException if the source file cannot be written
+     */
+    void write(
+            TypeElement mapperInterface,
+            DeclaredType sourceType,
+            DeclaredType targetType,
+            List<PropertyMapping> propertyMappings
+    ) throws IOException {
+        String packageName = elements.getPackageOf(mapperInterface).getQualifiedName().toString();
+        String implementationName = getImplementationName(mapperInterface);
+        String qualifiedImplementationName =
+                packageName.isEmpty() ? implementationName : packageName + "." + implementationName;
+
+        try (Writer writer = filer.createSourceFile(qualifiedImplementationName, mapperInterface).openWriter();
+             PrintWriter out = new PrintWriter(writer)) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Generated by {@code " + MapperProcessor.class.getName() + "} from {@link "
+                    + mapperInterface.getQualifiedName() + "}.");
+            out.println(" */");
+            out.println("public final class " + implementationName + " implements "
+                    + mapperInterface.getQualifiedName() + " {");
+            out.println("    @Override");
+            out.println("    public void map(" + sourceType + " source, " + targetType + " target) {");
+            for (PropertyMapping propertyMapping : propertyMappings) {
+                String value = "source." + propertyMapping.getGetter().getSimpleName() + "()";
+                if (propertyMapping.getConverter() != null) {
+                    value = propertyMapping.getConverter().getSimpleName() + "(" + value + ")";
+                }
+                out.println("        target." + propertyMapping.getSetter().getSimpleName() + "(" + value + ");");
+            }
+            out.println("    }");
+            out.println("}");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.processor;
+
+import javax.lang.model.element.ExecutableElement;
+
+/**
+ * The mapping of a single property that a generated mapper performs: the value returned by {@code getter} in the
+ * {@code source} object is passed to {@code setter} in the {@code target} object, after being passed through
+ * {@code converter} if there is one.
+ */
+final class PropertyMapping {
+    private final ExecutableElement getter;
+    private final ExecutableElement converter;
+    private final ExecutableElement setter;
+
+    PropertyMapping(ExecutableElement getter, ExecutableElement converter, ExecutableElement setter) {
+        this.getter = getter;
+        this.converter = converter;
+        this.setter = setter;
+    }
+
+    ExecutableElement getGetter() {
+        return getter;
+    }
+
+    /**
+     * Returns the {@code default} method of the annotated interface that converts the value, or {@code null} if the
+     * value is passed to the {@code setter} as it is.
+     * @return the converter method, if any
+     */
+    ExecutableElement getConverter() {
+        return converter;
+    }
+
+    ExecutableElement getSetter() {
+        return setter;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper.processor;
+
+import com.theakashv22.util.easyobjectmapper.GenerateMapper;
+import com.theakashv22.util.easyobjectmapper.Mapper;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapperProcessorTest {
+    @Test
+    public void testGeneratedMapper() {
+        Mapper<Source, Target> mapper = new MapperProcessorTest_SourceToTargetMapperImpl();
+        Source source = new Source("Team, unite up!", 10, true, "ignored");
+        Target target = new Target();
+
+        mapper.map(source, target);
+
+        assertEquals("Team, unite up!", target.getName());
+        assertEquals("10", target.getCount());
+        assertTrue(target.isActive());
+        assertNull(target.getComment());
+    }
+
+    @Test
+    public void testGeneratedMapperIsFinal() {
+        assertTrue(Modifier.isFinal(MapperProcessorTest_SourceToTargetMapperImpl.class.getModifiers()));
+    }
+
+    @Test
+    public void testGeneratedMapperSupportsBatchMapping() {
+        Mapper<Source, Target> mapper = new MapperProcessorTest_SourceToTargetMapperImpl();
+
+        List<Target> targets = mapper.mapAll(
+                Arrays.asList(new Source("a", 1, false, null), new Source("b", 2, true, null)),
+                Target::new
+        );
+
+        assertEquals(Arrays.asList("a", "b"), targets.stream().map(Target::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testMissingConverter() throws IOException {
+        List<String> errors = compile(
+                "BrokenMapper",
+                "import com.theakashv22.util.easyobjectmapper.GenerateMapper;\n"
+                        + "import com.theakashv22.util.easyobjectmapper.Mapper;\n"
+                        + "@GenerateMapper\n"
+                        + "interface BrokenMapper extends Mapper<BrokenMapper.S, BrokenMapper.T> {\n"
+                        + "    class S { public int getValue() { return 1; } }\n"
+                        + "    class T { public void setValue(String value) {} }\n"
+                        + "}\n"
+        );
+
+        assertEquals(
+                Collections.singletonList(
+                        "No default method converts int to java.lang.String for property \"value\"."
+                ),
+                errors
+        );
+    }
+
+    @Test
+    public void testAbstractMethodOtherThanMap() throws IOException {
+        List<String> errors = compile(
+                "BrokenMapper",
+                "import com.theakashv22.util.easyobjectmapper.GenerateMapper;\n"
+                        + "import com.theakashv22.util.easyobjectmapper.Mapper;\n"
+                        + "@GenerateMapper\n"
+                        + "interface BrokenMapper extends Mapper<String, StringBuilder> {\n"
+                        + "    String convert(Integer value);\n"
+                        + "}\n"
+        );
+
+        assertEquals(
+                Collections.singletonList(
+                        "Methods of @GenerateMapper interfaces other than map must be default methods."
+                ),
+                errors
+        );
+    }
+
+    @Test
+    public void testAnnotatedClass() throws IOException {
+        List<String> errors = compile(
+                "BrokenMapper",
+                "import com.theakashv22.util.easyobjectmapper.GenerateMapper;\n"
+                        + "@GenerateMapper\n"
+                        + "class BrokenMapper {}\n"
+        );
+
+        assertEquals(Collections.singletonList("@GenerateMapper can only be applied to interfaces."), errors);
+    }
+
+    @Test
+    public void testValidInterfaceCompiles() throws IOException {
+        assertTrue(compile(
+                "ValidMapper",
+                "import com.theakashv22.util.easyobjectmapper.GenerateMapper;\n"
+                        + "import com.theakashv22.util.easyobjectmapper.Mapper;\n"
+                        + "@GenerateMapper\n"
+                        + "interface ValidMapper extends Mapper<ValidMapper.S, ValidMapper.T> {\n"
+                        + "    class S { public int getValue() { return 1; } }\n"
+                        + "    class T { public void setValue(long value) {} }\n"
+                        + "}\n"
+        ).isEmpty());
+    }
+
+    /**
+     * Compiles the source of the top-level class named {@code className} with the {@link MapperProcessor}, and returns
+     * the error messages reported.
+     */
+    private List<String> compile(String className, String source) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path outputDirectory = Files.createTempDirectory("mapper-processor-test");
+        JavaFileObject sourceFile = new SimpleJavaFileObject(
+                URI.create("string:///" + className + ".java"),
+                JavaFileObject.Kind.SOURCE
+        ) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        String classpath = Paths.get(URI.create(
+                Mapper.class.getProtectionDomain().getCodeSource().getLocation().toString()
+        )).toString();
+
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                null,
+                diagnostics,
+                Arrays.asList("-classpath", classpath, "-d", outputDirectory.toString(), "-s",
+                        outputDirectory.toString()),
+                null,
+                Collections.singletonList(sourceFile)
+        );
+        task.setProcessors(Collections.singletonList(new MapperProcessor()));
+        task.call();
+
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    @GenerateMapper(ignoredProperties = "comment")
+    interface SourceToTargetMapper extends Mapper<Source, Target> {
+        default String convertCount(Integer count) {
+            return String.valueOf(count);
+        }
+    }
+
+    public static class Source {
+        private final String name;
+        private final Integer count;
+        private final boolean active;
+        private final String comment;
+
+        public Source(String name, Integer count, boolean active, String comment) {
+            this.name = name;
+            this.count = count;
+            this.active = active;
+            this.comment = comment;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+    }
+
+    public static class Target {
+        private String name;
+        private String count;
+        private boolean active;
+        private String comment;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCount() {
+            return count;
+        }
+
+        public void setCount(String count) {
+            this.count = count;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public void setComment(String comment) {
+            this.comment = comment;
+        }
+    }
+}
\ No newline at end of file
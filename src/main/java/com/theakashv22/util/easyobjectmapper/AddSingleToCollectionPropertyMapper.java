@@ -29,6 +29,7 @@ import java.util.Collection;
  */
 public abstract class AddSingleToCollectionPropertyMapper<S, SP, T, TP> implements Mapper<S, T> {
     private final boolean clearCollectionUponAdding;
+    private final PropertyEquivalence<? super TP> propertyEquivalence;
 
     /**
      * No-arg constructor of {@link AddSingleToCollectionPropertyMapper}. This calls
@@ -44,7 +45,25 @@ public abstract class AddSingleToCollectionPropertyMapper<S, SP, T, TP> implemen
      * @param clearCollectionUponAdding if {@code true}, the {@link Collection} property is cleared when adding to it.
      */
     public AddSingleToCollectionPropertyMapper(boolean clearCollectionUponAdding) {
+        this(clearCollectionUponAdding, null);
+    }
+
+    /**
+     * Constructor of {@link AddSingleToCollectionPropertyMapper} that skips modifying the {@link Collection} property
+     * when it already holds a property equivalent to the one being added.<br><br>
+     * If {@code clearCollectionUponAdding} is set to {@code true}, the {@link Collection} property is left as it is
+     * when its only element is equivalent to the property being added, otherwise, it is left as it is when any of its
+     * elements is.
+     * @param clearCollectionUponAdding if {@code true}, the {@link Collection} property is cleared when adding to it.
+     * @param propertyEquivalence decides whether an element of the {@link Collection} property is equivalent to the
+     *                            property being added, or {@code null} to always add the property
+     */
+    public AddSingleToCollectionPropertyMapper(
+            boolean clearCollectionUponAdding,
+            PropertyEquivalence<? super TP> propertyEquivalence
+    ) {
         this.clearCollectionUponAdding = clearCollectionUponAdding;
+        this.propertyEquivalence = propertyEquivalence;
     }
 
     /**
@@ -52,7 +71,8 @@ public abstract class AddSingleToCollectionPropertyMapper<S, SP, T, TP> implemen
      * by {@link #getPropertyFromTarget(Object)}.<br><br>
      * Any type conversion is done by {@link #convert(Object)}, and the {@link Collection} property is cleared before
      * the converted property is added to it if {@code clearCollectionUponAdding} is set to {@code true} in the
-     * constructor used to create this mapper.
+     * constructor used to create this mapper. If a {@link PropertyEquivalence} was supplied into the constructor, the
+     * {@link Collection} property is not modified if it already holds an equivalent property.
      * @param source the object of type {@link S} to obtain the {@code sourceProperty} from
      * @param target the object of type {@link T} that contains the {@link Collection} property to add the
      * {@code targetProperty} to
@@ -63,11 +83,28 @@ public abstract class AddSingleToCollectionPropertyMapper<S, SP, T, TP> implemen
 
         Collection<TP> targetPropertyCollection = getPropertyFromTarget(target);
 
+        if (propertyEquivalence != null && holdsEquivalentProperty(targetPropertyCollection, targetProperty)) {
+            return;
+        }
+
         if (clearCollectionUponAdding) {
             targetPropertyCollection.clear();
         }
 
         targetPropertyCollection.add(targetProperty);
+        DirtyTrackingMapper.markChanged(this);
+    }
+
+    private boolean holdsEquivalentProperty(Collection<TP> targetPropertyCollection, TP targetProperty) {
+        if (clearCollectionUponAdding && targetPropertyCollection.size() != 1) {
+            return false;
+        }
+        for (TP element : targetPropertyCollection) {
+            if (propertyEquivalence.isEquivalent(element, targetProperty)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This {@link SourceToTargetPropertyMapper} converts the properties of a whole batch of {@code source} objects with a
+ * single call to {@link #convertAll(Collection)} when {@link #mapAll(List, List)} is called, such as when the batch is
+ * mapped by an {@link EasyObjectMapper} or a {@link SourceToTargetObjectPropertyMapper} containing this mapper. This
+ * turns one lookup per {@code source} object, e.g. of an ID in a store, into one lookup per batch.<br><br>
+ * A batch only reaches this mapper whole if every mapper above it passes it on by {@link #mapAll(List, List)}. Mappers
+ * that map one object at a time, such as a {@link CollectionToCollectionPropertyMapper}, a
+ * {@link SourceToTargetObjectPropertyMapper} within a {@link MappingContext} or skipping unchanged
+ * {@link VersionStamped} properties, and any mapper mapped by {@link Mapper#map(Object, Object)}, call this mapper with
+ * batches of one.<br><br>
+ * {@link #map(Object, Object)} converts its single property with {@link #convertAll(Collection)} as well, unless
+ * {@link #convert(Object)} is overridden.
+ * @param <S> the type of the {@code source} object to map the property of type {@link SP} from
+ * @param <SP> the type of the property in the {@code source} object to map from
+ * @param <T> the type of the {@code target} object to map the property of type {@link TP} to
+ * @param <TP> the type of the property in the {@code target} object to map to
+ */
+public abstract class BatchConvertingPropertyMapper<S, SP, T, TP> extends SourceToTargetPropertyMapper<S, SP, T, TP> {
+    /**
+     * No-arg constructor of {@link BatchConvertingPropertyMapper} that calls
+     * {@link SourceToTargetPropertyMapper#SourceToTargetPropertyMapper()}.
+     */
+    public BatchConvertingPropertyMapper() {
+        super();
+    }
+
+    /**
+     * Constructor of {@link BatchConvertingPropertyMapper} that calls
+     * {@link SourceToTargetPropertyMapper#SourceToTargetPropertyMapper(PropertyEquivalence)}.<br><br>
+     * If {@code propertyEquivalence} is not {@code null}, then {@link #getPropertyFromTarget(Object)} must be
+     * overridden.
+     * @param propertyEquivalence decides whether the property in the {@code target} object is equivalent to the one
+     *                            being mapped, or {@code null} to always set the property
+     */
+    public BatchConvertingPropertyMapper(PropertyEquivalence<? super TP> propertyEquivalence) {
+        super(propertyEquivalence);
+    }
+
+    /**
+     * Maps the property from each object in {@code sources} to the object at the same index in {@code targets}.
+     * <br><br>
+     * The properties are obtained from all {@code sources} by {@link #getPropertyFromSource(Object)} first, then
+     * converted by a single call to {@link #convertAll(Collection)} with the distinct properties, in the order they
+     * were first obtained, and finally set to all {@code targets} by {@link #setPropertyToTarget(Object, Object)}.
+     * @param sources the objects of type {@link S} to map the property from
+     * @param targets the objects of type {@link T} to map the property to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        int size = sources.size();
+        List<SP> sourceProperties = new ArrayList<>(size);
+        Set<SP> distinctSourceProperties = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            SP sourceProperty = getPropertyFromSource(sources.get(i));
+            sourceProperties.add(sourceProperty);
+            distinctSourceProperties.add(sourceProperty);
+        }
+
+        Map<SP, TP> targetProperties = convertAll(distinctSourceProperties);
+
+        for (int i = 0; i < size; i++) {
+            writePropertyToTarget(targets.get(i), targetProperties.get(sourceProperties.get(i)));
+        }
+    }
+
+    /**
+     * Converts a single {@code sourceProperty} by calling {@link #convertAll(Collection)} with it alone.
+     * @param sourceProperty the property of type {@link SP} to convert
+     * @return the property of type {@link TP} to convert to
+     */
+    @Override
+    protected TP convert(SP sourceProperty) {
+        return convertAll(Collections.singleton(sourceProperty)).get(sourceProperty);
+    }
+
+    /**
+     * Converts every property in {@code sourceProperties} at once, and returns each converted property keyed by the
+     * property it was converted from. Properties missing from the returned {@link Map} are mapped as {@code null}.
+     * @param sourceProperties the distinct properties of type {@link SP} to convert, which may include {@code null}
+     * @return the properties of type {@link TP} converted to, keyed by the properties of type {@link SP} they were
+     * converted from
+     */
+    protected abstract Map<SP, TP> convertAll(Collection<SP> sourceProperties);
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Helper methods shared by the batch mapping methods of {@link Mapper} and its implementations.
+ */
+final class Batches {
+    private Batches() {}
+
+    /**
+     * Checks that {@code sources} and {@code targets} can be mapped between pairwise.
+     * @param sources the objects to map properties from
+     * @param targets the objects to map properties to
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    static void checkSameSize(List<?> sources, List<?> targets) {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException(
+                    "sources and targets must be the same size, but were " + sources.size() + " and " + targets.size()
+                            + " respectively."
+            );
+        }
+    }
+
+    /**
+     * Returns {@code iterable} as a {@link RandomAccess} {@link List}, copying it into a presized {@link ArrayList}
+     * only if it is not one already.
+     * @param iterable the objects to return as a {@link List}
+     * @param <E> the type of the objects
+     * @return a {@link RandomAccess} {@link List} of the objects in {@code iterable}
+     */
+    static <E> List<? extends E> toList(Iterable<? extends E> iterable) {
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<? extends E>) iterable;
+        }
+
+        List<E> list = iterable instanceof Collection
+                ? new ArrayList<>(((Collection<? extends E>) iterable).size())
+                : new ArrayList<>();
+        for (E element : iterable) {
+            list.add(element);
+        }
+        return list;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A flyweight over one fixed-size binary record in a {@link ByteBuffer}, which may be a heap buffer, a direct buffer
+ * or a slice of either, and is read and written in the {@link java.nio.ByteOrder} of that buffer. A mapper tree maps
+ * into a {@link BinaryRecord} as into any other {@code target} object, using the offsets declared by a
+ * {@link BinaryRecordLayout}, so the mapped properties go straight into the buffer with no {@code target} object to
+ * allocate and serialize afterwards.<br><br>
+ * A single {@link BinaryRecord} is meant to be moved from record to record by {@link #wrap(ByteBuffer, int)}, e.g.
+ * to map a batch into consecutive records:
+ * <pre>{@code
+ * BinaryRecord record = new BinaryRecord(layout);
+ * for (int i = 0; i < sources.size(); i++) {
+ *     mapper.map(sources.get(i), record.wrap(buffer, i * layout.getSize()));
+ * }
+ * }</pre>
+ * Offsets passed to the {@code put} and {@code get} methods are relative to the start of the current record. The
+ * position and limit of the buffer are left untouched.
+ */
+public final class BinaryRecord {
+    private final BinaryRecordLayout layout;
+    private ByteBuffer buffer;
+    private int recordOffset;
+
+    /**
+     * Main constructor of {@link BinaryRecord}, which is not over any record until {@link #wrap(ByteBuffer, int)} is
+     * called.
+     * @param layout the {@link BinaryRecordLayout} of the records this is moved over
+     */
+    public BinaryRecord(BinaryRecordLayout layout) {
+        this.layout = layout;
+    }
+
+    /**
+     * Moves this over the record starting at {@code recordOffset} in {@code buffer}.
+     * @param buffer the {@link ByteBuffer} holding the record
+     * @param recordOffset the absolute index in {@code buffer} at which the record starts
+     * @return this
+     * @throws IndexOutOfBoundsException if the record does not fit within the limit of {@code buffer}
+     */
+    public BinaryRecord wrap(ByteBuffer buffer, int recordOffset) {
+        if (recordOffset < 0 || recordOffset > buffer.limit() - layout.getSize()) {
+            throw new IndexOutOfBoundsException(
+                    "A record of " + layout.getSize() + " bytes at " + recordOffset + " does not fit within "
+                            + buffer.limit() + " bytes."
+            );
+        }
+
+        this.buffer = buffer;
+        this.recordOffset = recordOffset;
+        return this;
+    }
+
+    /**
+     * Returns the {@link BinaryRecordLayout} of the records this is moved over.
+     * @return the {@link BinaryRecordLayout}
+     */
+    public BinaryRecordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the {@link ByteBuffer} holding the current record.
+     * @return the {@link ByteBuffer}, or {@code null} if {@link #wrap(ByteBuffer, int)} has not been called
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Returns the absolute index in {@link #getBuffer()} at which the current record starts.
+     * @return the offset of the current record
+     */
+    public int getRecordOffset() {
+        return recordOffset;
+    }
+
+    /**
+     * Writes {@code value} to the {@code byte} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code byte} to write
+     */
+    public void putByte(int offset, byte value) {
+        buffer.put(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code byte} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code byte} read
+     */
+    public byte getByte(int offset) {
+        return buffer.get(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the {@code boolean} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code boolean} to write
+     */
+    public void putBoolean(int offset, boolean value) {
+        buffer.put(recordOffset + offset, value ? (byte) 1 : (byte) 0);
+    }
+
+    /**
+     * Reads the {@code boolean} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code boolean} read
+     */
+    public boolean getBoolean(int offset) {
+        return buffer.get(recordOffset + offset) != 0;
+    }
+
+    /**
+     * Writes {@code value} to the {@code short} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code short} to write
+     */
+    public void putShort(int offset, short value) {
+        buffer.putShort(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code short} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code short} read
+     */
+    public short getShort(int offset) {
+        return buffer.getShort(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the {@code int} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code int} to write
+     */
+    public void putInt(int offset, int value) {
+        buffer.putInt(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code int} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code int} read
+     */
+    public int getInt(int offset) {
+        return buffer.getInt(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the {@code float} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code float} to write
+     */
+    public void putFloat(int offset, float value) {
+        buffer.putFloat(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code float} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code float} read
+     */
+    public float getFloat(int offset) {
+        return buffer.getFloat(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the {@code long} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code long} to write
+     */
+    public void putLong(int offset, long value) {
+        buffer.putLong(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code long} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code long} read
+     */
+    public long getLong(int offset) {
+        return buffer.getLong(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the {@code double} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @param value the {@code double} to write
+     */
+    public void putDouble(int offset, double value) {
+        buffer.putDouble(recordOffset + offset, value);
+    }
+
+    /**
+     * Reads the {@code double} field at {@code offset}.
+     * @param offset the offset of the field from the start of the current record
+     * @return the {@code double} read
+     */
+    public double getDouble(int offset) {
+        return buffer.getDouble(recordOffset + offset);
+    }
+
+    /**
+     * Writes {@code value} to the string field of {@code length} bytes at {@code offset}, one byte per character as in
+     * ISO-8859-1, padding the rest of the field with zero bytes. A {@code null} value is written as an empty string.
+     * This allocates nothing.
+     * @param offset the offset of the field from the start of the current record
+     * @param length the length of the field in bytes
+     * @param value the characters to write, all of which must be in ISO-8859-1
+     * @throws IllegalArgumentException if {@code value} is longer than {@code length} characters, or has a character
+     * outside ISO-8859-1, in which case nothing is written
+     */
+    public void putString(int offset, int length, CharSequence value) {
+        int valueLength = value == null ? 0 : value.length();
+        if (valueLength > length) {
+            throw new IllegalArgumentException(
+                    "value must be at most " + length + " characters long, but was " + valueLength + "."
+            );
+        }
+
+        for (int i = 0; i < valueLength; i++) {
+            if (value.charAt(i) > 0xFF) {
+                throw new IllegalArgumentException("value has a character outside ISO-8859-1 at index " + i + ".");
+            }
+        }
+
+        int index = recordOffset + offset;
+        for (int i = 0; i < valueLength; i++) {
+            buffer.put(index + i, (byte) value.charAt(i));
+        }
+        for (int i = valueLength; i < length; i++) {
+            buffer.put(index + i, (byte) 0);
+        }
+    }
+
+    /**
+     * Reads the string field of {@code length} bytes at {@code offset} written by
+     * {@link #putString(int, int, CharSequence)}, up to the first zero byte.
+     * @param offset the offset of the field from the start of the current record
+     * @param length the length of the field in bytes
+     * @return the characters read
+     */
+    public String getString(int offset, int length) {
+        int index = recordOffset + offset;
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            byte character = buffer.get(index + i);
+            if (character == 0) {
+                break;
+            }
+            value.append((char) (character & 0xFF));
+        }
+        return value.toString();
+    }
+}
\ No newline at end of file
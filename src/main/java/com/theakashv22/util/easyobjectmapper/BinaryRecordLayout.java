@@ -0,0 +1,469 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * This declares the layout of a fixed-size binary record, i.e. the name, type and offset of each of its fields, so
+ * that a mapper tree can write the properties of a {@code source} object straight into a {@link BinaryRecord} over a
+ * {@link java.nio.ByteBuffer} rather than into a {@code target} object that is then serialized.<br><br>
+ * Fields are laid out one after another in the order they are added to the {@link Builder}, with no padding. The
+ * {@code ...Mapper} methods return mappers writing a single field, which can be combined in an
+ * {@link EasyObjectMapper} like any other mapper.
+ */
+public final class BinaryRecordLayout {
+    private final Map<String, Field> fields;
+    private final int size;
+
+    private BinaryRecordLayout(Map<String, Field> fields, int size) {
+        this.fields = fields;
+        this.size = size;
+    }
+
+    /**
+     * Returns a new {@link Builder} for declaring a {@link BinaryRecordLayout}.
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the size of a record in bytes.
+     * @return the sum of the sizes of all fields
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the offset of the field called {@code name} from the start of a record.
+     * @param name the name of the field
+     * @return the offset of the field in bytes
+     * @throws IllegalArgumentException if there is no field called {@code name}
+     */
+    public int getOffset(String name) {
+        return getField(name).offset;
+    }
+
+    /**
+     * Returns the names of the fields in the order they are laid out.
+     * @return the names of the fields
+     */
+    public Set<String> getFieldNames() {
+        return Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * Returns a mapper writing the {@code int} returned by {@code getter} to the {@code byte} field called
+     * {@code name}, so that a getter returning a {@code byte} can be passed as it is. The mapper throws an
+     * {@link IllegalArgumentException} if {@code getter} returns a value outside the range of a {@code byte}.
+     * @param name the name of a {@code byte} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code byte} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> byteMapper(String name, ToIntFunction<? super S> getter) {
+        return new ByteFieldMapper<>(getField(name, FieldType.BYTE).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code int} returned by {@code getter} to the {@code short} field called
+     * {@code name}, so that a getter returning a {@code short} can be passed as it is. The mapper throws an
+     * {@link IllegalArgumentException} if {@code getter} returns a value outside the range of a {@code short}.
+     * @param name the name of a {@code short} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code short} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> shortMapper(String name, ToIntFunction<? super S> getter) {
+        return new ShortFieldMapper<>(getField(name, FieldType.SHORT).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code int} returned by {@code getter} to the field called {@code name}.
+     * @param name the name of an {@code int} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code int} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> intMapper(String name, ToIntFunction<? super S> getter) {
+        return new IntFieldMapper<>(getField(name, FieldType.INT).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code long} returned by {@code getter} to the field called {@code name}.
+     * @param name the name of a {@code long} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code long} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> longMapper(String name, ToLongFunction<? super S> getter) {
+        return new LongFieldMapper<>(getField(name, FieldType.LONG).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code double} returned by {@code getter} to the {@code float} field called
+     * {@code name}, rounded to the nearest {@code float} as by a cast, so that a getter returning a {@code float} can
+     * be passed as it is and is written exactly.
+     * @param name the name of a {@code float} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code float} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> floatMapper(String name, ToDoubleFunction<? super S> getter) {
+        return new FloatFieldMapper<>(getField(name, FieldType.FLOAT).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code double} returned by {@code getter} to the field called {@code name}.
+     * @param name the name of a {@code double} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code double} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> doubleMapper(String name, ToDoubleFunction<? super S> getter) {
+        return new DoubleFieldMapper<>(getField(name, FieldType.DOUBLE).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@code boolean} returned by {@code getter} to the field called {@code name}.
+     * @param name the name of a {@code boolean} field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no {@code boolean} field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> booleanMapper(String name, Predicate<? super S> getter) {
+        return new BooleanFieldMapper<>(getField(name, FieldType.BOOLEAN).offset, getter);
+    }
+
+    /**
+     * Returns a mapper writing the {@link CharSequence} returned by {@code getter} to the string field called
+     * {@code name}, as by {@link BinaryRecord#putString(int, int, CharSequence)}.
+     * @param name the name of a string field
+     * @param getter returns the property in the {@code source} object
+     * @param <S> the type of the {@code source} object to map the property from
+     * @return the mapper
+     * @throws IllegalArgumentException if there is no string field called {@code name}
+     */
+    public <S> Mapper<S, BinaryRecord> stringMapper(String name, Function<? super S, ? extends CharSequence> getter) {
+        Field field = getField(name, FieldType.STRING);
+        return new StringFieldMapper<>(field.offset, field.length, getter);
+    }
+
+    private Field getField(String name) {
+        Field field = fields.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("There is no field called " + name + ".");
+        }
+        return field;
+    }
+
+    private Field getField(String name, FieldType type) {
+        Field field = getField(name);
+        if (field.type != type) {
+            throw new IllegalArgumentException(
+                    "Field " + name + " is of type " + field.type + ", not " + type + "."
+            );
+        }
+        return field;
+    }
+
+    /**
+     * This builder declares the fields of a {@link BinaryRecordLayout} in the order they are laid out.
+     */
+    public static final class Builder {
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+        private int size;
+
+        private Builder() {}
+
+        /**
+         * Adds a 1-byte {@code byte} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addByte(String name) {
+            return add(name, FieldType.BYTE, Byte.BYTES);
+        }
+
+        /**
+         * Adds a 1-byte {@code boolean} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addBoolean(String name) {
+            return add(name, FieldType.BOOLEAN, Byte.BYTES);
+        }
+
+        /**
+         * Adds a 2-byte {@code short} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addShort(String name) {
+            return add(name, FieldType.SHORT, Short.BYTES);
+        }
+
+        /**
+         * Adds a 4-byte {@code int} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addInt(String name) {
+            return add(name, FieldType.INT, Integer.BYTES);
+        }
+
+        /**
+         * Adds a 4-byte {@code float} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addFloat(String name) {
+            return add(name, FieldType.FLOAT, Float.BYTES);
+        }
+
+        /**
+         * Adds an 8-byte {@code long} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addLong(String name) {
+            return add(name, FieldType.LONG, Long.BYTES);
+        }
+
+        /**
+         * Adds an 8-byte {@code double} field.
+         * @param name the name of the field
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}
+         */
+        public Builder addDouble(String name) {
+            return add(name, FieldType.DOUBLE, Double.BYTES);
+        }
+
+        /**
+         * Adds a string field holding up to {@code length} characters of one byte each, as written by
+         * {@link BinaryRecord#putString(int, int, CharSequence)}.
+         * @param name the name of the field
+         * @param length the length of the field in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if there is already a field called {@code name}, or if {@code length} is
+         * less than {@code 1}
+         */
+        public Builder addString(String name, int length) {
+            if (length < 1) {
+                throw new IllegalArgumentException("length must be at least 1, but was " + length + ".");
+            }
+            return add(name, FieldType.STRING, length);
+        }
+
+        private Builder add(String name, FieldType type, int length) {
+            if (fields.containsKey(name)) {
+                throw new IllegalArgumentException("There is already a field called " + name + ".");
+            }
+            fields.put(name, new Field(type, size, length));
+            size += length;
+            return this;
+        }
+
+        /**
+         * Builds the {@link BinaryRecordLayout} declared so far.
+         * @return the {@link BinaryRecordLayout}
+         */
+        public BinaryRecordLayout build() {
+            return new BinaryRecordLayout(new LinkedHashMap<>(fields), size);
+        }
+    }
+
+    private enum FieldType {
+        BYTE, BOOLEAN, SHORT, INT, FLOAT, LONG, DOUBLE, STRING
+    }
+
+    /**
+     * The type, offset and length of a field.
+     */
+    private static final class Field {
+        private final FieldType type;
+        private final int offset;
+        private final int length;
+
+        private Field(FieldType type, int offset, int length) {
+            this.type = type;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static final class ByteFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToIntFunction<? super S> getter;
+
+        private ByteFieldMapper(int offset, ToIntFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            int value = getter.applyAsInt(source);
+            if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "value must be between " + Byte.MIN_VALUE + " and " + Byte.MAX_VALUE + ", but was " + value
+                                + "."
+                );
+            }
+            target.putByte(offset, (byte) value);
+        }
+    }
+
+    private static final class ShortFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToIntFunction<? super S> getter;
+
+        private ShortFieldMapper(int offset, ToIntFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            int value = getter.applyAsInt(source);
+            if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        "value must be between " + Short.MIN_VALUE + " and " + Short.MAX_VALUE + ", but was " + value
+                                + "."
+                );
+            }
+            target.putShort(offset, (short) value);
+        }
+    }
+
+    private static final class IntFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToIntFunction<? super S> getter;
+
+        private IntFieldMapper(int offset, ToIntFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putInt(offset, getter.applyAsInt(source));
+        }
+    }
+
+    private static final class LongFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToLongFunction<? super S> getter;
+
+        private LongFieldMapper(int offset, ToLongFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putLong(offset, getter.applyAsLong(source));
+        }
+    }
+
+    private static final class FloatFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToDoubleFunction<? super S> getter;
+
+        private FloatFieldMapper(int offset, ToDoubleFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putFloat(offset, (float) getter.applyAsDouble(source));
+        }
+    }
+
+    private static final class DoubleFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final ToDoubleFunction<? super S> getter;
+
+        private DoubleFieldMapper(int offset, ToDoubleFunction<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putDouble(offset, getter.applyAsDouble(source));
+        }
+    }
+
+    private static final class BooleanFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final Predicate<? super S> getter;
+
+        private BooleanFieldMapper(int offset, Predicate<? super S> getter) {
+            this.offset = offset;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putBoolean(offset, getter.test(source));
+        }
+    }
+
+    private static final class StringFieldMapper<S> implements Mapper<S, BinaryRecord> {
+        private final int offset;
+        private final int length;
+        private final Function<? super S, ? extends CharSequence> getter;
+
+        private StringFieldMapper(int offset, int length, Function<? super S, ? extends CharSequence> getter) {
+            this.offset = offset;
+            this.length = length;
+            this.getter = getter;
+        }
+
+        @Override
+        public void map(S source, BinaryRecord target) {
+            target.putString(offset, length, getter.apply(source));
+        }
+    }
+}
\ No newline at end of file
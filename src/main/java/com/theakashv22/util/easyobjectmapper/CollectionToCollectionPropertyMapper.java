@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This mapper will convert every element of a {@link Collection} property with elements of type {@link SP} from a
+ * {@code source} object of type {@link S}, and add them into a {@link Collection} property with elements of type
+ * {@link TP} in a {@code target} object of type {@link T} when {@link #map(Object, Object)} is called.
+ * @param <S> the type of the {@code source} object to obtain the {@link Collection} property from
+ * @param <SP> the type of the elements of the {@link Collection} property in the {@code source} object
+ * @param <T> the type of the {@code target} object that contains the {@link Collection} property to add to
+ * @param <TP> the type of the elements of the {@link Collection} property in the {@code target} object
+ */
+public abstract class CollectionToCollectionPropertyMapper<S, SP, T, TP> implements Mapper<S, T> {
+    private final boolean clearCollectionUponAdding;
+    private final List<Mapper<SP, TP>> declaredInnerMappers;
+    private final Mapper<SP, TP>[] innerMappers;
+
+    /**
+     * No-arg constructor of {@link CollectionToCollectionPropertyMapper}. This calls
+     * {@link #CollectionToCollectionPropertyMapper(boolean, Collection)}, sets {@code clearCollectionUponAdding} to
+     * {@code false} and supplies no {@code innerMappers}.
+     */
+    public CollectionToCollectionPropertyMapper() {
+        this(false);
+    }
+
+    /**
+     * Constructor of {@link CollectionToCollectionPropertyMapper} that calls
+     * {@link #CollectionToCollectionPropertyMapper(boolean, Collection)} and supplies no {@code innerMappers}.
+     * @param clearCollectionUponAdding if {@code true}, the target {@link Collection} property is cleared before adding
+     *                                  to it
+     */
+    public CollectionToCollectionPropertyMapper(boolean clearCollectionUponAdding) {
+        this(clearCollectionUponAdding, Collections.<Mapper<SP, TP>>emptyList());
+    }
+
+    /**
+     * Main constructor of {@link CollectionToCollectionPropertyMapper}.<br><br>
+     * The {@code innerMappers} are copied when this mapper is constructed, and any {@link EasyObjectMapper} among them
+     * is replaced by its own {@code innerMappers}.
+     * @param clearCollectionUponAdding if {@code true}, the target {@link Collection} property is cleared before adding
+     *                                  to it
+     * @param innerMappers the mappers for mapping properties from each source element to the target element it was
+     *                     converted to, before the target element is added
+     */
+    public CollectionToCollectionPropertyMapper(
+            boolean clearCollectionUponAdding,
+            Collection<? extends Mapper<SP, TP>> innerMappers
+    ) {
+        this.clearCollectionUponAdding = clearCollectionUponAdding;
+        this.declaredInnerMappers = Collections.unmodifiableList(new ArrayList<>(innerMappers));
+        this.innerMappers = MapperOptimizer.flatten(declaredInnerMappers);
+    }
+
+    /**
+     * Constructor of {@link CollectionToCollectionPropertyMapper} that calls
+     * {@link #CollectionToCollectionPropertyMapper(boolean, Collection)} and converts the {@code innerMappers} vararg
+     * parameter into a {@link Collection}.
+     * @param clearCollectionUponAdding if {@code true}, the target {@link Collection} property is cleared before adding
+     *                                  to it
+     * @param innerMappers the mappers for mapping properties from each source element to the target element it was
+     *                     converted to, before the target element is added
+     */
+    @SafeVarargs
+    public CollectionToCollectionPropertyMapper(boolean clearCollectionUponAdding, Mapper<SP, TP>... innerMappers) {
+        this(clearCollectionUponAdding, Arrays.asList(innerMappers));
+    }
+
+    /**
+     * Converts each element of the {@link Collection} property obtained by {@link #getPropertyFromSource(Object)} with
+     * {@link #convert(Object)}, maps it with the {@code innerMappers}, and adds it to the {@link Collection} property
+     * obtained by {@link #getPropertyFromTarget(Object)}, in the iteration order of the source {@link Collection}.
+     * <br><br>
+     * The target {@link Collection} property is cleared first if {@code clearCollectionUponAdding} is set to
+     * {@code true} in the constructor used to create this mapper. If it is an {@link ArrayList}, its capacity is
+     * ensured for all the elements being added before any are added, and if the source {@link Collection} property is
+     * a {@link RandomAccess} {@link List}, it is read by index rather than through an iterator.
+     * @param source the object of type {@link S} to obtain the source {@link Collection} property from
+     * @param target the object of type {@link T} that contains the target {@link Collection} property to add to
+     */
+    public void map(S source, T target) {
+        Collection<? extends SP> sourcePropertyCollection = getPropertyFromSource(source);
+        Collection<TP> targetPropertyCollection = getPropertyFromTarget(target);
+
+        if (clearCollectionUponAdding) {
+            targetPropertyCollection.clear();
+        }
+
+        if (targetPropertyCollection instanceof ArrayList) {
+            ((ArrayList<TP>) targetPropertyCollection).ensureCapacity(
+                    targetPropertyCollection.size() + sourcePropertyCollection.size()
+            );
+        }
+
+        if (sourcePropertyCollection instanceof RandomAccess && sourcePropertyCollection instanceof List) {
+            List<? extends SP> sourcePropertyList = (List<? extends SP>) sourcePropertyCollection;
+            for (int i = 0, size = sourcePropertyList.size(); i < size; i++) {
+                targetPropertyCollection.add(convertAndMap(sourcePropertyList.get(i)));
+            }
+        } else {
+            for (SP sourceProperty : sourcePropertyCollection) {
+                targetPropertyCollection.add(convertAndMap(sourceProperty));
+            }
+        }
+    }
+
+    private TP convertAndMap(SP sourceProperty) {
+        TP targetProperty = convert(sourceProperty);
+        for (Mapper<SP, TP> mapper : innerMappers) {
+            mapper.map(sourceProperty, targetProperty);
+        }
+        return targetProperty;
+    }
+
+    /**
+     * Returns the optimised {@code innerMappers} of this mapper.
+     * @return the {@code innerMappers} in the order they are called in
+     */
+    Mapper<SP, TP>[] getInnerMappers() {
+        return innerMappers;
+    }
+
+    /**
+     * Returns the {@code innerMappers} of this mapper as they were supplied into its constructor, before they were
+     * optimised.
+     * @return the supplied {@code innerMappers}, in the order they were supplied in
+     */
+    List<Mapper<SP, TP>> getDeclaredInnerMappers() {
+        return declaredInnerMappers;
+    }
+
+    /**
+     * Returns whether this mapper clears the target {@link Collection} property before adding to it.
+     * @return {@code clearCollectionUponAdding} as supplied into the constructor
+     */
+    boolean isClearingCollectionUponAdding() {
+        return clearCollectionUponAdding;
+    }
+
+    /**
+     * Returns the {@link Collection} property in {@code source} whose elements are converted.
+     * @param source the object of type {@link S} to obtain the {@link Collection} property from
+     * @return the {@link Collection} property with elements of type {@link SP} in {@code source}
+     */
+    protected abstract Collection<? extends SP> getPropertyFromSource(S source);
+
+    /**
+     * Returns the {@link Collection} property in the {@code target} object to add to.
+     * @param target the object of type {@link T} to obtain the {@link Collection} property from
+     * @return the {@link Collection} property with elements of type {@link TP} to add to
+     */
+    protected abstract Collection<TP> getPropertyFromTarget(T target);
+
+    /**
+     * Converts a single element of the source {@link Collection} property to an element to add to the target
+     * {@link Collection} property and returns the latter.
+     * @param sourceProperty the element of type {@link SP} to convert
+     * @return the element of type {@link TP} to convert to
+     */
+    protected abstract TP convert(SP sourceProperty);
+}
\ No newline at end of file
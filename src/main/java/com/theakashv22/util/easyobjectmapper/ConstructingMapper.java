@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * This function will construct an immutable {@code target} object of type {@link T} from a {@code source} object of
+ * type {@link S} when {@link #apply(Object)} is called, for {@code target} objects that have no setters for other
+ * mappers to map into.<br><br>
+ * Rather than mapping into a mutable shadow object and copying that into a new {@code target} object, the supplied
+ * {@code argumentMappers} map the properties of the {@code source} object into preallocated
+ * {@link ConstructorArguments}, which the supplied {@code constructor} then constructs the {@code target} object from,
+ * whether by calling a constructor or by filling in a builder, so that only the {@code target} object itself is
+ * allocated. The {@link ConstructorArguments} are reused for every object constructed on the same thread, and are
+ * cleared after each one, once {@link SourceToTargetObjectPropertyMapper#forget(Object)} has been called for them.
+ * <br><br>
+ * Any mapper can be an argument mapper, including a {@link SourceToTargetObjectPropertyMapper} that converts a
+ * {@code source} object property into an argument using another {@link ConstructingMapper}, so that nested immutable
+ * objects are constructed in the same way.
+ * @param <S> the type of the {@code source} object to construct the {@code target} object from
+ * @param <T> the type of the {@code target} object to construct
+ */
+public final class ConstructingMapper<S, T> implements Function<S, T> {
+    private final int argumentCount;
+    private final Function<? super ConstructorArguments, ? extends T> constructor;
+    private final Mapper<S, ConstructorArguments>[] argumentMappers;
+    private final ThreadLocal<Slot> slots;
+
+    /**
+     * Main constructor of {@link ConstructingMapper}.
+     * @param argumentCount the number of argument slots the {@code argumentMappers} map into
+     * @param constructor constructs the {@code target} object from the {@link ConstructorArguments} once all
+     *                    {@code argumentMappers} have been called, and must not keep a reference to them
+     * @param argumentMappers the mappers for mapping properties from the {@code source} object into the
+     *                        {@link ConstructorArguments}
+     * @throws IllegalArgumentException if {@code argumentCount} is less than {@code 0}
+     */
+    public ConstructingMapper(
+            int argumentCount,
+            Function<? super ConstructorArguments, ? extends T> constructor,
+            Collection<? extends Mapper<S, ConstructorArguments>> argumentMappers
+    ) {
+        if (argumentCount < 0) {
+            throw new IllegalArgumentException("argumentCount must be at least 0, but was " + argumentCount + ".");
+        }
+
+        this.argumentCount = argumentCount;
+        this.constructor = constructor;
+        this.argumentMappers = MapperOptimizer.flatten(argumentMappers);
+        this.slots = ThreadLocal.withInitial(() -> new Slot(new ConstructorArguments(argumentCount)));
+    }
+
+    /**
+     * Constructor of {@link ConstructingMapper} that calls
+     * {@link #ConstructingMapper(int, Function, Collection)} and converts the {@code argumentMappers} vararg parameter
+     * into a {@link Collection}.
+     * @param argumentCount the number of argument slots the {@code argumentMappers} map into
+     * @param constructor constructs the {@code target} object from the {@link ConstructorArguments} once all
+     *                    {@code argumentMappers} have been called, and must not keep a reference to them
+     * @param argumentMappers the mappers for mapping properties from the {@code source} object into the
+     *                        {@link ConstructorArguments}
+     * @throws IllegalArgumentException if {@code argumentCount} is less than {@code 0}
+     */
+    @SafeVarargs
+    public ConstructingMapper(
+            int argumentCount,
+            Function<? super ConstructorArguments, ? extends T> constructor,
+            Mapper<S, ConstructorArguments>... argumentMappers
+    ) {
+        this(argumentCount, constructor, Arrays.asList(argumentMappers));
+    }
+
+    /**
+     * Constructs a {@code target} object from {@code source} by calling {@link Mapper#map(Object, Object)} in all
+     * {@code argumentMappers} with the {@link ConstructorArguments} of the calling thread, and then applying the
+     * {@code constructor} to them.<br><br>
+     * If this is called again on the same thread while the {@code argumentMappers} or the {@code constructor} are
+     * running, for instance to construct a nested object of the same type, new {@link ConstructorArguments} are
+     * allocated for that call.
+     * @param source the object of type {@link S} to construct the {@code target} object from
+     * @return the constructed object of type {@link T}, or {@code null} if {@code source} is {@code null}
+     */
+    @Override
+    public T apply(S source) {
+        if (source == null) {
+            return null;
+        }
+
+        Slot slot = slots.get();
+        ConstructorArguments arguments = slot.arguments;
+        if (arguments == null) {
+            arguments = new ConstructorArguments(argumentCount);
+        } else {
+            slot.arguments = null;
+        }
+        try {
+            for (Mapper<S, ConstructorArguments> mapper : argumentMappers) {
+                mapper.map(source, arguments);
+            }
+            return constructor.apply(arguments);
+        } finally {
+            SourceToTargetObjectPropertyMapper.forget(arguments);
+            arguments.clear();
+            slot.arguments = arguments;
+        }
+    }
+
+    /**
+     * Returns the number of argument slots the {@code argumentMappers} map into.
+     * @return the number of argument slots the {@code argumentMappers} map into
+     */
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * Holds the {@link ConstructorArguments} of a single thread while they are not in use.
+     */
+    private static final class Slot {
+        private ConstructorArguments arguments;
+
+        private Slot(ConstructorArguments arguments) {
+            this.arguments = arguments;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+
+/**
+ * The argument slots a {@link ConstructingMapper} collects the properties of a {@code source} object into before
+ * constructing a {@code target} object from them, so that its argument mappers can map into these slots in the same way
+ * other mappers map into the setters of a mutable {@code target} object.<br><br>
+ * Primitive arguments are kept apart from object arguments and are never boxed. Each {@link ConstructingMapper} reuses
+ * the same {@link ConstructorArguments} for every object it constructs on a given thread, so an argument not set for
+ * the current {@code source} object reads as {@code null}, {@code 0} or {@code false}, and the constructor function
+ * supplied into the {@link ConstructingMapper} must not keep a reference to them.
+ */
+public final class ConstructorArguments {
+    private final Object[] objects;
+    private final long[] primitives;
+
+    ConstructorArguments(int argumentCount) {
+        this.objects = new Object[argumentCount];
+        this.primitives = new long[argumentCount];
+    }
+
+    /**
+     * Returns the number of argument slots.
+     * @return the number of argument slots
+     */
+    public int size() {
+        return objects.length;
+    }
+
+    /**
+     * Sets the object argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param argument the object argument to set
+     */
+    public void set(int index, Object argument) {
+        objects[index] = argument;
+    }
+
+    /**
+     * Returns the object argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param <A> the type of the object argument
+     * @return the object argument last set at {@code index}, or {@code null} if it was not set
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A get(int index) {
+        return (A) objects[index];
+    }
+
+    /**
+     * Sets the {@code int} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param argument the {@code int} argument to set
+     */
+    public void setInt(int index, int argument) {
+        primitives[index] = argument;
+    }
+
+    /**
+     * Returns the {@code int} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @return the {@code int} argument last set at {@code index}, or {@code 0} if it was not set
+     */
+    public int getInt(int index) {
+        return (int) primitives[index];
+    }
+
+    /**
+     * Sets the {@code long} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param argument the {@code long} argument to set
+     */
+    public void setLong(int index, long argument) {
+        primitives[index] = argument;
+    }
+
+    /**
+     * Returns the {@code long} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @return the {@code long} argument last set at {@code index}, or {@code 0} if it was not set
+     */
+    public long getLong(int index) {
+        return primitives[index];
+    }
+
+    /**
+     * Sets the {@code double} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param argument the {@code double} argument to set
+     */
+    public void setDouble(int index, double argument) {
+        primitives[index] = Double.doubleToRawLongBits(argument);
+    }
+
+    /**
+     * Returns the {@code double} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @return the {@code double} argument last set at {@code index}, or {@code 0} if it was not set
+     */
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(primitives[index]);
+    }
+
+    /**
+     * Sets the {@code boolean} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @param argument the {@code boolean} argument to set
+     */
+    public void setBoolean(int index, boolean argument) {
+        primitives[index] = argument ? 1 : 0;
+    }
+
+    /**
+     * Returns the {@code boolean} argument at {@code index}.
+     * @param index the index of the argument slot
+     * @return the {@code boolean} argument last set at {@code index}, or {@code false} if it was not set
+     */
+    public boolean getBoolean(int index) {
+        return primitives[index] != 0;
+    }
+
+    /**
+     * Clears all argument slots, so that no object argument is kept reachable once a {@code target} object has been
+     * constructed.
+     */
+    void clear() {
+        Arrays.fill(objects, null);
+        Arrays.fill(primitives, 0);
+    }
+}
\ No newline at end of file
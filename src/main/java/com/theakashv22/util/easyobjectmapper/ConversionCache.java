@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This caches the results of an expensive conversion function, such as one used by
+ * {@link SourceToTargetPropertyMapper#convert(Object)} or {@link AddSingleToCollectionPropertyMapper#convert(Object)},
+ * so that properties seen before are not converted again. It is meant to be used from such a {@code convert} method:
+ * <pre>{@code
+ * private final ConversionCache<String, LocalDate> dateCache = new ConversionCache<>(1024, LocalDate::parse);
+ *
+ * protected LocalDate convert(String sourceProperty) {
+ *     return dateCache.convert(sourceProperty);
+ * }
+ * }</pre>
+ * The cache holds at most {@code maximumSize} results. When it is full, a result that has not been used since the
+ * eviction last passed over it is evicted, which approximates evicting the least recently used result without any
+ * bookkeeping on cache hits beyond marking the result as used. Cache hits take no locks, so one cache can be shared by
+ * mappers used by many threads at once.<br><br>
+ * The conversion function is called without holding any lock, so two threads converting the same uncached property at
+ * once may both call it, and it must therefore return equivalent results for equal properties.
+ * @param <SP> the type of the property to convert
+ * @param <TP> the type of the property to convert to
+ */
+public final class ConversionCache<SP, TP> {
+    private static final Object NULL_SOURCE_PROPERTY = new Object();
+
+    private final Function<? super SP, ? extends TP> converter;
+    private final ConcurrentMap<Object, Entry> entries;
+    private final Entry[] clock;
+    private int clockSize;
+    private int clockHand;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Main constructor of {@link ConversionCache}.
+     * @param maximumSize the maximum number of results to cache
+     * @param converter the function to convert uncached properties with
+     * @throws IllegalArgumentException if {@code maximumSize} is less than {@code 1}
+     */
+    public ConversionCache(int maximumSize, Function<? super SP, ? extends TP> converter) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1, but was " + maximumSize + ".");
+        }
+
+        this.converter = converter;
+        entries = new ConcurrentHashMap<>(maximumSize);
+        clock = new Entry[maximumSize];
+    }
+
+    /**
+     * Returns the cached result of converting {@code sourceProperty}, converting and caching it first if it is not
+     * cached.
+     * @param sourceProperty the property of type {@link SP} to convert, which may be {@code null}
+     * @return the property of type {@link TP} converted to
+     */
+    @SuppressWarnings("unchecked")
+    public TP convert(SP sourceProperty) {
+        Object key = sourceProperty == null ? NULL_SOURCE_PROPERTY : sourceProperty;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!entry.used) {
+                entry.used = true;
+            }
+            hitCount.increment();
+            return (TP) entry.targetProperty;
+        }
+
+        missCount.increment();
+        TP targetProperty = converter.apply(sourceProperty);
+        cache(key, targetProperty);
+        return targetProperty;
+    }
+
+    private synchronized void cache(Object key, Object targetProperty) {
+        if (entries.containsKey(key)) {
+            return;
+        }
+
+        Entry entry = new Entry(key, targetProperty);
+        if (clockSize < clock.length) {
+            clock[clockSize++] = entry;
+        } else {
+            while (clock[clockHand].used) {
+                clock[clockHand].used = false;
+                advanceClockHand();
+            }
+            entries.remove(clock[clockHand].key);
+            evictionCount.increment();
+            clock[clockHand] = entry;
+            advanceClockHand();
+        }
+        entries.put(key, entry);
+    }
+
+    private void advanceClockHand() {
+        clockHand = clockHand + 1 == clock.length ? 0 : clockHand + 1;
+    }
+
+    /**
+     * Removes every cached result, leaving the statistics as they are.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        Arrays.fill(clock, null);
+        clockSize = 0;
+        clockHand = 0;
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     * @return the number of cached results, which is never more than {@code maximumSize}
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of results this caches.
+     * @return the {@code maximumSize} supplied into the constructor
+     */
+    public int getMaximumSize() {
+        return clock.length;
+    }
+
+    /**
+     * Returns the number of calls to {@link #convert(Object)} that found their result in the cache.
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #convert(Object)} that had to call the conversion function.
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of results evicted to keep the cache within {@code maximumSize}.
+     * @return the number of evicted results
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the proportion of calls to {@link #convert(Object)} that found their result in the cache.
+     * @return the hit rate between {@code 0} and {@code 1}, or {@code 0} if {@link #convert(Object)} was not called
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private static final class Entry {
+        private final Object key;
+        private final Object targetProperty;
+        private volatile boolean used;
+
+        private Entry(Object key, Object targetProperty) {
+            this.key = key;
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This mapper wraps a mapper tree so that {@link #map(Object, Object, long[])} and
+ * {@link #map(Object, Object, BitSet)} also report which {@code target} properties actually changed, e.g. so that only
+ * those are persisted or invalidated afterwards.<br><br>
+ * Each property mapper in the tree is given a stable index when this mapper is constructed, by walking the tree depth
+ * first through {@link EasyObjectMapper}s, {@link SourceToTargetObjectPropertyMapper}s and the mappers that
+ * {@link InstrumentedMapper}s were instrumented from, so that the indices are the same whether {@link MapperMetrics}
+ * is enabled or not, and {@link #getIndex(Mapper)} and {@link #getPropertyMapper(int)} translate between the two.
+ * A {@link SourceToTargetPropertyMapper} marks its index as changed only when it writes to {@code target}, which,
+ * given a {@link PropertyEquivalence}, it does not do for a {@code target} property equivalent to the one it holds,
+ * and likewise for an {@link AddSingleToCollectionPropertyMapper}. A {@link SourceToTargetObjectPropertyMapper} that
+ * does not convert never marks its own index, as its {@code innerMappers} mark theirs. Any other property mapper
+ * cannot tell, so its index is always marked as changed.
+ * <br><br>
+ * Tracking allocates nothing per call. Mapping outside {@link #map(Object, Object, long[])} and
+ * {@link #map(Object, Object, BitSet)} is unaffected, apart from a single volatile read per property written.<br><br>
+ * Tracking only applies to mappers called on the calling thread. Mappers that hand work over to other threads, such as
+ * {@link ParallelEasyObjectMapper}, {@link ParallelBatchMapper} and {@link VirtualThreadMapper}, are not walked into
+ * when indexing, so each of them is indexed as a single property mapper that is always marked as changed, and the
+ * property mappers they call on other threads are not reported individually.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public final class DirtyTrackingMapper<S, T> implements Mapper<S, T> {
+    private static final ThreadScope<Run> SCOPE = new ThreadScope<>(Run::new);
+
+    private final Mapper<S, T> mapper;
+    private final Map<Object, Integer> indices = new IdentityHashMap<>();
+    private final List<Mapper<?, ?>> propertyMappers = new ArrayList<>();
+    private final BitSet alwaysChangedProperties = new BitSet();
+    private final long[] alwaysChangedWords;
+
+    /**
+     * Main constructor of {@link DirtyTrackingMapper}, which indexes the property mappers in the tree of
+     * {@code mapper}. The tree must not be changed afterwards.
+     * @param mapper the root of the mapper tree to map with
+     */
+    public DirtyTrackingMapper(Mapper<S, T> mapper) {
+        this.mapper = mapper;
+        index(mapper);
+        this.alwaysChangedWords = alwaysChangedProperties.toLongArray();
+    }
+
+    private void index(Mapper<?, ?> propertyMapper) {
+        if (propertyMapper instanceof InstrumentedMapper) {
+            index(((InstrumentedMapper<?, ?>) propertyMapper).getUninstrumentedMapper());
+            return;
+        }
+        if (propertyMapper instanceof EasyObjectMapper) {
+            for (Mapper<?, ?> innerMapper : ((EasyObjectMapper<?, ?>) propertyMapper).getInnerMappers()) {
+                index(innerMapper);
+            }
+            return;
+        }
+        if (propertyMapper == null || indices.containsKey(propertyMapper)) {
+            return;
+        }
+
+        int index = propertyMappers.size();
+        indices.put(propertyMapper, index);
+        propertyMappers.add(propertyMapper);
+        if (!(propertyMapper instanceof SourceToTargetPropertyMapper)
+                && !(propertyMapper instanceof AddSingleToCollectionPropertyMapper)) {
+            alwaysChangedProperties.set(index);
+        }
+
+        if (propertyMapper instanceof SourceToTargetObjectPropertyMapper) {
+            for (Mapper<?, ?> innerMapper : ((SourceToTargetObjectPropertyMapper<?, ?, ?, ?>) propertyMapper)
+                    .getInnerMappers()) {
+                index(innerMapper);
+            }
+        }
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} using the wrapped mapper, without tracking which
+     * changed.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     */
+    @Override
+    public void map(S source, T target) {
+        mapper.map(source, target);
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} using the wrapped mapper, and sets the bit of
+     * {@code changedProperties} at the index of each property mapper whose {@code target} property changed, clearing
+     * all the others. Bit {@code i} is bit {@code i % 64} of {@code changedProperties[i / 64]}, as in
+     * {@link BitSet#valueOf(long[])}.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     * @param changedProperties the words to fill, which should be obtained once from
+     *                          {@link #newChangedProperties()} and reused
+     * @throws IllegalArgumentException if {@code changedProperties} has too few words for every property mapper
+     */
+    public void map(S source, T target, long[] changedProperties) {
+        int wordCount = getWordCount();
+        if (changedProperties.length < wordCount) {
+            throw new IllegalArgumentException(
+                    "changedProperties must have at least " + wordCount + " words, but had "
+                            + changedProperties.length + "."
+            );
+        }
+
+        System.arraycopy(alwaysChangedWords, 0, changedProperties, 0, alwaysChangedWords.length);
+        for (int i = alwaysChangedWords.length; i < changedProperties.length; i++) {
+            changedProperties[i] = 0L;
+        }
+        track(source, target, changedProperties, null);
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} using the wrapped mapper, and sets the bit of
+     * {@code changedProperties} at the index of each property mapper whose {@code target} property changed, clearing
+     * all the others.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     * @param changedProperties the {@link BitSet} to fill, which should be reused so that it does not need to grow
+     */
+    public void map(S source, T target, BitSet changedProperties) {
+        changedProperties.clear();
+        changedProperties.or(alwaysChangedProperties);
+        track(source, target, null, changedProperties);
+    }
+
+    private void track(S source, T target, long[] changedWords, BitSet changedBits) {
+        Run run = SCOPE.enter();
+        Map<Object, Integer> previousIndices = run.indices;
+        long[] previousChangedWords = run.changedWords;
+        BitSet previousChangedBits = run.changedBits;
+        run.indices = indices;
+        run.changedWords = changedWords;
+        run.changedBits = changedBits;
+        try {
+            mapper.map(source, target);
+        } finally {
+            run.indices = previousIndices;
+            run.changedWords = previousChangedWords;
+            run.changedBits = previousChangedBits;
+            SCOPE.exit();
+        }
+    }
+
+    /**
+     * Returns new words large enough to be filled by {@link #map(Object, Object, long[])}.
+     * @return the new words, all cleared
+     */
+    public long[] newChangedProperties() {
+        return new long[getWordCount()];
+    }
+
+    /**
+     * Returns the number of property mappers indexed in the tree.
+     * @return the number of property mappers, one more than the highest index
+     */
+    public int getPropertyCount() {
+        return propertyMappers.size();
+    }
+
+    /**
+     * Returns the index of {@code propertyMapper} in the tree.
+     * @param propertyMapper a property mapper in the tree
+     * @return the index of {@code propertyMapper}, or {@code -1} if it is not in the tree
+     */
+    public int getIndex(Mapper<?, ?> propertyMapper) {
+        Integer index = indices.get(propertyMapper);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the property mapper at {@code index} in the tree.
+     * @param index the index of the property mapper
+     * @return the property mapper
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #getPropertyCount()}
+     */
+    public Mapper<?, ?> getPropertyMapper(int index) {
+        return propertyMappers.get(index);
+    }
+
+    private int getWordCount() {
+        return (propertyMappers.size() + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Marks the {@code target} property written by {@code propertyMapper} as changed in the run in effect on the
+     * current thread, if any.
+     * @param propertyMapper the property mapper that wrote to {@code target}
+     */
+    static void markChanged(Mapper<?, ?> propertyMapper) {
+        Run run = SCOPE.current();
+        if (run != null) {
+            run.markChanged(propertyMapper);
+        }
+    }
+
+    /**
+     * The state of the tracking run in effect on a thread, which is reused between runs so that none allocate.
+     */
+    private static final class Run {
+        private Map<Object, Integer> indices;
+        private long[] changedWords;
+        private BitSet changedBits;
+
+        private void markChanged(Mapper<?, ?> propertyMapper) {
+            if (indices == null) {
+                return;
+            }
+
+            Integer index = indices.get(propertyMapper);
+            if (index == null) {
+                return;
+            }
+            if (changedWords != null) {
+                changedWords[index >>> 6] |= 1L << index;
+            } else {
+                changedBits.set(index);
+            }
+        }
+    }
+}
\ No newline at end of file
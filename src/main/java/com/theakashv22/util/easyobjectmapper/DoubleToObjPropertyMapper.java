@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+/**
+ * This mapper will map a {@code double} property from a {@code source} object of type {@link S} to a property of type
+ * {@link TP} in a {@code target} object of type {@link T} when {@link #map(Object, Object)} is called, without boxing
+ * the {@code double} property.
+ * @param <S> the type of the {@code source} object to map the {@code double} property from
+ * @param <T> the type of the {@code target} object to map the property of type {@link TP} to
+ * @param <TP> the type of the property in the {@code target} object to map to
+ */
+public abstract class DoubleToObjPropertyMapper<S, T, TP> implements Mapper<S, T> {
+    /**
+     * Maps the property from {@code source} obtained by {@link #getPropertyFromSource(Object)} to that in
+     * {@code target} set by {@link #setPropertyToTarget(Object, Object)}.<br><br>
+     * Any conversion is done by {@link #convert(double)}.
+     * @param source the object of type {@link S} to map the property from
+     * @param target the object of type {@link T} to map property to
+     */
+    public void map(S source, T target) {
+        double sourceProperty = getPropertyFromSource(source);
+        TP targetProperty = convert(sourceProperty);
+        setPropertyToTarget(target, targetProperty);
+    }
+
+    /**
+     * Returns the {@code double} property in {@code source} to map from.
+     * @param source the object of type {@link S} to obtain the property from
+     * @return the {@code double} property in {@code source} to map
+     */
+    protected abstract double getPropertyFromSource(S source);
+
+    /**
+     * Sets the property to map to in {@code target}.
+     * @param target the object of type {@link T} to set the property to
+     * @param targetProperty the property of type {@link TP} to map in {@code target}
+     */
+    protected abstract void setPropertyToTarget(T target, TP targetProperty);
+
+    /**
+     * Converts the {@code sourceProperty} to the {@code targetProperty} and returns the latter.
+     * @param sourceProperty the {@code double} property to convert
+     * @return the property of type {@link TP} to convert to
+     */
+    protected abstract TP convert(double sourceProperty);
+}
\ No newline at end of file
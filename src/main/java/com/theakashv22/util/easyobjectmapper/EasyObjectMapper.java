@@ -16,8 +16,11 @@
 
 package com.theakashv22.util.easyobjectmapper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This is the root object mapper that will map properties from an object of type {@link S} to an object of type
@@ -26,15 +29,20 @@ import java.util.Collection;
  * @param <T> the type of the {@code target} object to map properties to
  */
 public class EasyObjectMapper<S, T> implements Mapper<S, T> {
-    private final Collection<? extends Mapper<S, T>> innerMappers;
+    private final List<Mapper<S, T>> declaredInnerMappers;
+    private final Mapper<S, T>[] innerMappers;
 
     /**
-     * Constructor of {@link EasyObjectMapper} that takes a {@link Collection} of {@code innerMappers}.
+     * Constructor of {@link EasyObjectMapper} that takes a {@link Collection} of {@code innerMappers}.<br><br>
+     * The {@code innerMappers} are copied when this mapper is constructed, and any {@link EasyObjectMapper} among them
+     * is replaced by its own {@code innerMappers}, so that a tree of nested {@link EasyObjectMapper} instances is
+     * walked as a single level when mapping.
      * @param innerMappers the {@link Mapper} {@link Collection} containing mappers to map the properties of
      * {@code source} to {@code target}
      */
     public EasyObjectMapper(Collection<? extends Mapper<S, T>> innerMappers) {
-        this.innerMappers = innerMappers;
+        this.declaredInnerMappers = Collections.unmodifiableList(new ArrayList<>(innerMappers));
+        this.innerMappers = MapperOptimizer.flatten(declaredInnerMappers);
     }
 
     /**
@@ -46,6 +54,19 @@ public class EasyObjectMapper<S, T> implements Mapper<S, T> {
         this(Arrays.asList(innerMappers));
     }
 
+    /**
+     * Returns a new {@link EasyObjectMapperBuilder} for building an {@link EasyObjectMapper} from getter, setter and
+     * conversion functions.
+     * @param sourceClass the class of the {@code source} object to map properties from
+     * @param targetClass the class of the {@code target} object to map properties to
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @return a new {@link EasyObjectMapperBuilder}
+     */
+    public static <S, T> EasyObjectMapperBuilder<S, T> builder(Class<S> sourceClass, Class<T> targetClass) {
+        return new EasyObjectMapperBuilder<>();
+    }
+
     /**
      * Maps the properties from {@code source} to {@code target} using the supplied {@code innerMappers}.
      * @param source the object of type {@link S} to map properties from
@@ -56,4 +77,42 @@ public class EasyObjectMapper<S, T> implements Mapper<S, T> {
             mapper.map(source, target);
         }
     }
+
+    /**
+     * Returns the optimised {@code innerMappers} of this mapper.
+     * @return the {@code innerMappers} in the order they are called in
+     */
+    Mapper<S, T>[] getInnerMappers() {
+        return innerMappers;
+    }
+
+    /**
+     * Returns the {@code innerMappers} of this mapper as they were supplied into its constructor, before they were
+     * optimised.
+     * @return the supplied {@code innerMappers}, in the order they were supplied in
+     */
+    List<Mapper<S, T>> getDeclaredInnerMappers() {
+        return declaredInnerMappers;
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets} using
+     * the supplied {@code innerMappers}.<br><br>
+     * Rather than calling {@link #map(Object, Object)} for each pair of objects, this walks the {@code innerMappers}
+     * once for the whole batch and calls {@link Mapper#mapAll(List, List)} on each of them, so every inner mapper maps
+     * its property across all pairs before the next inner mapper is called. This keeps each inner mapper's code hot
+     * for the length of the batch, while the inner mappers are still called in order for every {@code target}.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        for (Mapper<S, T> mapper : innerMappers) {
+            mapper.mapAll(sources, targets);
+        }
+    }
 }
\ No newline at end of file
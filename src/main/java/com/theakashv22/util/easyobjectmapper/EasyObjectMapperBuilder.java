@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This builder creates an {@link EasyObjectMapper} from getter, setter and conversion functions, typically method
+ * references, instead of anonymous subclasses of the mappers in this package.<br><br>
+ * Every property is mapped by one of a small set of final classes delegating to the supplied functions. This only saves
+ * writing an anonymous class per property: each function is still called through its own interface, so mapping is no
+ * faster than with anonymous subclasses.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public final class EasyObjectMapperBuilder<S, T> {
+    private final List<Mapper<S, T>> innerMappers = new ArrayList<>();
+
+    EasyObjectMapperBuilder() {}
+
+    /**
+     * Maps a property of type {@link P} from {@code source} to a property of the same type in {@code target}.
+     * @param getter returns the property in the {@code source} object
+     * @param setter sets the property to the {@code target} object
+     * @param <P> the type of the property in the {@code source} and {@code target} objects to map between
+     * @return this builder
+     */
+    public <P> EasyObjectMapperBuilder<S, T> map(
+            Function<? super S, ? extends P> getter,
+            BiConsumer<? super T, ? super P> setter
+    ) {
+        return map(getter, Function.<P>identity(), setter);
+    }
+
+    /**
+     * Maps a property of type {@link SP} from {@code source} to a property of type {@link TP} in {@code target}.
+     * @param getter returns the property in the {@code source} object
+     * @param converter converts the source property to the target property
+     * @param setter sets the property to the {@code target} object
+     * @param <SP> the type of the property in the {@code source} object to map from
+     * @param <TP> the type of the property in the {@code target} object to map to
+     * @return this builder
+     */
+    public <SP, TP> EasyObjectMapperBuilder<S, T> map(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            BiConsumer<? super T, ? super TP> setter
+    ) {
+        return add(new FunctionalPropertyMapper<>(getter, converter, setter));
+    }
+
+    /**
+     * Adds a property of type {@link SP} from {@code source}, converted to type {@link TP}, to a {@link Collection}
+     * property in {@code target}.
+     * @param getter returns the property in the {@code source} object
+     * @param converter converts the source property to the element to add
+     * @param collectionGetter returns the {@link Collection} property in the {@code target} object
+     * @param clearCollectionUponAdding if {@code true}, the {@link Collection} property is cleared when adding to it
+     * @param <SP> the type of the property in the {@code source} object to map from
+     * @param <TP> the type of the elements of the {@link Collection} property in the {@code target} object
+     * @return this builder
+     */
+    public <SP, TP> EasyObjectMapperBuilder<S, T> addToCollection(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            Function<? super T, ? extends Collection<TP>> collectionGetter,
+            boolean clearCollectionUponAdding
+    ) {
+        return add(new FunctionalCollectionPropertyMapper<>(
+                getter,
+                converter,
+                collectionGetter,
+                clearCollectionUponAdding
+        ));
+    }
+
+    /**
+     * Maps the properties of an object property of type {@link SP} in {@code source} to the existing object property of
+     * type {@link TP} in {@code target} using {@code innerMapper}.
+     * @param getter returns the object property in the {@code source} object
+     * @param targetGetter returns the object property in the {@code target} object
+     * @param innerMapper the mapper for mapping properties from the source object property to the target object
+     *                    property, which may itself have been built by an {@link EasyObjectMapperBuilder}
+     * @param <SP> the type of the object property in the {@code source} object to map from
+     * @param <TP> the type of the object property in the {@code target} object to map to
+     * @return this builder
+     */
+    public <SP, TP> EasyObjectMapperBuilder<S, T> nested(
+            Function<? super S, ? extends SP> getter,
+            Function<? super T, ? extends TP> targetGetter,
+            Mapper<SP, TP> innerMapper
+    ) {
+        return add(new FunctionalObjectPropertyMapper<S, SP, T, TP>(
+                getter,
+                targetGetter,
+                Collections.singletonList(innerMapper)
+        ));
+    }
+
+    /**
+     * Converts an object property of type {@link SP} in {@code source} to a new object property of type {@link TP},
+     * sets it to {@code target} and then maps the properties of the former to the latter using {@code innerMapper}.
+     * @param getter returns the object property in the {@code source} object
+     * @param converter converts the source object property to a new target object property
+     * @param setter sets the target object property to the {@code target} object
+     * @param innerMapper the mapper for mapping properties from the source object property to the target object
+     *                    property, which may itself have been built by an {@link EasyObjectMapperBuilder}
+     * @param <SP> the type of the object property in the {@code source} object to map from
+     * @param <TP> the type of the object property in the {@code target} object to map to
+     * @return this builder
+     */
+    public <SP, TP> EasyObjectMapperBuilder<S, T> nested(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            BiConsumer<? super T, ? super TP> setter,
+            Mapper<SP, TP> innerMapper
+    ) {
+        return add(new FunctionalObjectPropertyMapper<S, SP, T, TP>(
+                getter,
+                converter,
+                setter,
+                Collections.singletonList(innerMapper)
+        ));
+    }
+
+    /**
+     * Adds any other {@link Mapper} to be called, in the order it was added, by the built {@link EasyObjectMapper}.
+     * @param mapper the mapper to add
+     * @return this builder
+     */
+    public EasyObjectMapperBuilder<S, T> add(Mapper<S, T> mapper) {
+        innerMappers.add(mapper);
+        return this;
+    }
+
+    /**
+     * Builds an {@link EasyObjectMapper} that calls the mappers added to this builder in the order they were added.
+     * The builder can continue to be used afterwards without affecting the built mapper.
+     * @return the built {@link EasyObjectMapper}
+     */
+    public EasyObjectMapper<S, T> build() {
+        return new EasyObjectMapper<>(innerMappers);
+    }
+}
\ No newline at end of file
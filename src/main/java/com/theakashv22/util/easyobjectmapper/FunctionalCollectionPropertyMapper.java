@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * This {@link AddSingleToCollectionPropertyMapper} delegates to the functions supplied into its constructor, and maps
+ * each {@link Collection} property added to by an {@link EasyObjectMapperBuilder}.
+ * @param <S> the type of the {@code source} object to obtain the property of type {@link SP} from
+ * @param <SP> the type of the property in the {@code source} object to map from
+ * @param <T> the type of the {@code target} object that contains the {@link Collection} property of type {@link TP}
+ * @param <TP> the type of the {@link Collection} property in the {@code target} object to add to
+ */
+final class FunctionalCollectionPropertyMapper<S, SP, T, TP> extends AddSingleToCollectionPropertyMapper<S, SP, T, TP> {
+    private final Function<? super S, ? extends SP> getter;
+    private final Function<? super SP, ? extends TP> converter;
+    private final Function<? super T, ? extends Collection<TP>> collectionGetter;
+
+    FunctionalCollectionPropertyMapper(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            Function<? super T, ? extends Collection<TP>> collectionGetter,
+            boolean clearCollectionUponAdding
+    ) {
+        super(clearCollectionUponAdding);
+        this.getter = getter;
+        this.converter = converter;
+        this.collectionGetter = collectionGetter;
+    }
+
+    @Override
+    protected SP getPropertyFromSource(S source) {
+        return getter.apply(source);
+    }
+
+    @Override
+    protected Collection<TP> getPropertyFromTarget(T target) {
+        return collectionGetter.apply(target);
+    }
+
+    @Override
+    protected TP convert(SP sourceProperty) {
+        return converter.apply(sourceProperty);
+    }
+}
\ No newline at end of file
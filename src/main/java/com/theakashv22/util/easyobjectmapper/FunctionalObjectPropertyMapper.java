@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This {@link SourceToTargetObjectPropertyMapper} delegates to the functions supplied into its constructors, and maps
+ * each nested object property mapped by an {@link EasyObjectMapperBuilder}.
+ * @param <S> the type of the {@code source} object to map the object property of type {@link SP} from
+ * @param <SP> the type of the object property in the {@code source} object to map from
+ * @param <T> the type of the {@code target} object to map the object property of type {@link TP} to
+ * @param <TP> the type of the object property in the {@code target} object to map to
+ */
+final class FunctionalObjectPropertyMapper<S, SP, T, TP> extends SourceToTargetObjectPropertyMapper<S, SP, T, TP> {
+    private final Function<? super S, ? extends SP> getter;
+    private final Function<? super SP, ? extends TP> converter;
+    private final BiConsumer<? super T, ? super TP> setter;
+    private final Function<? super T, ? extends TP> targetGetter;
+
+    /**
+     * Constructor of {@link FunctionalObjectPropertyMapper} that converts the source object property to a new target
+     * object property, sets it to the {@code target} object and then maps to it using the {@code innerMappers}.
+     * @param getter returns the object property in the {@code source} object
+     * @param converter converts the source object property to a new target object property
+     * @param setter sets the target object property to the {@code target} object
+     * @param innerMappers the mappers for mapping properties from the source object property to the target object
+     *                     property
+     */
+    FunctionalObjectPropertyMapper(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            BiConsumer<? super T, ? super TP> setter,
+            Collection<? extends Mapper<SP, TP>> innerMappers
+    ) {
+        super(true, innerMappers);
+        this.getter = getter;
+        this.converter = converter;
+        this.setter = setter;
+        this.targetGetter = null;
+    }
+
+    /**
+     * Constructor of {@link FunctionalObjectPropertyMapper} that maps to the existing target object property using the
+     * {@code innerMappers}.
+     * @param getter returns the object property in the {@code source} object
+     * @param targetGetter returns the object property in the {@code target} object
+     * @param innerMappers the mappers for mapping properties from the source object property to the target object
+     *                     property
+     */
+    FunctionalObjectPropertyMapper(
+            Function<? super S, ? extends SP> getter,
+            Function<? super T, ? extends TP> targetGetter,
+            Collection<? extends Mapper<SP, TP>> innerMappers
+    ) {
+        super(false, innerMappers);
+        this.getter = getter;
+        this.converter = null;
+        this.setter = null;
+        this.targetGetter = targetGetter;
+    }
+
+    @Override
+    protected SP getPropertyFromSource(S source) {
+        return getter.apply(source);
+    }
+
+    @Override
+    protected void setPropertyToTarget(T target, TP targetProperty) {
+        setter.accept(target, targetProperty);
+    }
+
+    @Override
+    protected TP convert(SP sourceProperty) {
+        return converter.apply(sourceProperty);
+    }
+
+    @Override
+    protected TP getPropertyFromTarget(T target) {
+        return targetGetter.apply(target);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This {@link SourceToTargetPropertyMapper} delegates to the functions supplied into its constructor, and maps each
+ * property mapped by an {@link EasyObjectMapperBuilder}.
+ * @param <S> the type of the {@code source} object to map the property of type {@link SP} from
+ * @param <SP> the type of the property in the {@code source} object to map from
+ * @param <T> the type of the {@code target} object to map the property of type {@link TP} to
+ * @param <TP> the type of the property in the {@code target} object to map to
+ */
+final class FunctionalPropertyMapper<S, SP, T, TP> extends SourceToTargetPropertyMapper<S, SP, T, TP> {
+    private final Function<? super S, ? extends SP> getter;
+    private final Function<? super SP, ? extends TP> converter;
+    private final BiConsumer<? super T, ? super TP> setter;
+
+    FunctionalPropertyMapper(
+            Function<? super S, ? extends SP> getter,
+            Function<? super SP, ? extends TP> converter,
+            BiConsumer<? super T, ? super TP> setter
+    ) {
+        this.getter = getter;
+        this.converter = converter;
+        this.setter = setter;
+    }
+
+    @Override
+    protected SP getPropertyFromSource(S source) {
+        return getter.apply(source);
+    }
+
+    @Override
+    protected void setPropertyToTarget(T target, TP targetProperty) {
+        setter.accept(target, targetProperty);
+    }
+
+    @Override
+    protected TP convert(SP sourceProperty) {
+        return converter.apply(sourceProperty);
+    }
+}
\ No newline at end of file
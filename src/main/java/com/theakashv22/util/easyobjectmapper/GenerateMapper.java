@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface extending {@link Mapper} for which the {@code easy-object-mapper-processor} annotation processor
+ * generates an implementation at compile time.<br><br>
+ * The generated class is named after the annotated interface with {@code Impl} appended, and its
+ * {@link Mapper#map(Object, Object)} implementation calls each setter of the {@code target} type with the value
+ * returned by the getter of the same property in the {@code source} type. If the value cannot be passed to the setter
+ * as it is, it is converted by the {@code default} method of the annotated interface that takes the getter's type and
+ * returns a type the setter accepts.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper {
+    /**
+     * Returns the names of the {@code target} properties that the generated mapper should not map.
+     * @return the names of the properties to ignore, which are empty by default
+     */
+    String[] ignoredProperties() default {};
+}
\ No newline at end of file
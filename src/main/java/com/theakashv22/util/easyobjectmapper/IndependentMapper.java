@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link Mapper} that declares which properties of the {@code target} object it writes to and roughly how expensive
+ * it is to call, so that a {@link ParallelEasyObjectMapper} can call it concurrently with its other
+ * {@code innerMappers}.<br><br>
+ * An {@link IndependentMapper} must only write to the {@code target} properties in its {@link #getTargetWriteSet()},
+ * and must not read any {@code target} property that another {@code innerMapper} writes to.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public interface IndependentMapper<S, T> extends Mapper<S, T> {
+    /**
+     * Returns the names of the properties of the {@code target} object this mapper writes to. Two mappers are only
+     * called concurrently if the names they return are disjoint.
+     * @return the names of the {@code target} properties written to by {@link #map(Object, Object)}
+     */
+    Set<String> getTargetWriteSet();
+
+    /**
+     * Returns an estimate of how expensive a single call to {@link #map(Object, Object)} is, for example in
+     * nanoseconds. This is compared against the {@code costThreshold} of a {@link ParallelEasyObjectMapper}, and
+     * mappers cheaper than it are called on the calling thread since handing them to another thread would cost more
+     * than it saves.
+     * @return the estimated cost of calling {@link #map(Object, Object)}
+     */
+    long getCost();
+
+    /**
+     * Returns an {@link IndependentMapper} that calls {@code mapper}, passing batches to
+     * {@link Mapper#mapAll(List, List)} as they are, and declares the {@code cost} and {@code targetWriteSet}
+     * supplied.
+     * @param mapper the {@link Mapper} to call
+     * @param cost the estimated cost of calling {@code mapper}
+     * @param targetWriteSet the names of the {@code target} properties written to by {@code mapper}
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @return the {@link IndependentMapper}
+     */
+    static <S, T> IndependentMapper<S, T> of(Mapper<S, T> mapper, long cost, String... targetWriteSet) {
+        Set<String> targetWriteSetCopy = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(targetWriteSet)));
+        return new IndependentMapper<S, T>() {
+            @Override
+            public void map(S source, T target) {
+                mapper.map(source, target);
+            }
+
+            @Override
+            public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+                mapper.mapAll(sources, targets);
+            }
+
+            @Override
+            public Set<String> getTargetWriteSet() {
+                return targetWriteSetCopy;
+            }
+
+            @Override
+            public long getCost() {
+                return cost;
+            }
+        };
+    }
+}
\ No newline at end of file
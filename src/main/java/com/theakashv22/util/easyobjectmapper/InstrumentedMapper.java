@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.List;
+
+/**
+ * This mapper wraps a {@link Mapper} and records the invocations, failures and latencies of its
+ * {@link #map(Object, Object)} calls in {@link MapperMetrics}, under the path it was instrumented with.
+ * <br><br>
+ * While {@link MapperMetrics} is disabled, this does nothing but check whether it is enabled and call the mapper it was
+ * instrumented from, rather than the instrumented copy, so that none of the instrumented mappers below it are called
+ * either. Instrumentation can therefore be left in place in production and enabled when needed.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public final class InstrumentedMapper<S, T> implements Mapper<S, T> {
+    private final Mapper<S, T> mapper;
+    private final Mapper<S, T> uninstrumentedMapper;
+    private final MapperMetrics metrics;
+    private final MapperNodeMetrics nodeMetrics;
+    private final String path;
+
+    InstrumentedMapper(
+            Mapper<S, T> mapper,
+            Mapper<S, T> uninstrumentedMapper,
+            MapperMetrics metrics,
+            MapperNodeMetrics nodeMetrics,
+            String path
+    ) {
+        this.mapper = mapper;
+        this.uninstrumentedMapper = uninstrumentedMapper;
+        this.metrics = metrics;
+        this.nodeMetrics = nodeMetrics;
+        this.path = path;
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} using the wrapped mapper, recording the invocation if
+     * {@link MapperMetrics} is enabled, or using the mapper it was instrumented from otherwise.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     */
+    @Override
+    public void map(S source, T target) {
+        if (!metrics.isEnabled()) {
+            uninstrumentedMapper.map(source, target);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            mapper.map(source, target);
+            succeeded = true;
+        } finally {
+            nodeMetrics.record(System.nanoTime() - startNanos, succeeded);
+        }
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets} by
+     * passing the batch as it is to {@link Mapper#mapAll(List, List)} of the wrapped mapper, so that its batch
+     * behaviour is kept, or of the mapper it was instrumented from while {@link MapperMetrics} is disabled. The whole
+     * batch is recorded as a single invocation.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        if (!metrics.isEnabled()) {
+            uninstrumentedMapper.mapAll(sources, targets);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            mapper.mapAll(sources, targets);
+            succeeded = true;
+        } finally {
+            nodeMetrics.record(System.nanoTime() - startNanos, succeeded);
+        }
+    }
+
+    /**
+     * Returns the path this mapper was instrumented with, under which its metrics can be queried from
+     * {@link MapperMetrics#getSnapshot(String)}.
+     * @return the path of this mapper
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the wrapped mapper.
+     * @return the mapper whose invocations are recorded
+     */
+    public Mapper<S, T> getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Returns the mapper this was instrumented from, which is called instead of the wrapped mapper while
+     * {@link MapperMetrics} is disabled.
+     * @return the mapper whose invocations are not recorded
+     */
+    Mapper<S, T> getUninstrumentedMapper() {
+        return uninstrumentedMapper;
+    }
+}
\ No newline at end of file
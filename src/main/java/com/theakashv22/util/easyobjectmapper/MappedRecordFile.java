@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * A file of fixed-size binary records laid out as declared by a {@link BinaryRecordLayout}, which is read by memory
+ * mapping it and moving a single {@link BinaryRecord} across it, so that the mappers reading from it as their
+ * {@code source} object read each field in place rather than from a deserialized copy of the record.<br><br>
+ * Files larger than a single {@link MappedByteBuffer} can hold are mapped one window of whole records at a time, so
+ * however large the file is, reading it allocates no more than one {@link MappedByteBuffer} per window, and no more
+ * {@code target} objects than the caller supplies.<br><br>
+ * Several threads may each call {@link #forEach(long, long, Mapper, Object, Consumer)} on a different range of
+ * records at once, with their own {@code target} objects.
+ */
+public final class MappedRecordFile implements Closeable {
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final BinaryRecordLayout layout;
+    private final ByteOrder order;
+    private final long recordCount;
+    private final int recordsPerWindow;
+
+    private MappedRecordFile(
+            FileChannel channel,
+            BinaryRecordLayout layout,
+            ByteOrder order,
+            long recordCount,
+            int recordsPerWindow
+    ) {
+        this.channel = channel;
+        this.layout = layout;
+        this.order = order;
+        this.recordCount = recordCount;
+        this.recordsPerWindow = recordsPerWindow;
+    }
+
+    /**
+     * Opens the file at {@code path} for reading big-endian records laid out as declared by {@code layout}, mapping up
+     * to 1 GiB of it at a time.
+     * @param path the path of the file
+     * @param layout the {@link BinaryRecordLayout} of each record
+     * @return the opened {@link MappedRecordFile}, which must be closed once read
+     * @throws IOException if the file cannot be opened, or its size is not a whole number of records
+     */
+    public static MappedRecordFile open(Path path, BinaryRecordLayout layout) throws IOException {
+        return open(path, layout, ByteOrder.BIG_ENDIAN, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens the file at {@code path} for reading records laid out as declared by {@code layout}.
+     * @param path the path of the file
+     * @param layout the {@link BinaryRecordLayout} of each record
+     * @param order the {@link ByteOrder} the records were written in
+     * @param windowSize the maximum number of bytes to map at a time, which is rounded down to a whole number of
+     *                   records
+     * @return the opened {@link MappedRecordFile}, which must be closed once read
+     * @throws IllegalArgumentException if {@code layout} has no fields, or {@code windowSize} is smaller than a record
+     * @throws IOException if the file cannot be opened, or its size is not a whole number of records
+     */
+    public static MappedRecordFile open(Path path, BinaryRecordLayout layout, ByteOrder order, int windowSize)
+            throws IOException {
+        int recordSize = layout.getSize();
+        if (recordSize < 1) {
+            throw new IllegalArgumentException("layout must have at least 1 byte, but had " + recordSize + ".");
+        }
+        if (windowSize < recordSize) {
+            throw new IllegalArgumentException(
+                    "windowSize must be at least " + recordSize + ", but was " + windowSize + "."
+            );
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size % recordSize != 0) {
+                throw new IOException(
+                        path + " has " + size + " bytes, which is not a whole number of " + recordSize
+                                + "-byte records."
+                );
+            }
+            return new MappedRecordFile(channel, layout, order, size / recordSize, windowSize / recordSize);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the number of records in the file.
+     * @return the number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the {@link BinaryRecordLayout} of each record.
+     * @return the {@link BinaryRecordLayout}
+     */
+    public BinaryRecordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Maps every record in the file into {@code target} in turn using {@code mapper}, passing {@code target} to
+     * {@code action} after each record.
+     * @param mapper the {@link Mapper} to map each record with
+     * @param target the object of type {@link T} to map each record into, which is reused for every record
+     * @param action the action to use the mapped object of type {@link T} in, which must not keep a reference to the
+     *               {@link BinaryRecord} it was mapped from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @throws IOException if the file cannot be mapped
+     */
+    public <T> void forEach(Mapper<? super BinaryRecord, ? super T> mapper, T target, Consumer<? super T> action)
+            throws IOException {
+        forEach(0, recordCount, mapper, target, action);
+    }
+
+    /**
+     * Maps the records from {@code fromRecord}, inclusive, to {@code toRecord}, exclusive, into {@code target} in
+     * turn using {@code mapper}, passing {@code target} to {@code action} after each record.
+     * @param fromRecord the index of the first record to map
+     * @param toRecord the index after the last record to map
+     * @param mapper the {@link Mapper} to map each record with
+     * @param target the object of type {@link T} to map each record into, which is reused for every record
+     * @param action the action to use the mapped object of type {@link T} in, which must not keep a reference to the
+     *               {@link BinaryRecord} it was mapped from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @throws IndexOutOfBoundsException if the range is not within the records of the file
+     * @throws IOException if the file cannot be mapped
+     */
+    public <T> void forEach(
+            long fromRecord,
+            long toRecord,
+            Mapper<? super BinaryRecord, ? super T> mapper,
+            T target,
+            Consumer<? super T> action
+    ) throws IOException {
+        if (fromRecord < 0 || fromRecord > toRecord || toRecord > recordCount) {
+            throw new IndexOutOfBoundsException(
+                    "Records " + fromRecord + " to " + toRecord + " are not within the " + recordCount
+                            + " records of the file."
+            );
+        }
+
+        int recordSize = layout.getSize();
+        BinaryRecord record = new BinaryRecord(layout);
+        for (long windowStart = fromRecord; windowStart < toRecord; windowStart += recordsPerWindow) {
+            int windowRecordCount = (int) Math.min(recordsPerWindow, toRecord - windowStart);
+            MappedByteBuffer window = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    windowStart * recordSize,
+                    (long) windowRecordCount * recordSize
+            );
+            window.order(order);
+            for (int i = 0; i < windowRecordCount; i++) {
+                mapper.map(record.wrap(window, i * recordSize), target);
+                action.accept(target);
+            }
+        }
+    }
+
+    /**
+     * Closes the file. Windows already mapped stay valid until they are garbage collected.
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
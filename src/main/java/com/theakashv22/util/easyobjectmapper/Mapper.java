@@ -16,8 +16,35 @@
 
 package com.theakashv22.util.easyobjectmapper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 /**
  * This is an interface for mapping the properties from an object of type {@link S} to an object of type {@link T}.
+ * <br><br>
+ * The implementations of {@link #map(Object, Object)} in {@link EasyObjectMapper}, the property mappers (such as
+ * {@link SourceToTargetPropertyMapper}, {@link SourceToTargetObjectPropertyMapper},
+ * {@link CollectionToCollectionPropertyMapper} and {@link LongToDoublePropertyMapper}), {@link DirtyTrackingMapper},
+ * {@link InstrumentedMapper}, {@link ParallelBatchMapper}, {@link VirtualThreadMapper} and the mappers returned by
+ * {@link BinaryRecordLayout} do not allocate any objects themselves, so anything allocated while mapping is allocated
+ * by the methods they delegate to. The exceptions are:
+ * <ul>
+ *     <li>{@link SourceToTargetObjectPropertyMapper} skipping unchanged {@link VersionStamped} properties, which
+ *     allocates an entry the first time it maps to each {@code target} object</li>
+ *     <li>{@link ParallelEasyObjectMapper}, which allocates a task for each independent inner mapper it hands to its
+ *     {@link java.util.concurrent.Executor}, once per call rather than once per object when mapping a batch by
+ *     {@link #mapAll(List, List)}</li>
+ *     <li>{@link MappingContext#map(Mapper, Object, Object)}, which records each converted property</li>
+ *     <li>{@link ConstructingMapper}, which allocates the objects it constructs</li>
+ * </ul>
+ * The other methods of these mappers, such as {@link #mapAll(List, List)} and
+ * {@link VirtualThreadMapper#mapAsync(Object, Object)}, may allocate.
  * @param <S> the type of the {@code source} object to map properties from
  * @param <T> the type of the {@code target} object to map properties to
  */
@@ -28,4 +55,114 @@ public interface Mapper<S, T> {
      * @param target the object of type {@link T} to map properties to
      */
     void map(S source, T target);
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets}.
+     * <br><br>
+     * The default implementation calls {@link #map(Object, Object)} for each pair of objects in order. Implementations
+     * may map the batch in a different order, e.g. one property at a time across all pairs, so each {@code target}
+     * object should only be mapped to once per batch.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    default void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        for (int i = 0, size = sources.size(); i < size; i++) {
+            map(sources.get(i), targets.get(i));
+        }
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in the preallocated
+     * {@code targets} array by calling {@link #mapAll(List, List)}.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same length as
+     *                {@code sources}
+     * @return {@code targets}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same length
+     */
+    default T[] mapAll(S[] sources, T[] targets) {
+        mapAll(Arrays.asList(sources), Arrays.asList(targets));
+        return targets;
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to a new object obtained from {@code targetSupplier} by
+     * calling {@link #mapAll(List, List)}.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targetSupplier supplies a new object of type {@link T} for each object in {@code sources}
+     * @return a {@link List}, presized to the number of {@code sources}, of the mapped objects of type {@link T} in the
+     * same order as {@code sources}
+     */
+    default List<T> mapAll(Iterable<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        List<? extends S> sourceList = Batches.toList(sources);
+        int size = sourceList.size();
+
+        List<T> targets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            targets.add(targetSupplier.get());
+        }
+
+        mapAll(sourceList, targets);
+        return targets;
+    }
+
+    /**
+     * Returns a {@link Stream} that lazily maps the properties from each object in {@code sources} to a new object
+     * obtained from {@code targetSupplier}, so that no more objects are held in memory than the stream pipeline holds
+     * itself, however many objects {@code sources} has.<br><br>
+     * The returned {@link Stream} is sized, ordered and parallel whenever {@code sources} is, and closing it closes
+     * {@code sources}.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targetSupplier supplies a new object of type {@link T} for each object in {@code sources}
+     * @return a {@link Stream} of the mapped objects of type {@link T} in the same order as {@code sources}
+     */
+    default Stream<T> stream(Stream<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        return sources.map(source -> {
+            T target = targetSupplier.get();
+            map(source, target);
+            return target;
+        });
+    }
+
+    /**
+     * Returns an {@link Iterator} that maps the properties from each object in {@code sources} to a new object
+     * obtained from {@code targetSupplier} as it is iterated over. Removing from the returned {@link Iterator} removes
+     * from {@code sources}.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targetSupplier supplies a new object of type {@link T} for each object in {@code sources}
+     * @return an {@link Iterator} over the mapped objects of type {@link T} in the same order as {@code sources}
+     */
+    default Iterator<T> iterator(Iterator<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        return new MappingIterator<>(this, sources, targetSupplier);
+    }
+
+    /**
+     * Returns a {@link Spliterator} that maps the properties from each object in {@code sources} to a new object
+     * obtained from {@code targetSupplier} as it is traversed.<br><br>
+     * The returned {@link Spliterator} splits whenever {@code sources} does, and keeps its
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED},
+     * {@link Spliterator#IMMUTABLE} and {@link Spliterator#CONCURRENT} characteristics.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targetSupplier supplies a new object of type {@link T} for each object in {@code sources}
+     * @return a {@link Spliterator} over the mapped objects of type {@link T}
+     */
+    default Spliterator<T> spliterator(Spliterator<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        return new MappingSpliterator<>(this, sources, targetSupplier);
+    }
+
+    /**
+     * Maps the properties from {@code source} to an object borrowed from {@code pool}, passes that object to
+     * {@code action} and returns it to {@code pool} by calling {@link TargetPool#map(Mapper, Object, Consumer)}, so
+     * that no {@code target} object is allocated once {@code pool} has warmed up.
+     * @param source the object of type {@link S} to map properties from
+     * @param pool the {@link TargetPool} to borrow the {@code target} object from
+     * @param action the action to use the mapped object of type {@link T} in, which must not keep a reference to it
+     */
+    default void mapPooled(S source, TargetPool<? extends T> pool, Consumer<? super T> action) {
+        pool.map(this, source, action);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This collects the metrics of mapper trees instrumented by {@link #instrument(String, Mapper)}, and can be enabled
+ * and disabled at any time. Metrics are only recorded while it is enabled, which it is when constructed.
+ */
+public final class MapperMetrics {
+    private static final String PATH_SEPARATOR = "/";
+
+    private final ConcurrentMap<String, MapperNodeMetrics> nodeMetricsByPath = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    /**
+     * Returns an instrumented copy of {@code mapper}, in which it and every mapper below it is wrapped in an
+     * {@link InstrumentedMapper} recording its metrics under its path in the tree. The path of {@code mapper} is
+     * {@code path}, and the path of each inner mapper of an {@link EasyObjectMapper},
+     * {@link SourceToTargetObjectPropertyMapper} or {@link CollectionToCollectionPropertyMapper} is the path of that
+     * mapper followed by {@code /} and the index of the inner mapper among the {@code innerMappers} supplied into its
+     * constructor, so paths follow the tree as it was built rather than as it was optimised.<br><br>
+     * {@code mapper} and the mappers below it are left as they are, so they can be shared with other trees, and used by
+     * other threads while being instrumented. Each of those three kinds of mapper is copied with instrumented
+     * {@code innerMappers}, unless it overrides {@link Mapper#map(Object, Object)} or
+     * {@link Mapper#mapAll(List, List)}, in which case it is instrumented as a whole. Mappers that
+     * are already {@link InstrumentedMapper}s are left as they are, and instrumenting a mapper under a path that is
+     * already in use adds to the metrics recorded under that path.
+     * @param path the path of {@code mapper}
+     * @param mapper the root of the mapper tree to instrument
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @return the {@link InstrumentedMapper} wrapping the instrumented copy of {@code mapper}, to be used in its place
+     */
+    public <S, T> InstrumentedMapper<S, T> instrument(String path, Mapper<S, T> mapper) {
+        if (mapper instanceof InstrumentedMapper) {
+            return (InstrumentedMapper<S, T>) mapper;
+        }
+
+        MapperNodeMetrics nodeMetrics = nodeMetricsByPath.computeIfAbsent(path, key -> new MapperNodeMetrics());
+        return new InstrumentedMapper<>(
+                copyWithInstrumentedInnerMappers(path, mapper),
+                mapper,
+                this,
+                nodeMetrics,
+                path
+        );
+    }
+
+    private <S, T> Mapper<S, T> copyWithInstrumentedInnerMappers(String path, Mapper<S, T> mapper) {
+        if (mapper instanceof EasyObjectMapper && !overridesMapping(mapper, EasyObjectMapper.class)) {
+            return new EasyObjectMapper<>(
+                    instrumentInnerMappers(path, ((EasyObjectMapper<S, T>) mapper).getDeclaredInnerMappers())
+            );
+        } else if (mapper instanceof SourceToTargetObjectPropertyMapper
+                && !overridesMapping(mapper, SourceToTargetObjectPropertyMapper.class)) {
+            return copyWithInstrumentedInnerMappers(path, (SourceToTargetObjectPropertyMapper<S, ?, T, ?>) mapper);
+        } else if (mapper instanceof CollectionToCollectionPropertyMapper
+                && !overridesMapping(mapper, CollectionToCollectionPropertyMapper.class)) {
+            return copyWithInstrumentedInnerMappers(path, (CollectionToCollectionPropertyMapper<S, ?, T, ?>) mapper);
+        }
+        return mapper;
+    }
+
+    private <S, SP, T, TP> Mapper<S, T> copyWithInstrumentedInnerMappers(
+            String path,
+            SourceToTargetObjectPropertyMapper<S, SP, T, TP> mapper
+    ) {
+        return new ObjectPropertyMapperCopy<>(mapper, instrumentInnerMappers(path, mapper.getDeclaredInnerMappers()));
+    }
+
+    private <S, SP, T, TP> Mapper<S, T> copyWithInstrumentedInnerMappers(
+            String path,
+            CollectionToCollectionPropertyMapper<S, SP, T, TP> mapper
+    ) {
+        return new CollectionPropertyMapperCopy<>(
+                mapper,
+                instrumentInnerMappers(path, mapper.getDeclaredInnerMappers())
+        );
+    }
+
+    private <S, T> List<Mapper<S, T>> instrumentInnerMappers(String path, List<Mapper<S, T>> innerMappers) {
+        List<Mapper<S, T>> instrumentedInnerMappers = new ArrayList<>(innerMappers.size());
+        for (int i = 0; i < innerMappers.size(); i++) {
+            instrumentedInnerMappers.add(instrument(path + PATH_SEPARATOR + i, innerMappers.get(i)));
+        }
+        return instrumentedInnerMappers;
+    }
+
+    private static boolean overridesMapping(Mapper<?, ?> mapper, Class<?> mapperClass) {
+        for (Method method : mapper.getClass().getMethods()) {
+            if ((method.getName().equals("map") || method.getName().equals("mapAll"))
+                    && !method.getDeclaringClass().isAssignableFrom(mapperClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether metrics are currently being recorded.
+     * @return {@code true} if metrics are being recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the recording of metrics by all mappers instrumented by this.
+     * @param enabled {@code true} to record metrics, {@code false} to stop recording them
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the metrics recorded so far under {@code path}.
+     * @param path the path of an instrumented mapper
+     * @return the metrics of the mapper, or {@code null} if no mapper was instrumented under {@code path}
+     */
+    public MapperMetricsSnapshot getSnapshot(String path) {
+        MapperNodeMetrics nodeMetrics = nodeMetricsByPath.get(path);
+        return nodeMetrics == null ? null : nodeMetrics.snapshot(path);
+    }
+
+    /**
+     * Returns the metrics recorded so far for every instrumented mapper.
+     * @return the metrics of each instrumented mapper, sorted by path
+     */
+    public SortedMap<String, MapperMetricsSnapshot> getSnapshots() {
+        SortedMap<String, MapperMetricsSnapshot> snapshots = new TreeMap<>();
+        for (Map.Entry<String, MapperNodeMetrics> entry : nodeMetricsByPath.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * A copy of a {@link SourceToTargetObjectPropertyMapper} with instrumented {@code innerMappers}, which delegates
+     * everything else to the original mapper.
+     */
+    private static final class ObjectPropertyMapperCopy<S, SP, T, TP>
+            extends SourceToTargetObjectPropertyMapper<S, SP, T, TP> {
+        private final SourceToTargetObjectPropertyMapper<S, SP, T, TP> mapper;
+
+        private ObjectPropertyMapperCopy(
+                SourceToTargetObjectPropertyMapper<S, SP, T, TP> mapper,
+                List<Mapper<SP, TP>> innerMappers
+        ) {
+            super(mapper.isConvertingSourceToTargetProperty(), mapper.isSkippingUnchangedVersionStamps(), innerMappers);
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected SP getPropertyFromSource(S source) {
+            return mapper.getPropertyFromSource(source);
+        }
+
+        @Override
+        protected void setPropertyToTarget(T target, TP targetProperty) {
+            mapper.setPropertyToTarget(target, targetProperty);
+        }
+
+        @Override
+        protected TP convert(SP sourceProperty) {
+            return mapper.convert(sourceProperty);
+        }
+
+        @Override
+        protected TP getPropertyFromTarget(T target) {
+            return mapper.getPropertyFromTarget(target);
+        }
+
+        @Override
+        Mapper<?, ?> getTrackedMapper() {
+            return mapper.getTrackedMapper();
+        }
+    }
+
+    /**
+     * A copy of a {@link CollectionToCollectionPropertyMapper} with instrumented {@code innerMappers}, which delegates
+     * everything else to the original mapper.
+     */
+    private static final class CollectionPropertyMapperCopy<S, SP, T, TP>
+            extends CollectionToCollectionPropertyMapper<S, SP, T, TP> {
+        private final CollectionToCollectionPropertyMapper<S, SP, T, TP> mapper;
+
+        private CollectionPropertyMapperCopy(
+                CollectionToCollectionPropertyMapper<S, SP, T, TP> mapper,
+                List<Mapper<SP, TP>> innerMappers
+        ) {
+            super(mapper.isClearingCollectionUponAdding(), innerMappers);
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected Collection<? extends SP> getPropertyFromSource(S source) {
+            return mapper.getPropertyFromSource(source);
+        }
+
+        @Override
+        protected Collection<TP> getPropertyFromTarget(T target) {
+            return mapper.getPropertyFromTarget(target);
+        }
+
+        @Override
+        protected TP convert(SP sourceProperty) {
+            return mapper.convert(sourceProperty);
+        }
+    }
+}
\ No newline at end of file
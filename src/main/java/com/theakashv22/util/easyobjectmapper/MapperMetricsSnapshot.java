@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+/**
+ * This is a point-in-time copy of the metrics recorded for a single node of a mapper tree instrumented by
+ * {@link MapperMetrics}.<br><br>
+ * Latencies are counted in a histogram of {@value #LATENCY_BUCKET_COUNT} buckets, where bucket {@code 0} counts
+ * latencies of {@code 0} nanoseconds and bucket {@code n} counts latencies from {@code 2^(n-1)} up to {@code 2^n - 1}
+ * nanoseconds. Since the latency of a node includes that of the nodes below it, the metrics are most useful when
+ * compared between siblings.
+ */
+public final class MapperMetricsSnapshot {
+    /**
+     * The number of buckets in the latency histogram, which covers every non-negative {@code long} latency.
+     */
+    public static final int LATENCY_BUCKET_COUNT = Long.SIZE;
+
+    private final String path;
+    private final long invocationCount;
+    private final long failureCount;
+    private final long totalLatencyNanos;
+    private final long[] latencyHistogram;
+
+    MapperMetricsSnapshot(
+            String path,
+            long invocationCount,
+            long failureCount,
+            long totalLatencyNanos,
+            long[] latencyHistogram
+    ) {
+        this.path = path;
+        this.invocationCount = invocationCount;
+        this.failureCount = failureCount;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    /**
+     * Returns the histogram bucket that counts {@code latencyNanos}.
+     * @param latencyNanos a latency in nanoseconds
+     * @return the index of the bucket, between {@code 0} and {@code LATENCY_BUCKET_COUNT - 1}
+     */
+    static int getLatencyBucket(long latencyNanos) {
+        return latencyNanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(latencyNanos);
+    }
+
+    /**
+     * Returns the path of the node in the instrumented mapper tree, which is the path supplied into
+     * {@link MapperMetrics#instrument(String, Mapper)} followed by the index of each inner mapper below it among the
+     * {@code innerMappers} supplied into the constructor of its parent, separated by {@code /}.
+     * @return the path of the node
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the number of times the node was called while {@link MapperMetrics} was enabled.
+     * @return the number of invocations
+     */
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * Returns the number of times the node threw an exception while {@link MapperMetrics} was enabled.
+     * @return the number of failed invocations
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the sum of the latencies of all invocations of the node.
+     * @return the total latency in nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+    /**
+     * Returns the mean latency of the invocations of the node.
+     * @return the mean latency in nanoseconds, or {@code 0} if the node was not called
+     */
+    public double getMeanLatencyNanos() {
+        return invocationCount == 0 ? 0 : (double) totalLatencyNanos / invocationCount;
+    }
+
+    /**
+     * Returns the number of invocations counted in a bucket of the latency histogram.
+     * @param bucket the index of the bucket
+     * @return the number of invocations whose latency falls in the bucket
+     */
+    public long getLatencyBucketCount(int bucket) {
+        return latencyHistogram[bucket];
+    }
+
+    /**
+     * Returns an upper bound of the latency below which {@code percentile} percent of the invocations of the node
+     * fall, at the resolution of the latency histogram.
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @return the upper bound of the histogram bucket containing the percentile in nanoseconds, or {@code 0} if the
+     * node was not called
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        long histogramCount = 0;
+        for (long bucketCount : latencyHistogram) {
+            histogramCount += bucketCount;
+        }
+        long rank = (long) Math.ceil(histogramCount * percentile / 100);
+
+        long count = 0;
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            count += latencyHistogram[i];
+            if (count >= rank && count > 0) {
+                return (1L << i) - 1;
+            }
+        }
+        return 0;
+    }
+}
\ No newline at end of file
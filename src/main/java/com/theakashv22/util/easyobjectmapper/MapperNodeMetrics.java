@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the invocations, failures and latencies of a single node of an instrumented mapper tree. All counters are
+ * {@link LongAdder}s, so recording from many threads at once does not contend on a single memory location.
+ */
+final class MapperNodeMetrics {
+    private final LongAdder invocationCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAdder[] latencyHistogram = new LongAdder[MapperMetricsSnapshot.LATENCY_BUCKET_COUNT];
+
+    MapperNodeMetrics() {
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            latencyHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a single invocation of the node.
+     * @param latencyNanos the time the invocation took in nanoseconds
+     * @param succeeded {@code false} if the invocation threw an exception
+     */
+    void record(long latencyNanos, boolean succeeded) {
+        invocationCount.increment();
+        if (!succeeded) {
+            failureCount.increment();
+        }
+        totalLatencyNanos.add(latencyNanos);
+        latencyHistogram[MapperMetricsSnapshot.getLatencyBucket(latencyNanos)].increment();
+    }
+
+    MapperMetricsSnapshot snapshot(String path) {
+        long[] latencyHistogramSnapshot = new long[latencyHistogram.length];
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            latencyHistogramSnapshot[i] = latencyHistogram[i].sum();
+        }
+        return new MapperMetricsSnapshot(
+                path,
+                invocationCount.sum(),
+                failureCount.sum(),
+                totalLatencyNanos.sum(),
+                latencyHistogramSnapshot
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Optimises the {@code innerMappers} supplied into {@link EasyObjectMapper} and
+ * {@link SourceToTargetObjectPropertyMapper} once when they are constructed, so that no work is repeated on every call
+ * to {@link Mapper#map(Object, Object)}.
+ */
+final class MapperOptimizer {
+    private MapperOptimizer() {}
+
+    /**
+     * Returns the {@code mappers} as an array, in which every {@link EasyObjectMapper} is replaced by its own
+     * {@code innerMappers}. Since those were optimised when that {@link EasyObjectMapper} was constructed, a tree of
+     * nested {@link EasyObjectMapper} instances is flattened into a single level, and an {@link EasyObjectMapper} with
+     * no {@code innerMappers} is dropped altogether.<br><br>
+     * Subclasses of {@link EasyObjectMapper} are kept as they are, since they may override
+     * {@link EasyObjectMapper#map(Object, Object)}.
+     * @param mappers the mappers to optimise
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <T> the type of the {@code target} object to map properties to
+     * @return the optimised mappers, which map the same properties in the same order as {@code mappers}
+     */
+    static <S, T> Mapper<S, T>[] flatten(Collection<? extends Mapper<S, T>> mappers) {
+        List<Mapper<S, T>> flattenedMappers = new ArrayList<>(mappers.size());
+        for (Mapper<S, T> mapper : mappers) {
+            if (mapper != null && mapper.getClass() == EasyObjectMapper.class) {
+                for (Mapper<S, T> innerMapper : ((EasyObjectMapper<S, T>) mapper).getInnerMappers()) {
+                    flattenedMappers.add(innerMapper);
+                }
+            } else {
+                flattenedMappers.add(mapper);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Mapper<S, T>[] flattenedMapperArr = (Mapper<S, T>[]) flattenedMappers.toArray(new Mapper[0]);
+        return flattenedMapperArr;
+    }
+}
\ No newline at end of file
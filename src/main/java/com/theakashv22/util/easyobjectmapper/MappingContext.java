@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This remembers which {@code target} object property each {@link SourceToTargetObjectPropertyMapper} produced for
+ * each {@code source} object property, by identity, while mapping through {@link #map(Mapper, Object, Object)}.
+ * <br><br>
+ * Within a context, a {@link SourceToTargetObjectPropertyMapper} converting a {@code source} object property it has
+ * already converted sets the {@code target} object property it produced before instead of converting and mapping it
+ * again, so object graphs sharing sub-objects are mapped to object graphs sharing the same sub-objects, and cyclic
+ * object graphs are mapped to cyclic object graphs rather than recursing endlessly. A
+ * {@link SourceToTargetObjectPropertyMapper} that does not convert skips mapping a {@code source} object property into
+ * a {@code target} object property it has already mapped it into.<br><br>
+ * The {@code source} and {@code target} objects passed into {@link #map(Mapper, Object, Object)} are remembered as
+ * well, for every {@link SourceToTargetObjectPropertyMapper}, so that a reference back to the root {@code source}
+ * object is mapped to a reference back to the root {@code target} object. The root {@code source} object must
+ * therefore be mapped to the same type of {@code target} object wherever it is referenced.<br><br>
+ * A context keeps what it remembers between calls until {@link #clear()} is called, so that objects shared between
+ * several mapped roots are also mapped once. Mapping outside any context is unaffected, apart from a single volatile
+ * read per {@link SourceToTargetObjectPropertyMapper}.<br><br>
+ * A context is only in effect on the thread calling {@link #map(Mapper, Object, Object)}. Mappers that hand work over
+ * to other threads, such as {@link ParallelEasyObjectMapper}, {@link ParallelBatchMapper} and
+ * {@link VirtualThreadMapper}, map that work outside the context, so {@code source} object properties shared across
+ * threads are mapped once per thread, and a cyclic object graph reached from another thread is not protected from
+ * endless recursion. A context is not thread-safe, and must not be used by several threads at once either.
+ */
+public final class MappingContext {
+    private static final ThreadScope<Frame> SCOPE = new ThreadScope<>(Frame::new);
+
+    private final Map<Object, Map<Object, Object>> targetPropertiesByMapper = new IdentityHashMap<>();
+    private final Map<Object, Object> rootTargets = new IdentityHashMap<>();
+
+    /**
+     * Maps {@code source} to {@code target} using {@code mapper} within this context.
+     * @param mapper the mapper to map with
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <T> the type of the {@code target} object to map properties to
+     */
+    public <S, T> void map(Mapper<S, T> mapper, S source, T target) {
+        Frame frame = SCOPE.enter();
+        MappingContext previousContext = frame.context;
+        frame.context = this;
+        if (source != null && target != null) {
+            rootTargets.put(source, target);
+        }
+        try {
+            mapper.map(source, target);
+        } finally {
+            frame.context = previousContext;
+            SCOPE.exit();
+        }
+    }
+
+    /**
+     * Forgets every {@code source} object property mapped within this context.
+     */
+    public void clear() {
+        targetPropertiesByMapper.clear();
+        rootTargets.clear();
+    }
+
+    /**
+     * Returns the context in effect on the current thread.
+     * @return the current context, or {@code null} if mapping is not done within a context
+     */
+    static MappingContext current() {
+        Frame frame = SCOPE.current();
+        return frame == null ? null : frame.context;
+    }
+
+    /**
+     * Returns the {@code target} object property {@code mapper} produced for {@code sourceProperty} within this
+     * context, or the root {@code target} object if {@code sourceProperty} was mapped as a root {@code source} object.
+     * @param mapper the mapper that mapped {@code sourceProperty}
+     * @param sourceProperty the {@code source} object property that was mapped
+     * @return the {@code target} object property it was mapped to, or {@code null} if it was neither mapped by
+     * {@code mapper} nor as a root {@code source} object
+     */
+    Object getTargetProperty(Mapper<?, ?> mapper, Object sourceProperty) {
+        Map<Object, Object> targetProperties = targetPropertiesByMapper.get(mapper);
+        Object targetProperty = targetProperties == null ? null : targetProperties.get(sourceProperty);
+        return targetProperty == null ? rootTargets.get(sourceProperty) : targetProperty;
+    }
+
+    /**
+     * Remembers that {@code mapper} mapped {@code sourceProperty} to {@code targetProperty} within this context.
+     * @param mapper the mapper that mapped {@code sourceProperty}
+     * @param sourceProperty the {@code source} object property that was mapped
+     * @param targetProperty the {@code target} object property it was mapped to
+     */
+    void putTargetProperty(Mapper<?, ?> mapper, Object sourceProperty, Object targetProperty) {
+        targetPropertiesByMapper
+                .computeIfAbsent(mapper, key -> new IdentityHashMap<>())
+                .put(sourceProperty, targetProperty);
+    }
+
+    /**
+     * The context in effect on a thread, which is reused between calls to {@link #map(Mapper, Object, Object)}.
+     */
+    private static final class Frame {
+        private MappingContext context;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * This {@link Iterator} maps each object of type {@link S} from another {@link Iterator} to a new object of type
+ * {@link T} obtained from a {@link Supplier} when {@link #next()} is called, so only one object is mapped at a time.
+ * @param <S> the type of the {@code source} objects to map properties from
+ * @param <T> the type of the {@code target} objects to map properties to
+ */
+final class MappingIterator<S, T> implements Iterator<T> {
+    private final Mapper<S, T> mapper;
+    private final Iterator<? extends S> sources;
+    private final Supplier<? extends T> targetSupplier;
+
+    MappingIterator(Mapper<S, T> mapper, Iterator<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        this.mapper = mapper;
+        this.sources = sources;
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return sources.hasNext();
+    }
+
+    @Override
+    public T next() {
+        S source = sources.next();
+        T target = targetSupplier.get();
+        mapper.map(source, target);
+        return target;
+    }
+
+    @Override
+    public void remove() {
+        sources.remove();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A patch of the writes needed to bring a {@code target} object mapped from an old {@code source} object up to date
+ * with a new one, computed once by {@link #diff(Mapper, Object, Object)} and then applied to any number of
+ * {@code target} objects, which is far cheaper than mapping the new {@code source} object into each of them.<br><br>
+ * The mapper tree is walked as follows:
+ * <ul>
+ *     <li>the {@code innerMappers} of an {@link EasyObjectMapper} are each diffed in turn;</li>
+ *     <li>a {@link SourceToTargetPropertyMapper} whose {@code source} properties are equal in both {@code source}
+ *     objects writes nothing, otherwise the new one is converted once and the result written to every
+ *     {@code target} object;</li>
+ *     <li>a {@link SourceToTargetObjectPropertyMapper} that does not convert has its {@code innerMappers} diffed
+ *     against its old and new {@code source} object properties, and the resulting patch is applied to the
+ *     {@code target} object property of every {@code target} object;</li>
+ *     <li>a {@link SourceToTargetObjectPropertyMapper} that converts, or an
+ *     {@link AddSingleToCollectionPropertyMapper}, writes nothing if its {@code source} properties are equal, and
+ *     otherwise maps the new {@code source} object into every {@code target} object;</li>
+ *     <li>any other {@link Mapper} maps the new {@code source} object into every {@code target} object.</li>
+ * </ul>
+ * {@link VersionStamped} {@code source} object properties with the same version stamp are treated as equal.
+ * <br><br>
+ * Converted {@code target} properties are shared by every {@code target} object the patch is applied to, so they
+ * should be immutable. Subclasses that override {@link Mapper#map(Object, Object)} of the mappers above are diffed as
+ * if they had not, apart from subclasses of {@link EasyObjectMapper}, which are treated like any other
+ * {@link Mapper}. Applying a patch bypasses any {@link MappingContext}.
+ * @param <T> the type of the {@code target} objects to apply the patch to
+ */
+public final class MappingPatch<T> {
+    private final Consumer<? super T>[] writes;
+
+    private MappingPatch(List<Consumer<? super T>> writes) {
+        @SuppressWarnings("unchecked")
+        Consumer<? super T>[] writeArr = (Consumer<? super T>[]) writes.toArray(new Consumer[0]);
+        this.writes = writeArr;
+    }
+
+    /**
+     * Returns the patch that brings a {@code target} object mapped from {@code oldSource} using {@code mapper} up to
+     * date with {@code newSource}.
+     * @param mapper the {@link Mapper} to diff {@code oldSource} and {@code newSource} with
+     * @param oldSource the object of type {@link S} the {@code target} objects were last mapped from
+     * @param newSource the object of type {@link S} to bring the {@code target} objects up to date with
+     * @param <S> the type of the {@code source} objects to diff
+     * @param <T> the type of the {@code target} objects to apply the patch to
+     * @return the patch, which is empty if nothing needs to be written
+     */
+    public static <S, T> MappingPatch<T> diff(Mapper<S, T> mapper, S oldSource, S newSource) {
+        List<Consumer<? super T>> writes = new ArrayList<>();
+        diff(mapper, oldSource, newSource, writes);
+        return new MappingPatch<>(writes);
+    }
+
+    private static <S, T> MappingPatch<T> diff(Mapper<S, T>[] mappers, S oldSource, S newSource) {
+        List<Consumer<? super T>> writes = new ArrayList<>();
+        for (Mapper<S, T> mapper : mappers) {
+            diff(mapper, oldSource, newSource, writes);
+        }
+        return new MappingPatch<>(writes);
+    }
+
+    private static <S, T> void diff(
+            Mapper<S, T> mapper,
+            S oldSource,
+            S newSource,
+            List<Consumer<? super T>> writes
+    ) {
+        if (mapper != null && mapper.getClass() == EasyObjectMapper.class) {
+            for (Mapper<S, T> innerMapper : ((EasyObjectMapper<S, T>) mapper).getInnerMappers()) {
+                diff(innerMapper, oldSource, newSource, writes);
+            }
+        } else if (mapper instanceof SourceToTargetObjectPropertyMapper) {
+            diffObjectProperty((SourceToTargetObjectPropertyMapper<S, ?, T, ?>) mapper, oldSource, newSource, writes);
+        } else if (mapper instanceof SourceToTargetPropertyMapper) {
+            diffProperty((SourceToTargetPropertyMapper<S, ?, T, ?>) mapper, oldSource, newSource, writes);
+        } else if (mapper instanceof AddSingleToCollectionPropertyMapper) {
+            AddSingleToCollectionPropertyMapper<S, ?, T, ?> collectionMapper =
+                    (AddSingleToCollectionPropertyMapper<S, ?, T, ?>) mapper;
+            if (!isEqual(
+                    collectionMapper.getPropertyFromSource(oldSource),
+                    collectionMapper.getPropertyFromSource(newSource)
+            )) {
+                writes.add(target -> mapper.map(newSource, target));
+            }
+        } else {
+            writes.add(target -> mapper.map(newSource, target));
+        }
+    }
+
+    private static <S, SP, T, TP> void diffProperty(
+            SourceToTargetPropertyMapper<S, SP, T, TP> mapper,
+            S oldSource,
+            S newSource,
+            List<Consumer<? super T>> writes
+    ) {
+        SP newSourceProperty = mapper.getPropertyFromSource(newSource);
+        if (!isEqual(mapper.getPropertyFromSource(oldSource), newSourceProperty)) {
+            TP targetProperty = mapper.convert(newSourceProperty);
+            writes.add(target -> mapper.writePropertyToTarget(target, targetProperty));
+        }
+    }
+
+    private static <S, SP, T, TP> void diffObjectProperty(
+            SourceToTargetObjectPropertyMapper<S, SP, T, TP> mapper,
+            S oldSource,
+            S newSource,
+            List<Consumer<? super T>> writes
+    ) {
+        SP oldSourceProperty = mapper.getPropertyFromSource(oldSource);
+        SP newSourceProperty = mapper.getPropertyFromSource(newSource);
+        if (isEqual(oldSourceProperty, newSourceProperty)) {
+            return;
+        }
+
+        if (!mapper.isConvertingSourceToTargetProperty() && oldSourceProperty != null && newSourceProperty != null) {
+            MappingPatch<TP> innerPatch = diff(mapper.getInnerMappers(), oldSourceProperty, newSourceProperty);
+            if (!innerPatch.isEmpty()) {
+                writes.add(target -> innerPatch.applyTo(mapper.getPropertyFromTarget(target)));
+            }
+        } else {
+            writes.add(target -> mapper.map(newSource, target));
+        }
+    }
+
+    private static boolean isEqual(Object oldSourceProperty, Object newSourceProperty) {
+        if (oldSourceProperty instanceof VersionStamped && newSourceProperty instanceof VersionStamped) {
+            return ((VersionStamped) oldSourceProperty).getVersionStamp()
+                    == ((VersionStamped) newSourceProperty).getVersionStamp();
+        }
+        return Objects.equals(oldSourceProperty, newSourceProperty);
+    }
+
+    /**
+     * Applies this patch to {@code target}, which must have last been mapped from the old {@code source} object
+     * supplied into {@link #diff(Mapper, Object, Object)}.
+     * @param target the object of type {@link T} to apply this patch to
+     */
+    public void applyTo(T target) {
+        for (Consumer<? super T> write : writes) {
+            write.accept(target);
+        }
+    }
+
+    /**
+     * Applies this patch to each object in {@code targets} by calling {@link #applyTo(Object)}.
+     * @param targets the objects of type {@link T} to apply this patch to
+     */
+    public void applyToAll(Iterable<? extends T> targets) {
+        for (T target : targets) {
+            applyTo(target);
+        }
+    }
+
+    /**
+     * Returns the number of writes in this patch, where a write under a {@link SourceToTargetObjectPropertyMapper}
+     * counts once however many writes its own patch has.
+     * @return the number of writes in this patch
+     */
+    public int size() {
+        return writes.length;
+    }
+
+    /**
+     * Returns whether this patch has no writes, so that applying it changes nothing.
+     * @return {@code true} if this patch has no writes
+     */
+    public boolean isEmpty() {
+        return writes.length == 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This {@link Spliterator} maps each object of type {@link S} from another {@link Spliterator} to a new object of type
+ * {@link T} obtained from a {@link Supplier} as it is traversed, so only one object is mapped at a time.<br><br>
+ * It keeps the {@link #SIZED}, {@link #SUBSIZED}, {@link #ORDERED}, {@link #IMMUTABLE} and {@link #CONCURRENT}
+ * characteristics of the {@link Spliterator} it maps from and splits whenever that does, so streams over it split as
+ * well in parallel as streams over the objects it maps from.
+ * @param <S> the type of the {@code source} objects to map properties from
+ * @param <T> the type of the {@code target} objects to map properties to
+ */
+final class MappingSpliterator<S, T> implements Spliterator<T>, Consumer<S> {
+    private static final int PRESERVED_CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | IMMUTABLE | CONCURRENT;
+
+    private final Mapper<S, T> mapper;
+    private final Spliterator<? extends S> sources;
+    private final Supplier<? extends T> targetSupplier;
+    private Consumer<? super T> action;
+
+    MappingSpliterator(Mapper<S, T> mapper, Spliterator<? extends S> sources, Supplier<? extends T> targetSupplier) {
+        this.mapper = mapper;
+        this.sources = sources;
+        this.targetSupplier = targetSupplier;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        this.action = action;
+        try {
+            return sources.tryAdvance(this);
+        } finally {
+            this.action = null;
+        }
+    }
+
+    /**
+     * Maps {@code source} for {@link #tryAdvance(Consumer)}, which this passes itself to rather than allocating a new
+     * {@link Consumer} for every object.
+     * @param source the object of type {@link S} to map properties from
+     */
+    @Override
+    public void accept(S source) {
+        action.accept(mapToNewTarget(source));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        sources.forEachRemaining(source -> action.accept(mapToNewTarget(source)));
+    }
+
+    private T mapToNewTarget(S source) {
+        T target = targetSupplier.get();
+        mapper.map(source, target);
+        return target;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        Spliterator<? extends S> split = sources.trySplit();
+        return split == null ? null : new MappingSpliterator<>(mapper, split, targetSupplier);
+    }
+
+    @Override
+    public long estimateSize() {
+        return sources.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return sources.characteristics() & PRESERVED_CHARACTERISTICS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This mapper wraps a {@link Mapper} so that batches mapped by {@link #mapAll(List, List)} are split across the
+ * threads of a {@link ForkJoinPool}. Batches no larger than {@code minChunkSize} are mapped on the calling thread.
+ * <br><br>
+ * Each {@code target} object is mapped to by exactly one thread, and the mapped objects stay at the same index as
+ * their {@code source} objects, so the result is the same as that of a sequential batch. The wrapped mapper must
+ * therefore be safe to call from several threads at once for different {@code target} objects, which is the case for
+ * the mappers in this package as long as the methods they delegate to are.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public class ParallelBatchMapper<S, T> implements Mapper<S, T> {
+    private final Mapper<S, T> mapper;
+    private final ForkJoinPool pool;
+    private final int minChunkSize;
+
+    /**
+     * Main constructor of {@link ParallelBatchMapper}.
+     * @param mapper the {@link Mapper} to map each chunk of a batch with
+     * @param pool the {@link ForkJoinPool} to map chunks of a batch in
+     * @param minChunkSize the size at or below which a batch, or a chunk of one, is not split any further
+     * @throws IllegalArgumentException if {@code minChunkSize} is less than {@code 1}
+     */
+    public ParallelBatchMapper(Mapper<S, T> mapper, ForkJoinPool pool, int minChunkSize) {
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("minChunkSize must be at least 1, but was " + minChunkSize + ".");
+        }
+
+        this.mapper = mapper;
+        this.pool = pool;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Constructor of {@link ParallelBatchMapper} that calls
+     * {@link #ParallelBatchMapper(Mapper, ForkJoinPool, int)} with the {@link ForkJoinPool#commonPool()}.
+     * @param mapper the {@link Mapper} to map each chunk of a batch with
+     * @param minChunkSize the size at or below which a batch, or a chunk of one, is not split any further
+     * @throws IllegalArgumentException if {@code minChunkSize} is less than {@code 1}
+     */
+    public ParallelBatchMapper(Mapper<S, T> mapper, int minChunkSize) {
+        this(mapper, ForkJoinPool.commonPool(), minChunkSize);
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} on the calling thread using the wrapped mapper.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     */
+    @Override
+    public void map(S source, T target) {
+        mapper.map(source, target);
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets},
+     * splitting the batch in half until each chunk is no larger than {@code minChunkSize} and mapping the chunks in the
+     * {@link ForkJoinPool} supplied into the constructor. A batch no larger than {@code minChunkSize} is mapped on the
+     * calling thread instead. In both cases this returns once the whole batch has been mapped.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        int size = sources.size();
+        if (size <= minChunkSize) {
+            mapper.mapAll(sources, targets);
+        } else {
+            pool.invoke(new MapAllTask(sources, targets, 0, size));
+        }
+    }
+
+    private class MapAllTask extends RecursiveAction {
+        private final List<? extends S> sources;
+        private final List<? extends T> targets;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private MapAllTask(List<? extends S> sources, List<? extends T> targets, int fromIndex, int toIndex) {
+            this.sources = sources;
+            this.targets = targets;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= minChunkSize) {
+                mapper.mapAll(sources.subList(fromIndex, toIndex), targets.subList(fromIndex, toIndex));
+            } else {
+                int middleIndex = (fromIndex + toIndex) >>> 1;
+                invokeAll(
+                        new MapAllTask(sources, targets, fromIndex, middleIndex),
+                        new MapAllTask(sources, targets, middleIndex, toIndex)
+                );
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * This is a root object mapper like {@link EasyObjectMapper}, except that {@link #map(Object, Object)} calls
+ * independent {@code innerMappers} concurrently in a supplied {@link Executor} rather than one after another, which
+ * lowers the time taken to map a single {@code source} object whose properties are expensive to convert.<br><br>
+ * An {@code innerMapper} is called concurrently only if it is an {@link IndependentMapper} whose
+ * {@link IndependentMapper#getCost()} is at least {@code costThreshold}, and whose
+ * {@link IndependentMapper#getTargetWriteSet()} is disjoint from that of every other {@link IndependentMapper} among
+ * the {@code innerMappers}. All other {@code innerMappers} are called on the calling thread in the order supplied, and
+ * must not write to or read from any {@code target} property declared by an {@link IndependentMapper}.<br><br>
+ * {@link #map(Object, Object)} only returns once every {@code innerMapper} has finished, so everything they wrote to
+ * {@code target} happens-before {@link #map(Object, Object)} returns.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public class ParallelEasyObjectMapper<S, T> implements Mapper<S, T> {
+    private final Executor executor;
+    private final Mapper<S, T>[] inlineMappers;
+    private final Mapper<S, T>[] concurrentMappers;
+    private final ThreadLocal<Slot> slots;
+
+    /**
+     * Main constructor of {@link ParallelEasyObjectMapper}.<br><br>
+     * As with {@link EasyObjectMapper}, the {@code innerMappers} are copied when this mapper is constructed, and any
+     * {@link EasyObjectMapper} among them is replaced by its own {@code innerMappers}. They are then split into those
+     * called concurrently and those called on the calling thread. If none would be called on the calling thread, the
+     * most expensive is called there anyway rather than leaving the calling thread idle.
+     * @param executor the {@link Executor} to call independent {@code innerMappers} in
+     * @param costThreshold the {@link IndependentMapper#getCost()} below which an {@code innerMapper} is called on the
+     *                      calling thread
+     * @param innerMappers the {@link Mapper} {@link Collection} containing mappers to map the properties of
+     * {@code source} to {@code target}
+     * @throws IllegalArgumentException if {@code costThreshold} is less than {@code 0}
+     */
+    public ParallelEasyObjectMapper(
+            Executor executor,
+            long costThreshold,
+            Collection<? extends Mapper<S, T>> innerMappers
+    ) {
+        if (costThreshold < 0) {
+            throw new IllegalArgumentException("costThreshold must be at least 0, but was " + costThreshold + ".");
+        }
+
+        Mapper<S, T>[] flattenedMappers = MapperOptimizer.flatten(innerMappers);
+        List<Mapper<S, T>> inlineMapperList = new ArrayList<>(flattenedMappers.length);
+        List<Mapper<S, T>> concurrentMapperList = new ArrayList<>(flattenedMappers.length);
+        for (Mapper<S, T> mapper : flattenedMappers) {
+            if (isConcurrent(mapper, flattenedMappers, costThreshold)) {
+                concurrentMapperList.add(mapper);
+            } else {
+                inlineMapperList.add(mapper);
+            }
+        }
+        if (inlineMapperList.isEmpty() && !concurrentMapperList.isEmpty()) {
+            Mapper<S, T> mostExpensiveMapper = Collections.max(
+                    concurrentMapperList,
+                    (mapper, otherMapper) -> Long.compare(
+                            ((IndependentMapper<S, T>) mapper).getCost(),
+                            ((IndependentMapper<S, T>) otherMapper).getCost()
+                    )
+            );
+            concurrentMapperList.remove(mostExpensiveMapper);
+            inlineMapperList.add(mostExpensiveMapper);
+        }
+
+        this.executor = executor;
+        this.inlineMappers = toArray(inlineMapperList);
+        this.concurrentMappers = toArray(concurrentMapperList);
+        this.slots = ThreadLocal.withInitial(() -> new Slot(new CompletableFuture<?>[concurrentMappers.length]));
+    }
+
+    /**
+     * Constructor of {@link ParallelEasyObjectMapper} that takes {@code innerMappers} via a vararg parameter.
+     * @param executor the {@link Executor} to call independent {@code innerMappers} in
+     * @param costThreshold the {@link IndependentMapper#getCost()} below which an {@code innerMapper} is called on the
+     *                      calling thread
+     * @param innerMappers the {@link Mapper} objects to map the properties of {@code source} to {@code target}
+     * @throws IllegalArgumentException if {@code costThreshold} is less than {@code 0}
+     */
+    @SafeVarargs
+    public ParallelEasyObjectMapper(Executor executor, long costThreshold, Mapper<S, T>... innerMappers) {
+        this(executor, costThreshold, Arrays.asList(innerMappers));
+    }
+
+    private static <S, T> boolean isConcurrent(Mapper<S, T> mapper, Mapper<S, T>[] mappers, long costThreshold) {
+        if (!(mapper instanceof IndependentMapper)) {
+            return false;
+        }
+
+        IndependentMapper<S, T> independentMapper = (IndependentMapper<S, T>) mapper;
+        if (independentMapper.getCost() < costThreshold) {
+            return false;
+        }
+
+        for (Mapper<S, T> otherMapper : mappers) {
+            if (otherMapper != mapper && otherMapper instanceof IndependentMapper && !Collections.disjoint(
+                    independentMapper.getTargetWriteSet(),
+                    ((IndependentMapper<S, T>) otherMapper).getTargetWriteSet()
+            )) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <S, T> Mapper<S, T>[] toArray(List<Mapper<S, T>> mappers) {
+        @SuppressWarnings("unchecked")
+        Mapper<S, T>[] mapperArr = (Mapper<S, T>[]) mappers.toArray(new Mapper[0]);
+        return mapperArr;
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} using the supplied {@code innerMappers}, calling the
+     * independent ones in the {@link Executor} supplied into the constructor while the rest are called on the calling
+     * thread. An independent {@code innerMapper} the {@link Executor} rejects is called on the calling thread instead.
+     * <br><br>
+     * If an {@code innerMapper} throws, or the {@link Executor} throws anything other than a
+     * {@link RejectedExecutionException}, the exception is only thrown once every independent {@code innerMapper}
+     * already handed to the {@link Executor} has finished, so that none of them are still writing to {@code target}.
+     * Exceptions thrown on the calling thread take precedence over those thrown in the {@link Executor}.<br><br>
+     * The array tracking the independent {@code innerMappers} is reused by each thread, but a task is still allocated
+     * for each independent {@code innerMapper} handed to the {@link Executor}, so mapping many objects at once is
+     * cheaper through {@link #mapAll(List, List)}.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     */
+    @Override
+    public void map(S source, T target) {
+        if (concurrentMappers.length == 0) {
+            for (Mapper<S, T> mapper : inlineMappers) {
+                mapper.map(source, target);
+            }
+            return;
+        }
+
+        mapConcurrently(source, target, null, null);
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets} in the
+     * same way as {@link #map(Object, Object)}, except that each independent {@code innerMapper} is handed to the
+     * {@link Executor} once for the whole batch rather than once per pair of objects, and maps its properties across
+     * all pairs by {@link Mapper#mapAll(List, List)}. The other {@code innerMappers} are likewise called once each for
+     * the whole batch on the calling thread, in the order supplied.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        if (concurrentMappers.length == 0 || sources.isEmpty()) {
+            for (Mapper<S, T> mapper : inlineMappers) {
+                mapper.mapAll(sources, targets);
+            }
+            return;
+        }
+
+        mapConcurrently(null, null, sources, targets);
+    }
+
+    private void mapConcurrently(S source, T target, List<? extends S> sources, List<? extends T> targets) {
+        Slot slot = slots.get();
+        CompletableFuture<?>[] futures = slot.futures;
+        if (futures == null) {
+            futures = new CompletableFuture<?>[concurrentMappers.length];
+        } else {
+            slot.futures = null;
+        }
+
+        try {
+            Throwable failure = null;
+            try {
+                for (int i = 0; i < concurrentMappers.length; i++) {
+                    Mapper<S, T> mapper = concurrentMappers[i];
+                    try {
+                        futures[i] = CompletableFuture.runAsync(
+                                () -> call(mapper, source, target, sources, targets),
+                                executor
+                        );
+                    } catch (RejectedExecutionException exception) {
+                        futures[i] = null;
+                    }
+                }
+                for (Mapper<S, T> mapper : inlineMappers) {
+                    call(mapper, source, target, sources, targets);
+                }
+                for (int i = 0; i < concurrentMappers.length; i++) {
+                    if (futures[i] == null) {
+                        call(concurrentMappers[i], source, target, sources, targets);
+                    }
+                }
+            } catch (Throwable throwable) {
+                failure = throwable;
+            }
+
+            for (CompletableFuture<?> future : futures) {
+                if (future == null) {
+                    continue;
+                }
+                try {
+                    future.join();
+                } catch (CompletionException exception) {
+                    if (failure == null) {
+                        failure = exception.getCause();
+                    }
+                }
+            }
+
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new CompletionException(failure);
+            }
+        } finally {
+            Arrays.fill(futures, null);
+            slot.futures = futures;
+        }
+    }
+
+    private static <S, T> void call(
+            Mapper<S, T> mapper,
+            S source,
+            T target,
+            List<? extends S> sources,
+            List<? extends T> targets
+    ) {
+        if (sources == null) {
+            mapper.map(source, target);
+        } else {
+            mapper.mapAll(sources, targets);
+        }
+    }
+
+    /**
+     * Holds the array tracking the independent {@code innerMappers} of a single thread while it is not in use.
+     */
+    private static final class Slot {
+        private CompletableFuture<?>[] futures;
+
+        private Slot(CompletableFuture<?>[] futures) {
+            this.futures = futures;
+        }
+    }
+}
\ No newline at end of file
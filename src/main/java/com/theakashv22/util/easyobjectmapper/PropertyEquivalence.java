@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Decides whether the property a {@code target} object already holds is equivalent to the property about to be mapped
+ * to it, in which case mappers constructed with a {@link PropertyEquivalence} skip writing the property.<br><br>
+ * This is useful when writing to a {@code target} object has side effects even if the value does not change, such as
+ * marking a persistent entity as dirty.
+ * @param <P> the type of the property to compare
+ */
+@FunctionalInterface
+public interface PropertyEquivalence<P> {
+    /**
+     * Returns whether {@code currentProperty} and {@code newProperty} are equivalent.
+     * @param currentProperty the property of type {@link P} currently held by the {@code target} object
+     * @param newProperty the property of type {@link P} about to be mapped to the {@code target} object
+     * @return {@code true} if writing {@code newProperty} can be skipped
+     */
+    boolean isEquivalent(P currentProperty, P newProperty);
+
+    /**
+     * Returns a {@link PropertyEquivalence} under which properties are only equivalent if they are the same object.
+     * @param <P> the type of the property to compare
+     * @return the {@link PropertyEquivalence} comparing properties by identity
+     */
+    static <P> PropertyEquivalence<P> identity() {
+        return (currentProperty, newProperty) -> currentProperty == newProperty;
+    }
+
+    /**
+     * Returns a {@link PropertyEquivalence} under which properties are equivalent if they are equal according to
+     * {@link Objects#equals(Object, Object)}.
+     * @param <P> the type of the property to compare
+     * @return the {@link PropertyEquivalence} comparing properties by {@link Object#equals(Object)}
+     */
+    static <P> PropertyEquivalence<P> equality() {
+        return Objects::equals;
+    }
+
+    /**
+     * Returns a {@link PropertyEquivalence} under which properties are equivalent if {@code comparator} compares them
+     * as equal. {@code null} properties are only equivalent to each other, and are never passed to
+     * {@code comparator}.
+     * @param comparator the {@link Comparator} to compare non-{@code null} properties with
+     * @param <P> the type of the property to compare
+     * @return the {@link PropertyEquivalence} comparing properties with {@code comparator}
+     */
+    static <P> PropertyEquivalence<P> comparing(Comparator<? super P> comparator) {
+        return (currentProperty, newProperty) -> currentProperty == null || newProperty == null
+                ? currentProperty == newProperty
+                : comparator.compare(currentProperty, newProperty) == 0;
+    }
+}
\ No newline at end of file
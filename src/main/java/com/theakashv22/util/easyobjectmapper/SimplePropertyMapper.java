@@ -26,6 +26,26 @@ package com.theakashv22.util.easyobjectmapper;
  */
 public abstract class SimplePropertyMapper<S, T, P> extends SourceToTargetPropertyMapper<S, P, T, P>
         implements Mapper<S, T> {
+    /**
+     * No-arg constructor of {@link SimplePropertyMapper} that calls
+     * {@link SourceToTargetPropertyMapper#SourceToTargetPropertyMapper()}.
+     */
+    public SimplePropertyMapper() {
+        super();
+    }
+
+    /**
+     * Constructor of {@link SimplePropertyMapper} that calls
+     * {@link SourceToTargetPropertyMapper#SourceToTargetPropertyMapper(PropertyEquivalence)}.<br><br>
+     * If {@code propertyEquivalence} is not {@code null}, then {@link #getPropertyFromTarget(Object)} must be
+     * overridden.
+     * @param propertyEquivalence decides whether the property in the {@code target} object is equivalent to the one
+     *                            being mapped, or {@code null} to always set the property
+     */
+    public SimplePropertyMapper(PropertyEquivalence<? super P> propertyEquivalence) {
+        super(propertyEquivalence);
+    }
+
     /**
      * This implementation of {@link SourceToTargetPropertyMapper#convert(Object)} returns the {@code sourceProperty}
      * which will also be the {@code targetProperty} as a result.
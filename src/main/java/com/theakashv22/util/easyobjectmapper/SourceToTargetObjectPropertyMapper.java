@@ -16,8 +16,11 @@
 
 package com.theakashv22.util.easyobjectmapper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * This mapper will map an object property of type {@link SP} from a {@code source} object of type {@link S} to an
@@ -32,25 +35,58 @@ public abstract class SourceToTargetObjectPropertyMapper<S, SP, T, TP>
         extends SourceToTargetPropertyMapper<S, SP, T, TP> implements Mapper<S, T> {
     @SuppressWarnings("WeakerAccess")
     protected static final boolean CONVERT_SOURCE_TO_TARGET_PROPERTY_DEFAULT = false;
+    @SuppressWarnings("WeakerAccess")
+    protected static final boolean SKIP_UNCHANGED_VERSION_STAMPS_DEFAULT = false;
     private final boolean convertSourceToTargetProperty;
-    private final Collection<? extends Mapper<SP, TP>> innerMappers;
+    private final List<Mapper<SP, TP>> declaredInnerMappers;
+    private final Mapper<SP, TP>[] innerMappers;
+    private final VersionStampRecord versionStampRecord;
 
     /**
      * Main constructor of {@link SourceToTargetObjectPropertyMapper}.<br><br>
      * If {@code convertSourceToTargetProperty} is set to {@code true}, then {@link #convert(Object)} and
      * {@link #setPropertyToTarget(Object, Object)} must be overridden, otherwise,
-     * {@link #getPropertyFromTarget(Object)} must be overridden.
+     * {@link #getPropertyFromTarget(Object)} must be overridden.<br><br>
+     * If {@code skipUnchangedVersionStamps} is set to {@code true}, then a {@link VersionStamped} {@code source}
+     * object property is not mapped again to a {@code target} object it was last mapped to with the same version
+     * stamp, as described in {@link #map(Object, Object)}.<br><br>
+     * The {@code innerMappers} are copied when this mapper is constructed, and any {@link EasyObjectMapper} among them
+     * is replaced by its own {@code innerMappers}.
      * @param convertSourceToTargetProperty determines whether the source object property should be converted to the
      *                                      target object property when {@link #map(Object, Object)} is called
+     * @param skipUnchangedVersionStamps determines whether mapping an unchanged {@link VersionStamped} source object
+     *                                   property again to the same target object should be skipped
      * @param innerMappers the mappers for mapping properties from the source object property to the target object
      *                     property
      */
     public SourceToTargetObjectPropertyMapper(
             boolean convertSourceToTargetProperty,
+            boolean skipUnchangedVersionStamps,
             Collection<? extends Mapper<SP, TP>> innerMappers
     ) {
         this.convertSourceToTargetProperty = convertSourceToTargetProperty;
-        this.innerMappers = innerMappers;
+        this.declaredInnerMappers = Collections.unmodifiableList(new ArrayList<>(innerMappers));
+        this.innerMappers = MapperOptimizer.flatten(declaredInnerMappers);
+        this.versionStampRecord = skipUnchangedVersionStamps ? VersionStampRecord.create() : null;
+    }
+
+    /**
+     * Constructor of {@link SourceToTargetObjectPropertyMapper} that calls
+     * {@link #SourceToTargetObjectPropertyMapper(boolean, boolean, Collection)} and sets
+     * {@code skipUnchangedVersionStamps} to {@value #SKIP_UNCHANGED_VERSION_STAMPS_DEFAULT}.<br><br>
+     * If {@code convertSourceToTargetProperty} is set to {@code true}, then {@link #convert(Object)} and
+     * {@link #setPropertyToTarget(Object, Object)} must be overridden, otherwise,
+     * {@link #getPropertyFromTarget(Object)} must be overridden.
+     * @param convertSourceToTargetProperty determines whether the source object property should be converted to the
+     *                                      target object property when {@link #map(Object, Object)} is called
+     * @param innerMappers the mappers for mapping properties from the source object property to the target object
+     *                     property
+     */
+    public SourceToTargetObjectPropertyMapper(
+            boolean convertSourceToTargetProperty,
+            Collection<? extends Mapper<SP, TP>> innerMappers
+    ) {
+        this(convertSourceToTargetProperty, SKIP_UNCHANGED_VERSION_STAMPS_DEFAULT, innerMappers);
     }
 
     /**
@@ -65,6 +101,29 @@ public abstract class SourceToTargetObjectPropertyMapper<S, SP, T, TP>
         this(CONVERT_SOURCE_TO_TARGET_PROPERTY_DEFAULT, innerMappers);
     }
 
+    /**
+     * Constructor of {@link SourceToTargetObjectPropertyMapper} that calls
+     * {@link #SourceToTargetObjectPropertyMapper(boolean, boolean, Collection)} and converts the {@code innerMappers}
+     * vararg parameter into a {@link Collection}.<br><br>
+     * If {@code convertSourceToTargetProperty} is set to {@code true}, then {@link #convert(Object)} and
+     * {@link #setPropertyToTarget(Object, Object)} must be overridden, otherwise,
+     * {@link #getPropertyFromTarget(Object)} must be overridden.
+     * @param convertSourceToTargetProperty determines whether the source object property should be converted to the
+     *                                      target object property when {@link #map(Object, Object)} is called
+     * @param skipUnchangedVersionStamps determines whether mapping an unchanged {@link VersionStamped} source object
+     *                                   property again to the same target object should be skipped
+     * @param innerMappers the mappers for mapping properties from the source object property to the target object
+     *                     property
+     */
+    @SafeVarargs
+    public SourceToTargetObjectPropertyMapper(
+            boolean convertSourceToTargetProperty,
+            boolean skipUnchangedVersionStamps,
+            Mapper<SP, TP>... innerMappers
+    ) {
+        this(convertSourceToTargetProperty, skipUnchangedVersionStamps, Arrays.asList(innerMappers));
+    }
+
     /**
      * Constructor of {@link SourceToTargetObjectPropertyMapper} that calls
      * {@link #SourceToTargetObjectPropertyMapper(boolean, Collection)} and converts the {@code innerMappers} vararg
@@ -100,21 +159,170 @@ public abstract class SourceToTargetObjectPropertyMapper<S, SP, T, TP>
      * {@code target} set by {@link #setPropertyToTarget(Object, Object)}.<br><br>
      * Any type conversion is done by {@link #convert(Object)}, and this will also call
      * {@link Mapper#map(Object, Object)} in all {@code innerMappers} supplied into one of the constructors of
-     * {@link SourceToTargetObjectPropertyMapper}.
+     * {@link SourceToTargetObjectPropertyMapper}.<br><br>
+     * Within a {@link MappingContext}, a {@code source} object property already mapped by this mapper is not mapped
+     * again, and if it was converted, the {@code target} object property it was converted to before is set instead.
+     * <br><br>
+     * If {@code skipUnchangedVersionStamps} was set to {@code true} in the constructor used to create this mapper and
+     * the {@code source} object property is {@link VersionStamped}, this mapper records its version stamp against
+     * {@code target} once mapped, and skips mapping altogether, including all {@code innerMappers}, while the version
+     * stamp stays the same, so that re-mapping a large {@code source} object costs only as much as what changed in
+     * it. This assumes {@code target} and its object property are only changed by this mapper in the meantime, so
+     * anything else that resets or changes {@code target}, such as a {@link TargetPool} it is returned to, must call
+     * {@link #forget(Object)} first.
      * @param source the object of type {@link S} to map the object property from
      * @param target the object of type {@link T} to map object property to
      */
     @Override
     public void map(S source, T target) {
         SP sourceProperty = getPropertyFromSource(source);
+        VersionStampRecord record = versionStampRecord;
+        if (record == null) {
+            mapProperty(sourceProperty, target);
+        } else if (sourceProperty instanceof VersionStamped) {
+            long versionStamp = ((VersionStamped) sourceProperty).getVersionStamp();
+            if (!record.isCurrent(target, versionStamp)) {
+                mapProperty(sourceProperty, target);
+                record.put(target, versionStamp);
+            }
+        } else {
+            record.remove(target);
+            mapProperty(sourceProperty, target);
+        }
+    }
+
+    /**
+     * Maps the object property from each object in {@code sources} to that in the object at the same index in
+     * {@code targets} as {@link #map(Object, Object)} does, except that the {@code source} and {@code target} object
+     * properties of the whole batch are then passed to {@link Mapper#mapAll(List, List)} of each of the
+     * {@code innerMappers} in turn, so that inner mappers mapping a batch at once, such as a
+     * {@link BatchConvertingPropertyMapper}, still do so when nested in this mapper.<br><br>
+     * Within a {@link MappingContext}, or if {@code skipUnchangedVersionStamps} was set to {@code true} in the
+     * constructor used to create this mapper, each pair of objects is mapped by {@link #map(Object, Object)} instead.
+     * @param sources the objects of type {@link S} to map the object property from
+     * @param targets the objects of type {@link T} to map the object property to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        int size = sources.size();
+        if (versionStampRecord != null || MappingContext.current() != null) {
+            for (int i = 0; i < size; i++) {
+                map(sources.get(i), targets.get(i));
+            }
+            return;
+        }
+
+        List<SP> sourceProperties = new ArrayList<>(size);
+        List<TP> targetProperties = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SP sourceProperty = getPropertyFromSource(sources.get(i));
+            T target = targets.get(i);
+            TP targetProperty;
+            if (convertSourceToTargetProperty) {
+                targetProperty = convert(sourceProperty);
+                setPropertyToTarget(target, targetProperty);
+                DirtyTrackingMapper.markChanged(getTrackedMapper());
+            } else {
+                targetProperty = getPropertyFromTarget(target);
+            }
+            sourceProperties.add(sourceProperty);
+            targetProperties.add(targetProperty);
+        }
+        for (Mapper<SP, TP> mapper : innerMappers) {
+            mapper.mapAll(sourceProperties, targetProperties);
+        }
+    }
+
+    /**
+     * Forgets the version stamps recorded against {@code target} by every {@link SourceToTargetObjectPropertyMapper}
+     * that skips unchanged {@link VersionStamped} {@code source} object properties, so that the next mapping to
+     * {@code target} maps everything again.<br><br>
+     * This must be called before {@code target} is reset or changed by anything other than those mappers. Only the
+     * version stamps recorded against {@code target} itself are forgotten, so if objects nested in it are reset or
+     * changed as well, this must also be called for each of them.
+     * @param target the {@code target} object to forget the version stamps of
+     */
+    public static void forget(Object target) {
+        VersionStampRecord.removeFromAll(target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mapProperty(SP sourceProperty, T target) {
+        MappingContext context = sourceProperty == null ? null : MappingContext.current();
         TP targetProperty;
         if (convertSourceToTargetProperty) {
+            if (context != null) {
+                TP mappedTargetProperty = (TP) context.getTargetProperty(this, sourceProperty);
+                if (mappedTargetProperty != null) {
+                    setPropertyToTarget(target, mappedTargetProperty);
+                    DirtyTrackingMapper.markChanged(getTrackedMapper());
+                    return;
+                }
+            }
             targetProperty = convert(sourceProperty);
             setPropertyToTarget(target, targetProperty);
+            DirtyTrackingMapper.markChanged(getTrackedMapper());
         } else {
             targetProperty = getPropertyFromTarget(target);
+            if (context != null && targetProperty != null
+                    && context.getTargetProperty(this, sourceProperty) == targetProperty) {
+                return;
+            }
+        }
+        if (context != null && targetProperty != null) {
+            context.putTargetProperty(this, sourceProperty, targetProperty);
+        }
+        for (Mapper<SP, TP> mapper : innerMappers) {
+            mapper.map(sourceProperty, targetProperty);
         }
-        innerMappers.forEach(mapper -> mapper.map(sourceProperty, targetProperty));
+    }
+
+    /**
+     * Returns whether this mapper converts the {@code source} object property into a new {@code target} object
+     * property rather than mapping into the existing one.
+     * @return {@code convertSourceToTargetProperty} as supplied into the constructor
+     */
+    boolean isConvertingSourceToTargetProperty() {
+        return convertSourceToTargetProperty;
+    }
+
+    /**
+     * Returns the optimised {@code innerMappers} of this mapper.
+     * @return the {@code innerMappers} in the order they are called in
+     */
+    Mapper<SP, TP>[] getInnerMappers() {
+        return innerMappers;
+    }
+
+    /**
+     * Returns the {@code innerMappers} of this mapper as they were supplied into its constructor, before they were
+     * optimised.
+     * @return the supplied {@code innerMappers}, in the order they were supplied in
+     */
+    List<Mapper<SP, TP>> getDeclaredInnerMappers() {
+        return declaredInnerMappers;
+    }
+
+    /**
+     * Returns the mapper whose index a {@link DirtyTrackingMapper} marks as changed when this mapper writes to
+     * {@code target}.
+     * @return this mapper
+     */
+    Mapper<?, ?> getTrackedMapper() {
+        return this;
+    }
+
+    /**
+     * Returns whether this mapper skips mapping an unchanged {@link VersionStamped} {@code source} object property
+     * again to the same {@code target} object.
+     * @return {@code skipUnchangedVersionStamps} as supplied into the constructor
+     */
+    boolean isSkippingUnchangedVersionStamps() {
+        return versionStampRecord != null;
     }
 
     /**
@@ -148,6 +356,7 @@ public abstract class SourceToTargetObjectPropertyMapper<S, SP, T, TP>
      * @param target the object of type {@link T} to obtain the object property from
      * @return the object property of type {@link TP} in {@code source} to map to
      */
+    @Override
     protected TP getPropertyFromTarget(T target) {
         throw new UnsupportedOperationException("This method must be overridden in order to be used.");
     }
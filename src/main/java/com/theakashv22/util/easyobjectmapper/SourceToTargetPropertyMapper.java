@@ -25,17 +25,58 @@ package com.theakashv22.util.easyobjectmapper;
  * @param <TP> the type of the property in the {@code target} object to map to
  */
 public abstract class SourceToTargetPropertyMapper<S, SP, T, TP> implements Mapper<S, T> {
+    private final PropertyEquivalence<? super TP> propertyEquivalence;
+
+    /**
+     * No-arg constructor of {@link SourceToTargetPropertyMapper}. Mappers constructed with this always set the property
+     * to the {@code target} object.
+     */
+    public SourceToTargetPropertyMapper() {
+        this(null);
+    }
+
+    /**
+     * Constructor of {@link SourceToTargetPropertyMapper} that skips setting the property to the {@code target} object
+     * when the property it already holds is equivalent to the one being mapped.<br><br>
+     * If {@code propertyEquivalence} is not {@code null}, then {@link #getPropertyFromTarget(Object)} must be
+     * overridden.
+     * @param propertyEquivalence decides whether the property in the {@code target} object is equivalent to the one
+     *                            being mapped, or {@code null} to always set the property
+     */
+    public SourceToTargetPropertyMapper(PropertyEquivalence<? super TP> propertyEquivalence) {
+        this.propertyEquivalence = propertyEquivalence;
+    }
+
     /**
      * Maps the property from {@code source} obtained by {@link #getPropertyFromSource(Object)} to that in
      * {@code target} set by {@link #setPropertyToTarget(Object, Object)}.<br><br>
-     * Any type conversion is done by {@link #convert(Object)}.
+     * Any type conversion is done by {@link #convert(Object)}, and if this mapper was constructed with a
+     * {@link PropertyEquivalence}, the property is not set if it is equivalent to the one obtained by
+     * {@link #getPropertyFromTarget(Object)}.
      * @param source the object of type {@link S} to map the property from
      * @param target the object of type {@link T} to map property to
      */
     public void map(S source, T target) {
         SP sourceProperty = getPropertyFromSource(source);
         TP targetProperty = convert(sourceProperty);
+        writePropertyToTarget(target, targetProperty);
+    }
+
+    /**
+     * Sets {@code targetProperty} to {@code target}, unless this mapper was constructed with a
+     * {@link PropertyEquivalence} and the property {@code target} already holds is equivalent to it.
+     * @param target the object of type {@link T} to set the property to
+     * @param targetProperty the property of type {@link TP} to map in {@code target}
+     * @return {@code true} if the property was set
+     */
+    boolean writePropertyToTarget(T target, TP targetProperty) {
+        if (propertyEquivalence != null
+                && propertyEquivalence.isEquivalent(getPropertyFromTarget(target), targetProperty)) {
+            return false;
+        }
         setPropertyToTarget(target, targetProperty);
+        DirtyTrackingMapper.markChanged(this);
+        return true;
     }
 
     /**
@@ -58,4 +99,14 @@ public abstract class SourceToTargetPropertyMapper<S, SP, T, TP> implements Mapp
      * @return the property of type {@link TP} to convert to
      */
     protected abstract TP convert(SP sourceProperty);
+
+    /**
+     * Returns the property {@code target} currently holds.<br><br>
+     * If this mapper was constructed with a {@link PropertyEquivalence}, then this method must be overridden.
+     * @param target the object of type {@link T} to obtain the property from
+     * @return the property of type {@link TP} in {@code target}
+     */
+    protected TP getPropertyFromTarget(T target) {
+        throw new UnsupportedOperationException("This method must be overridden in order to be used.");
+    }
 }
\ No newline at end of file
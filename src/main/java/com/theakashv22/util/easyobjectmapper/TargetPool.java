@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable {@code target} objects of type {@link T}, for hot loops that map each {@code source} object into
+ * a {@code target} object only to use it briefly and throw it away. Reusing pooled {@code target} objects instead
+ * means such a loop allocates nothing once the pool has warmed up.<br><br>
+ * Each thread has its own pool of at most {@code maxSizePerThread} objects, so borrowing and returning objects takes
+ * no locks and scales across cores. An object returned by a different thread than the one that borrowed it joins the
+ * pool of the returning thread.<br><br>
+ * Every object returned to the pool is reset first, in the same way that {@link AddSingleToCollectionPropertyMapper}
+ * clears its {@code target} collection before adding to it when {@code clearCollectionUponAdding} is set, so that
+ * nothing mapped into it for one {@code source} object is left over when it is borrowed for the next.
+ * @param <T> the type of the pooled {@code target} objects
+ */
+public final class TargetPool<T> {
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super T> reset;
+    private final int maxSizePerThread;
+    private final ThreadLocal<Stack<T>> stacks;
+
+    /**
+     * Main constructor of {@link TargetPool}.
+     * @param factory supplies a new object of type {@link T} whenever the pool of the calling thread is empty
+     * @param reset resets an object of type {@link T} before it is returned to the pool
+     * @param maxSizePerThread the maximum number of objects pooled by each thread, beyond which returned objects are
+     *                         left for the garbage collector
+     * @throws IllegalArgumentException if {@code maxSizePerThread} is less than {@code 1}
+     */
+    public TargetPool(Supplier<? extends T> factory, Consumer<? super T> reset, int maxSizePerThread) {
+        if (maxSizePerThread < 1) {
+            throw new IllegalArgumentException(
+                    "maxSizePerThread must be at least 1, but was " + maxSizePerThread + "."
+            );
+        }
+
+        this.factory = factory;
+        this.reset = reset;
+        this.maxSizePerThread = maxSizePerThread;
+        this.stacks = ThreadLocal.withInitial(() -> new Stack<>(maxSizePerThread));
+    }
+
+    /**
+     * Constructor of {@link TargetPool} that resets each object by mapping a pristine object obtained from
+     * {@code factory} when this pool is constructed into it using {@code resetMapper}.
+     * @param factory supplies a new object of type {@link T} whenever the pool of the calling thread is empty
+     * @param resetMapper the {@link Mapper} that resets the object it maps to using the properties of the pristine
+     *                    object it maps from
+     * @param maxSizePerThread the maximum number of objects pooled by each thread, beyond which returned objects are
+     *                         left for the garbage collector
+     * @throws IllegalArgumentException if {@code maxSizePerThread} is less than {@code 1}
+     */
+    public TargetPool(Supplier<? extends T> factory, Mapper<? super T, ? super T> resetMapper, int maxSizePerThread) {
+        this(factory, resetConsumer(factory.get(), resetMapper), maxSizePerThread);
+    }
+
+    private static <T> Consumer<T> resetConsumer(T pristineTarget, Mapper<? super T, ? super T> resetMapper) {
+        return target -> resetMapper.map(pristineTarget, target);
+    }
+
+    /**
+     * Borrows an object from the pool of the calling thread, or obtains a new one from {@code factory} if that pool is
+     * empty. The object must be returned by calling {@link #release(Object)} once, and not used afterwards.
+     * @return the borrowed object of type {@link T}
+     */
+    public T acquire() {
+        T target = stacks.get().pop();
+        return target != null ? target : factory.get();
+    }
+
+    /**
+     * Resets {@code target} and returns it to the pool of the calling thread, unless that pool is already full.<br><br>
+     * Any version stamps recorded against {@code target} are forgotten by calling
+     * {@link SourceToTargetObjectPropertyMapper#forget(Object)} before it is reset, so that it is mapped to in full
+     * when it is borrowed again.
+     * @param target the object of type {@link T} previously obtained from {@link #acquire()}
+     */
+    public void release(T target) {
+        SourceToTargetObjectPropertyMapper.forget(target);
+        reset.accept(target);
+        stacks.get().push(target);
+    }
+
+    /**
+     * Borrows an object from the pool, maps {@code source} into it using {@code mapper}, passes it to {@code action}
+     * and returns it to the pool, even if {@code mapper} or {@code action} throws.<br><br>
+     * {@code action} must not keep a reference to the object once it returns.
+     * @param mapper the {@link Mapper} to map {@code source} into the borrowed object with
+     * @param source the object of type {@link S} to map properties from
+     * @param action the action to use the mapped object of type {@link T} in
+     * @param <S> the type of the {@code source} object to map properties from
+     */
+    public <S> void map(Mapper<? super S, ? super T> mapper, S source, Consumer<? super T> action) {
+        T target = acquire();
+        try {
+            mapper.map(source, target);
+            action.accept(target);
+        } finally {
+            release(target);
+        }
+    }
+
+    /**
+     * Borrows an object from the pool, maps {@code source} into it using {@code mapper}, applies {@code function} to
+     * it and returns it to the pool, even if {@code mapper} or {@code function} throws.<br><br>
+     * {@code function} must not keep or return a reference to the object.
+     * @param mapper the {@link Mapper} to map {@code source} into the borrowed object with
+     * @param source the object of type {@link S} to map properties from
+     * @param function the function to apply to the mapped object of type {@link T}
+     * @param <S> the type of the {@code source} object to map properties from
+     * @param <R> the type of the result of {@code function}
+     * @return the result of {@code function}
+     */
+    public <S, R> R apply(Mapper<? super S, ? super T> mapper, S source, Function<? super T, ? extends R> function) {
+        T target = acquire();
+        try {
+            mapper.map(source, target);
+            return function.apply(target);
+        } finally {
+            release(target);
+        }
+    }
+
+    /**
+     * Returns the maximum number of objects pooled by each thread.
+     * @return the maximum number of objects pooled by each thread
+     */
+    public int getMaxSizePerThread() {
+        return maxSizePerThread;
+    }
+
+    /**
+     * Returns the number of objects currently pooled by the calling thread.
+     * @return the number of objects currently pooled by the calling thread
+     */
+    public int size() {
+        return stacks.get().size;
+    }
+
+    /**
+     * A fixed-capacity stack of the objects pooled by a single thread.
+     * @param <T> the type of the pooled objects
+     */
+    private static final class Stack<T> {
+        private final Object[] elements;
+        private int size;
+
+        private Stack(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T pop() {
+            if (size == 0) {
+                return null;
+            }
+
+            T element = (T) elements[--size];
+            elements[size] = null;
+            return element;
+        }
+
+        private void push(T element) {
+            if (size < elements.length) {
+                elements[size++] = element;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tracks a frame of type {@link F} that is in effect on a thread between {@link #enter()} and {@link #exit()}, for
+ * state such as a {@link MappingContext} that mappers deep in a tree must find without it being passed through
+ * {@link Mapper#map(Object, Object)}.<br><br>
+ * Each thread has a single frame, created the first time it enters this scope and reused afterwards, so entering
+ * allocates nothing once warmed up. Callers save and restore the fields of the frame around nested runs themselves.
+ * The number of threads inside this scope is counted only when a thread enters it first and exits it last, so
+ * {@link #current()} costs a single volatile read on threads that are not inside this scope while no other thread is
+ * either, and nested runs on the same thread do not touch the count at all.<br><br>
+ * A frame is only in effect on the thread that entered the scope. Work that a mapper hands over to other threads,
+ * e.g. through an {@link java.util.concurrent.Executor}, runs outside the scope.
+ * @param <F> the type of the frame
+ */
+final class ThreadScope<F> {
+    private final AtomicInteger activeThreadCount = new AtomicInteger();
+    private final ThreadLocal<Entry<F>> entries = new ThreadLocal<>();
+    private final Supplier<? extends F> frameFactory;
+
+    /**
+     * Main constructor of {@link ThreadScope}.
+     * @param frameFactory creates the frame of each thread the first time it enters this scope
+     */
+    ThreadScope(Supplier<? extends F> frameFactory) {
+        this.frameFactory = frameFactory;
+    }
+
+    /**
+     * Enters this scope on the calling thread, which must call {@link #exit()} once done, e.g. in a {@code finally}
+     * block.
+     * @return the frame of the calling thread
+     */
+    F enter() {
+        Entry<F> entry = entries.get();
+        if (entry == null) {
+            entry = new Entry<>(frameFactory.get());
+            entries.set(entry);
+        }
+        if (entry.depth++ == 0) {
+            activeThreadCount.incrementAndGet();
+        }
+        return entry.frame;
+    }
+
+    /**
+     * Exits this scope on the calling thread, once for each call to {@link #enter()}.
+     */
+    void exit() {
+        Entry<F> entry = entries.get();
+        if (--entry.depth == 0) {
+            activeThreadCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the frame of the calling thread if it is inside this scope.
+     * @return the frame of the calling thread, or {@code null} if it is not inside this scope
+     */
+    F current() {
+        if (activeThreadCount.get() == 0) {
+            return null;
+        }
+
+        Entry<F> entry = entries.get();
+        return entry == null || entry.depth == 0 ? null : entry.frame;
+    }
+
+    /**
+     * The frame of a single thread, and how many times that thread has entered this scope without exiting it.
+     * @param <F> the type of the frame
+     */
+    private static final class Entry<F> {
+        private final F frame;
+        private int depth;
+
+        private Entry(F frame) {
+            this.frame = frame;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Records the version stamp of the {@link VersionStamped} {@code source} object property last mapped to each
+ * {@code target} object by a {@link SourceToTargetObjectPropertyMapper}.<br><br>
+ * {@code target} objects are compared by identity and only weakly referenced, so a record does not keep its
+ * {@code target} object from being garbage collected, and is removed once it has been. Looking up a record allocates
+ * nothing.<br><br>
+ * Records are split into segments that are locked separately, so that threads mapping to different {@code target}
+ * objects through the same mapper seldom wait for each other. Every record created by {@link #create()} is also
+ * registered, so that {@link #removeFromAll(Object)} can remove the records of a {@code target} object from all of
+ * them.
+ */
+final class VersionStampRecord {
+    private static final int SEGMENT_COUNT = 16;
+    private static final Object REGISTRY_LOCK = new Object();
+    @SuppressWarnings("unchecked")
+    private static volatile WeakReference<VersionStampRecord>[] registry = new WeakReference[0];
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    VersionStampRecord() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Creates a new record and registers it, so that {@link #removeFromAll(Object)} also removes from it.
+     * @return the new record
+     */
+    @SuppressWarnings("unchecked")
+    static VersionStampRecord create() {
+        VersionStampRecord record = new VersionStampRecord();
+        synchronized (REGISTRY_LOCK) {
+            WeakReference<VersionStampRecord>[] oldRegistry = registry;
+            WeakReference<VersionStampRecord>[] newRegistry = new WeakReference[oldRegistry.length + 1];
+            int size = 0;
+            for (WeakReference<VersionStampRecord> reference : oldRegistry) {
+                if (reference.get() != null) {
+                    newRegistry[size++] = reference;
+                }
+            }
+            newRegistry[size++] = new WeakReference<>(record);
+            registry = Arrays.copyOf(newRegistry, size);
+        }
+        return record;
+    }
+
+    /**
+     * Removes the records of {@code target} from every record created by {@link #create()} that is still in use.
+     * @param target the {@code target} object to remove the records of
+     */
+    static void removeFromAll(Object target) {
+        for (WeakReference<VersionStampRecord> reference : registry) {
+            VersionStampRecord record = reference.get();
+            if (record != null) {
+                record.remove(target);
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code target} was last mapped to from a {@code source} object property with
+     * {@code versionStamp}.
+     * @param target the {@code target} object to look up
+     * @param versionStamp the version stamp of the {@code source} object property about to be mapped
+     * @return {@code true} if mapping to {@code target} again can be skipped
+     */
+    boolean isCurrent(Object target, long versionStamp) {
+        int hash = hash(target);
+        return segmentFor(hash).isCurrent(target, hash, versionStamp);
+    }
+
+    /**
+     * Records that {@code target} was mapped to from a {@code source} object property with {@code versionStamp}.
+     * @param target the {@code target} object mapped to
+     * @param versionStamp the version stamp of the {@code source} object property mapped from
+     */
+    void put(Object target, long versionStamp) {
+        int hash = hash(target);
+        segmentFor(hash).put(target, hash, versionStamp);
+    }
+
+    /**
+     * Removes the record of {@code target}, if any, so that it is mapped to again regardless of version stamps.
+     * @param target the {@code target} object to remove the record of
+     */
+    void remove(Object target) {
+        int hash = hash(target);
+        segmentFor(hash).remove(target, hash);
+    }
+
+    /**
+     * Returns the number of {@code target} objects that have a record and have not been garbage collected.
+     * @return the number of records
+     */
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[(hash >>> 16) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static int hash(Object target) {
+        int hash = System.identityHashCode(target);
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A separately locked weak identity hash table holding the records of some of the {@code target} objects.
+     */
+    private static final class Segment {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private Entry[] table = new Entry[INITIAL_CAPACITY];
+        private int size;
+
+        private synchronized boolean isCurrent(Object target, int hash, long versionStamp) {
+            Entry entry = find(target, hash);
+            return entry != null && entry.versionStamp == versionStamp;
+        }
+
+        private synchronized void put(Object target, int hash, long versionStamp) {
+            expungeStaleEntries();
+
+            Entry entry = find(target, hash);
+            if (entry != null) {
+                entry.versionStamp = versionStamp;
+                return;
+            }
+
+            if (size >= table.length - (table.length >>> 2)) {
+                resize();
+            }
+            int index = hash & (table.length - 1);
+            table[index] = new Entry(target, hash, versionStamp, table[index], queue);
+            size++;
+        }
+
+        private synchronized void remove(Object target, int hash) {
+            Entry entry = find(target, hash);
+            if (entry != null) {
+                unlink(entry);
+                entry.clear();
+            }
+        }
+
+        private synchronized int size() {
+            expungeStaleEntries();
+            return size;
+        }
+
+        private Entry find(Object target, int hash) {
+            for (Entry entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+                if (entry.hash == hash && entry.get() == target) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private void expungeStaleEntries() {
+            for (Reference<?> reference = queue.poll(); reference != null; reference = queue.poll()) {
+                unlink((Entry) reference);
+            }
+        }
+
+        private void unlink(Entry entry) {
+            int index = entry.hash & (table.length - 1);
+            Entry previous = null;
+            for (Entry current = table[index]; current != null; previous = current, current = current.next) {
+                if (current == entry) {
+                    if (previous == null) {
+                        table[index] = current.next;
+                    } else {
+                        previous.next = current.next;
+                    }
+                    size--;
+                    return;
+                }
+            }
+        }
+
+        private void resize() {
+            Entry[] newTable = new Entry[table.length << 1];
+            for (Entry entry : table) {
+                while (entry != null) {
+                    Entry next = entry.next;
+                    int index = entry.hash & (newTable.length - 1);
+                    entry.next = newTable[index];
+                    newTable[index] = entry;
+                    entry = next;
+                }
+            }
+            table = newTable;
+        }
+    }
+
+    /**
+     * A weakly referenced {@code target} object and the version stamp last mapped to it.
+     */
+    private static final class Entry extends WeakReference<Object> {
+        private final int hash;
+        private long versionStamp;
+        private Entry next;
+
+        private Entry(Object target, int hash, long versionStamp, Entry next, ReferenceQueue<Object> queue) {
+            super(target, queue);
+            this.hash = hash;
+            this.versionStamp = versionStamp;
+            this.next = next;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+/**
+ * An object that exposes a version stamp identifying its current state, so that a
+ * {@link SourceToTargetObjectPropertyMapper} mapping it as a {@code source} object property can skip its whole subtree
+ * of {@code innerMappers} when it has not changed since it was last mapped to the same {@code target} object, if that
+ * mapper was constructed with {@code skipUnchangedVersionStamps} set to {@code true}.<br><br>
+ * The version stamp must change whenever anything read by those {@code innerMappers} changes, and must also differ
+ * between different objects that may be mapped to the same {@code target} object, e.g. by being a hash of everything
+ * the {@code innerMappers} read, or by combining an identifier with a version number.
+ */
+public interface VersionStamped {
+    /**
+     * Returns the version stamp identifying the current state of this object.
+     * @return the version stamp
+     */
+    long getVersionStamp();
+}
\ No newline at end of file
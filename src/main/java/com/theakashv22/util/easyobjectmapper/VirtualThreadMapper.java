@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * This mapper wraps a {@link Mapper} so that each pair of objects mapped by {@link #mapAsync(Object, Object)} or
+ * {@link #mapAll(List, List)} is mapped on its own virtual thread, with no more than {@code maxConcurrency} pairs
+ * mapped at once. This suits mapper trees whose {@code convert} methods block on I/O, which would otherwise tie up a
+ * platform thread each.<br><br>
+ * Virtual threads need Java 21 or later. On earlier versions, {@link #mapAsync(Object, Object)} maps on the calling
+ * thread and returns a completed {@link CompletableFuture}, and {@link #mapAll(List, List)} calls the wrapped mapper's
+ * {@link Mapper#mapAll(List, List)}, so mapping behaves exactly as it does without this mapper.<br><br>
+ * As with {@link ParallelBatchMapper}, the wrapped mapper must be safe to call from several threads at once for
+ * different {@code target} objects.
+ * @param <S> the type of the {@code source} object to map properties from
+ * @param <T> the type of the {@code target} object to map properties to
+ */
+public class VirtualThreadMapper<S, T> implements Mapper<S, T> {
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = createVirtualThreadExecutor();
+
+    private final Mapper<S, T> mapper;
+    private final Semaphore permits;
+    private final Executor executor;
+
+    /**
+     * Main constructor of {@link VirtualThreadMapper}.
+     * @param mapper the {@link Mapper} to map each pair of objects with
+     * @param maxConcurrency the maximum number of pairs of objects to map at once
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than {@code 1}
+     */
+    public VirtualThreadMapper(Mapper<S, T> mapper, int maxConcurrency) {
+        this(mapper, maxConcurrency, VIRTUAL_THREAD_EXECUTOR);
+    }
+
+    /**
+     * Constructor of {@link VirtualThreadMapper} that maps on {@code executor} instead of on virtual threads.
+     * @param mapper the {@link Mapper} to map each pair of objects with
+     * @param maxConcurrency the maximum number of pairs of objects to map at once
+     * @param executor the {@link Executor} to map on, or {@code null} to map on the calling thread
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than {@code 1}
+     */
+    VirtualThreadMapper(Mapper<S, T> mapper, int maxConcurrency, Executor executor) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, but was " + maxConcurrency + ".");
+        }
+
+        this.mapper = mapper;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns a new {@link Executor} that starts a virtual thread for each task, looked up at run time so that this
+     * class still loads on Java versions without virtual threads.
+     * @return the {@link Executor}, or {@code null} if virtual threads are not supported
+     */
+    private static Executor createVirtualThreadExecutor() {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+            return (ExecutorService) factory.invoke();
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether this JVM supports virtual threads, and so whether mapping is done on them.
+     * @return {@code true} if virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} on the calling thread using the wrapped mapper.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     */
+    @Override
+    public void map(S source, T target) {
+        mapper.map(source, target);
+    }
+
+    /**
+     * Maps the properties from {@code source} to {@code target} on a virtual thread using the wrapped mapper, first
+     * waiting until fewer than {@code maxConcurrency} pairs of objects are being mapped.
+     * @param source the object of type {@link S} to map properties from
+     * @param target the object of type {@link T} to map properties to
+     * @return a {@link CompletableFuture} completed with {@code target} once it has been mapped, or completed
+     * exceptionally with whatever the wrapped mapper threw
+     */
+    public CompletableFuture<T> mapAsync(S source, T target) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (executor == null) {
+            mapAndComplete(source, target, future);
+            return future;
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(exception);
+            return future;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    mapAndComplete(source, target, future);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            permits.release();
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private void mapAndComplete(S source, T target, CompletableFuture<T> future) {
+        try {
+            mapper.map(source, target);
+            future.complete(target);
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Maps the properties from each object in {@code sources} to the object at the same index in {@code targets},
+     * mapping each pair of objects on its own virtual thread by calling {@link #mapAsync(Object, Object)}, and returns
+     * once the whole batch has been mapped. If mapping any pair of objects failed, the exception of the first such
+     * pair is thrown once the rest have been mapped.
+     * @param sources the objects of type {@link S} to map properties from
+     * @param targets the objects of type {@link T} to map properties to, which must be the same size as
+     *                {@code sources}
+     * @throws IllegalArgumentException if {@code sources} and {@code targets} are not the same size
+     */
+    @Override
+    public void mapAll(List<? extends S> sources, List<? extends T> targets) {
+        Batches.checkSameSize(sources, targets);
+
+        if (executor == null) {
+            mapper.mapAll(sources, targets);
+            return;
+        }
+
+        int size = sources.size();
+        List<CompletableFuture<T>> futures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            futures.add(mapAsync(sources.get(i), targets.get(i)));
+        }
+
+        Throwable failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException exception) {
+                if (failure == null) {
+                    failure = exception.getCause();
+                }
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+}
\ No newline at end of file
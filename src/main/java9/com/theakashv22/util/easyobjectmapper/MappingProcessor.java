@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * This {@link Flow.Processor} maps the properties from each item of type {@link S} it receives to a new item of type
+ * {@link T} obtained from a {@code targetSupplier}, using a {@link Mapper}, and publishes the mapped items to a single
+ * subscriber in the order they were received.<br><br>
+ * Items are only requested from upstream when the subscriber has demanded them, in batches of up to
+ * {@code batchSize} items, so no more than {@code batchSize} items are ever buffered however fast upstream publishes.
+ * Items are mapped and published on the {@link Executor} supplied into the constructor, one task at a time, or on
+ * whichever thread signals this processor if no {@link Executor} is supplied.<br><br>
+ * If the {@link Mapper} or {@code targetSupplier} throws an exception, the upstream subscription is cancelled and the
+ * exception is passed to the subscriber's {@link Flow.Subscriber#onError(Throwable)}.
+ * @param <S> the type of the {@code source} items to map properties from
+ * @param <T> the type of the {@code target} items to map properties to
+ */
+public final class MappingProcessor<S, T> implements Flow.Processor<S, T> {
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final Mapper<S, T> mapper;
+    private final Supplier<? extends T> targetSupplier;
+    private final Executor executor;
+    private final int batchSize;
+
+    private final Queue<S> items = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger itemCount = new AtomicInteger();
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicLong pendingUpstreamCount = new AtomicLong();
+    private final AtomicInteger drainCount = new AtomicInteger();
+    private final Object subscriberLock = new Object();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super T> downstream;
+    private boolean subscribed;
+    private volatile boolean upstreamDone;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+    private volatile boolean upstreamCancelled;
+    private boolean terminated;
+
+    /**
+     * Constructor of {@link MappingProcessor} that calls
+     * {@link #MappingProcessor(Mapper, Supplier, Executor, int)}, maps items on whichever thread signals this
+     * processor, and sets {@code batchSize} to {@link Flow#defaultBufferSize()}.
+     * @param mapper the mapper to map each item with
+     * @param targetSupplier supplies a new object of type {@link T} for each item
+     */
+    public MappingProcessor(Mapper<S, T> mapper, Supplier<? extends T> targetSupplier) {
+        this(mapper, targetSupplier, DIRECT_EXECUTOR, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Main constructor of {@link MappingProcessor}.
+     * @param mapper the mapper to map each item with
+     * @param targetSupplier supplies a new object of type {@link T} for each item
+     * @param executor the {@link Executor} to map and publish items on
+     * @param batchSize the maximum number of items to request from upstream at once, and so to buffer
+     * @throws IllegalArgumentException if {@code batchSize} is less than {@code 1}
+     */
+    public MappingProcessor(
+            Mapper<S, T> mapper,
+            Supplier<? extends T> targetSupplier,
+            Executor executor,
+            int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, but was " + batchSize + ".");
+        }
+
+        this.mapper = mapper;
+        this.targetSupplier = targetSupplier;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Subscribes {@code subscriber} to the mapped items. Only one subscriber is supported, and any other subscriber is
+     * passed an {@link IllegalStateException}.
+     * @param subscriber the subscriber to publish mapped items of type {@link T} to
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        synchronized (subscriberLock) {
+            if (subscribed) {
+                subscriber.onSubscribe(new RejectedSubscription());
+                subscriber.onError(new IllegalStateException("MappingProcessor supports only one subscriber."));
+                return;
+            }
+            subscribed = true;
+        }
+
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        signal();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (upstreamCancelled) {
+            subscription.cancel();
+        }
+        signal();
+    }
+
+    @Override
+    public void onNext(S item) {
+        Objects.requireNonNull(item, "item");
+        pendingUpstreamCount.decrementAndGet();
+        items.offer(item);
+        itemCount.incrementAndGet();
+        signal();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable");
+        error = throwable;
+        upstreamDone = true;
+        signal();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        signal();
+    }
+
+    private void signal() {
+        if (drainCount.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super T> subscriber = downstream;
+            if (subscriber != null && !terminated) {
+                publish(subscriber);
+            }
+            missed = drainCount.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void publish(Flow.Subscriber<? super T> subscriber) {
+        if (cancelled) {
+            terminated = true;
+            clearItems();
+            return;
+        }
+
+        while (demand.get() > 0 && itemCount.get() > 0 && error == null) {
+            S item = items.poll();
+            itemCount.decrementAndGet();
+            T target;
+            try {
+                target = targetSupplier.get();
+                mapper.map(item, target);
+            } catch (Throwable throwable) {
+                cancelUpstream();
+                terminate(subscriber, throwable);
+                return;
+            }
+            demand.decrementAndGet();
+            subscriber.onNext(target);
+            if (cancelled) {
+                terminated = true;
+                clearItems();
+                return;
+            }
+        }
+
+        if (upstreamDone && (error != null || itemCount.get() == 0)) {
+            terminate(subscriber, error);
+            return;
+        }
+
+        requestUpstream();
+    }
+
+    private void requestUpstream() {
+        Flow.Subscription subscription = upstream;
+        if (subscription == null || upstreamDone || upstreamCancelled) {
+            return;
+        }
+
+        long wanted = Math.min(demand.get(), batchSize);
+        long inFlight = pendingUpstreamCount.get() + itemCount.get();
+        long request = wanted - inFlight;
+        if (request > 0 && (inFlight == 0 || request >= (batchSize + 1) / 2)) {
+            pendingUpstreamCount.addAndGet(request);
+            subscription.request(request);
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super T> subscriber, Throwable throwable) {
+        terminated = true;
+        clearItems();
+        if (throwable == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(throwable);
+        }
+    }
+
+    private void clearItems() {
+        items.clear();
+        itemCount.set(0);
+    }
+
+    private void cancelUpstream() {
+        upstreamCancelled = true;
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private static long addCapped(long current, long added) {
+        long sum = current + added;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                error = new IllegalArgumentException("n must be positive, but was " + n + ".");
+                upstreamDone = true;
+            } else {
+                demand.getAndAccumulate(n, MappingProcessor::addCapped);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            signal();
+        }
+    }
+
+    private static final class RejectedSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
\ No newline at end of file
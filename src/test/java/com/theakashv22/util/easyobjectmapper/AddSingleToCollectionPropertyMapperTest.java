@@ -23,6 +23,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class AddSingleToCollectionPropertyMapperTest {
     @Test
@@ -60,6 +61,40 @@ public class AddSingleToCollectionPropertyMapperTest {
         );
     }
 
+    @Test
+    public void testMapperSkipsAddingEquivalentProperty() {
+        Target target = new Target();
+        target.getTargetProperty().addAll(Arrays.asList("10", "5"));
+
+        createMapper(false, PropertyEquivalence.equality()).map(new Source(10), target);
+
+        assertEquals(Arrays.asList("10", "5"), target.getTargetProperty());
+    }
+
+    @Test
+    public void testMapperWhileClearingTargetPropertySkipsOnlyIfSoleElementIsEquivalent() {
+        AddSingleToCollectionPropertyMapper<Source, Integer, Target, String> mapper =
+                createMapper(true, PropertyEquivalence.equality());
+        Target target = new Target();
+        target.getTargetProperty().add("10");
+        Collection<String> targetProperty = target.getTargetProperty();
+
+        mapper.map(new Source(10), target);
+
+        assertEquals(Collections.singletonList("10"), target.getTargetProperty());
+        assertSame(targetProperty, target.getTargetProperty());
+
+        target.getTargetProperty().add("5");
+        mapper.map(new Source(10), target);
+
+        assertEquals(Collections.singletonList("10"), target.getTargetProperty());
+    }
+
+    @Test
+    public void testMapperWithEquivalenceAddsNonEquivalentProperty() {
+        testMapper(createMapper(false, PropertyEquivalence.equality()), Arrays.asList("5", "10"));
+    }
+
     private void testMapperWithoutClearingTargetProperty(
             AddSingleToCollectionPropertyMapper<Source, Integer, Target, String> mapper
     ) {
@@ -69,7 +104,17 @@ public class AddSingleToCollectionPropertyMapperTest {
     private AddSingleToCollectionPropertyMapper<Source, Integer, Target, String> createMapper(
             boolean clearCollectionUponAdding
     ) {
-        return new AddSingleToCollectionPropertyMapper<Source, Integer, Target, String>(clearCollectionUponAdding) {
+        return createMapper(clearCollectionUponAdding, null);
+    }
+
+    private AddSingleToCollectionPropertyMapper<Source, Integer, Target, String> createMapper(
+            boolean clearCollectionUponAdding,
+            PropertyEquivalence<? super String> propertyEquivalence
+    ) {
+        return new AddSingleToCollectionPropertyMapper<Source, Integer, Target, String>(
+                clearCollectionUponAdding,
+                propertyEquivalence
+        ) {
             @Override
             protected Integer getPropertyFromSource(Source source) {
                 return source.getSourceProperty();
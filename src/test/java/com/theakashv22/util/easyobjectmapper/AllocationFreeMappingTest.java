@@ -0,0 +1,365 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that calling {@link Mapper#map(Object, Object)} on each of the mappers that {@link Mapper} documents as not
+ * allocating allocates nothing, apart from whatever the overridden methods allocate, which in these tests is nothing
+ * either.
+ */
+public class AllocationFreeMappingTest {
+    private static final int ITERATIONS = 100_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private final Source source = new Source("value", new Source("innerValue", null));
+    private final Target target = new Target();
+
+    @BeforeAll
+    public static void setUpThreadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testSourceToTargetPropertyMapper() {
+        assertAllocationFree(new SourceToTargetPropertyMapper<Source, String, Target, CharSequence>() {
+            @Override
+            protected String getPropertyFromSource(Source source) {
+                return source.getValue();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, CharSequence targetProperty) {
+                target.setValue(targetProperty);
+            }
+
+            @Override
+            protected CharSequence convert(String sourceProperty) {
+                return sourceProperty;
+            }
+        });
+    }
+
+    @Test
+    public void testSimplePropertyMapper() {
+        assertAllocationFree(createValueMapper());
+    }
+
+    @Test
+    public void testAddSingleToCollectionPropertyMapper() {
+        assertAllocationFree(new AddSingleToCollectionPropertyMapper<Source, String, Target, CharSequence>(true) {
+            @Override
+            protected String getPropertyFromSource(Source source) {
+                return source.getValue();
+            }
+
+            @Override
+            protected Collection<CharSequence> getPropertyFromTarget(Target target) {
+                return target.getValues();
+            }
+
+            @Override
+            protected CharSequence convert(String sourceProperty) {
+                return sourceProperty;
+            }
+        });
+    }
+
+    @Test
+    public void testCollectionToCollectionPropertyMapper() {
+        List<String> sourceProperty = Arrays.asList("first", "second", "third");
+        Mapper<String, CharSequence> elementMapper = (sourceElement, targetElement) -> { };
+        assertAllocationFree(new CollectionToCollectionPropertyMapper<Source, String, Target, CharSequence>(
+                true,
+                Collections.singletonList(elementMapper)
+        ) {
+            @Override
+            protected Collection<String> getPropertyFromSource(Source source) {
+                return sourceProperty;
+            }
+
+            @Override
+            protected Collection<CharSequence> getPropertyFromTarget(Target target) {
+                return target.getValues();
+            }
+
+            @Override
+            protected CharSequence convert(String sourceProperty) {
+                return sourceProperty;
+            }
+        });
+    }
+
+    @Test
+    public void testSourceToTargetObjectPropertyMapper() {
+        assertAllocationFree(createInnerMapper(false));
+    }
+
+    @Test
+    public void testSourceToTargetObjectPropertyMapperWhileConvertingSourceToTargetProperty() {
+        assertAllocationFree(createInnerMapper(true));
+    }
+
+    @Test
+    public void testSimpleObjectPropertyMapper() {
+        Mapper<Source, Source> valueMapper = (source, target) -> target.getValue();
+        assertAllocationFree(new SimpleObjectPropertyMapper<Source, Source, Source>(
+                Collections.singletonList(valueMapper)
+        ) {
+            @Override
+            protected Source getPropertyFromSource(Source source) {
+                return source.getInner();
+            }
+
+            @Override
+            protected Source getPropertyFromTarget(Source target) {
+                return target.getInner();
+            }
+        }, source, source);
+    }
+
+    @Test
+    public void testLongToDoublePropertyMapper() {
+        assertAllocationFree(new LongToDoublePropertyMapper<Source, Target>() {
+            @Override
+            protected long getPropertyFromSource(Source source) {
+                return source.getNumber();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, double targetProperty) {
+                target.setNumber(targetProperty);
+            }
+
+            @Override
+            protected double convert(long sourceProperty) {
+                return sourceProperty / 2.0;
+            }
+        });
+    }
+
+    @Test
+    public void testEasyObjectMapper() {
+        assertAllocationFree(new EasyObjectMapper<>(
+                createValueMapper(),
+                new EasyObjectMapper<>(createInnerMapper(false), createInnerMapper(true))
+        ));
+    }
+
+    @Test
+    public void testDirtyTrackingMapper() {
+        DirtyTrackingMapper<Source, Target> mapper = new DirtyTrackingMapper<>(new EasyObjectMapper<>(
+                createValueMapper(),
+                createInnerMapper(true)
+        ));
+        long[] changedProperties = mapper.newChangedProperties();
+        assertAllocationFree((Source source, Target target) -> mapper.map(source, target, changedProperties));
+    }
+
+    @Test
+    public void testInstrumentedMapper() {
+        assertAllocationFree(new MapperMetrics().instrument(
+                "root",
+                new EasyObjectMapper<>(createValueMapper(), createInnerMapper(true))
+        ));
+    }
+
+    @Test
+    public void testParallelBatchMapper() {
+        assertAllocationFree(new ParallelBatchMapper<>(createValueMapper(), 1));
+    }
+
+    @Test
+    public void testVirtualThreadMapper() {
+        assertAllocationFree(new VirtualThreadMapper<>(createValueMapper(), 1));
+    }
+
+    @Test
+    public void testBinaryRecordLayout() {
+        BinaryRecordLayout layout = BinaryRecordLayout.builder().addLong("number").addString("value", 8).build();
+        Mapper<Source, BinaryRecord> mapper = new EasyObjectMapper<>(
+                layout.longMapper("number", Source::getNumber),
+                layout.stringMapper("value", Source::getValue)
+        );
+        assertAllocationFree(
+                mapper,
+                source,
+                new BinaryRecord(layout).wrap(ByteBuffer.allocateDirect(layout.getSize()), 0)
+        );
+    }
+
+    @Test
+    public void testTargetPool() {
+        TargetPool<Target> pool = new TargetPool<>(Target::new, target -> target.setValue(null), 1);
+        Mapper<Source, Target> mapper = createValueMapper();
+        Consumer<Target> action = this::consume;
+        assertAllocationFree(
+                (Source source, Target target) -> pool.map(mapper, source, action),
+                source,
+                target
+        );
+    }
+
+    private void consume(Target target) {
+        if (target.getValue() == null) {
+            throw new IllegalStateException("Target was not mapped.");
+        }
+    }
+
+    private SimplePropertyMapper<Source, Target, CharSequence> createValueMapper() {
+        return new SimplePropertyMapper<Source, Target, CharSequence>() {
+            @Override
+            protected CharSequence getPropertyFromSource(Source source) {
+                return source.getValue();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, CharSequence targetProperty) {
+                target.setValue(targetProperty);
+            }
+        };
+    }
+
+    private SourceToTargetObjectPropertyMapper<Source, Source, Target, Target> createInnerMapper(
+            boolean convertSourceToTargetProperty
+    ) {
+        Target innerTarget = new Target();
+        return new SourceToTargetObjectPropertyMapper<Source, Source, Target, Target>(
+                convertSourceToTargetProperty,
+                Collections.singletonList(createValueMapper())
+        ) {
+            @Override
+            protected Source getPropertyFromSource(Source source) {
+                return source.getInner();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, Target targetProperty) {
+                target.setInner(targetProperty);
+            }
+
+            @Override
+            protected Target convert(Source sourceProperty) {
+                return innerTarget;
+            }
+
+            @Override
+            protected Target getPropertyFromTarget(Target target) {
+                return innerTarget;
+            }
+        };
+    }
+
+    private void assertAllocationFree(Mapper<Source, Target> mapper) {
+        assertAllocationFree(mapper, source, target);
+    }
+
+    private <S, T> void assertAllocationFree(Mapper<S, T> mapper, S source, T target) {
+        long threadId = Thread.currentThread().getId();
+
+        // Warm up first, so that class loading and the like is not counted.
+        mapAll(mapper, source, target);
+
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        mapAll(mapper, source, target);
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        // Allow for anything allocated by getThreadAllocatedBytes itself, which is far less than a byte per call.
+        assertTrue(
+                allocatedBytes < ITERATIONS,
+                "Expected no allocation per call to map, but " + allocatedBytes + " bytes were allocated over "
+                        + ITERATIONS + " calls."
+        );
+    }
+
+    private <S, T> void mapAll(Mapper<S, T> mapper, S source, T target) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.map(source, target);
+        }
+    }
+
+    private static class Source {
+        private final String value;
+        private final Source inner;
+        private final long number = 10_000_000_000L;
+
+        private Source(String value, Source inner) {
+            this.value = value;
+            this.inner = inner;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Source getInner() {
+            return inner;
+        }
+
+        public long getNumber() {
+            return number;
+        }
+    }
+
+    private static class Target {
+        private CharSequence value;
+        private Target inner;
+        private double number;
+        private final List<CharSequence> values = new ArrayList<>();
+
+        public CharSequence getValue() {
+            return value;
+        }
+
+        public void setValue(CharSequence value) {
+            this.value = value;
+        }
+
+        public Target getInner() {
+            return inner;
+        }
+
+        public void setInner(Target inner) {
+            this.inner = inner;
+        }
+
+        public void setNumber(double number) {
+            this.number = number;
+        }
+
+        public List<CharSequence> getValues() {
+            return values;
+        }
+    }
+}
\ No newline at end of file
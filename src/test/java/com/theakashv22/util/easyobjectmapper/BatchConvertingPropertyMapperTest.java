@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchConvertingPropertyMapperTest {
+    private final List<List<Integer>> convertAllCalls = new ArrayList<>();
+
+    @Test
+    public void testMapAllConvertsDistinctPropertiesOnce() {
+        List<Target> targets = Arrays.asList(new Target(), new Target(), new Target(), new Target());
+
+        createMapper().mapAll(Arrays.asList(new Source(2), new Source(1), new Source(2), new Source(3)), targets);
+
+        assertEquals(Arrays.asList("two", "one", "two", null), getTargetProperties(targets));
+        assertEquals(Arrays.asList(Arrays.asList(2, 1, 3)), convertAllCalls);
+    }
+
+    @Test
+    public void testMapConvertsSingleProperty() {
+        Target target = new Target();
+
+        createMapper().map(new Source(1), target);
+
+        assertEquals("one", target.getTargetProperty());
+        assertEquals(Arrays.asList(Arrays.asList(1)), convertAllCalls);
+    }
+
+    @Test
+    public void testEasyObjectMapperConvertsBatchOnce() {
+        EasyObjectMapper<Source, Target> mapper = new EasyObjectMapper<>(createMapper());
+
+        List<Target> targets = mapper.mapAll(Arrays.asList(new Source(1), new Source(2)), Target::new);
+
+        assertEquals(Arrays.asList("one", "two"), getTargetProperties(targets));
+        assertEquals(1, convertAllCalls.size());
+    }
+
+    @Test
+    public void testObjectPropertyMapperPassesBatchToNestedMapper() {
+        SourceToTargetObjectPropertyMapper<Outer, Source, Outer, Target> mapper =
+                new SourceToTargetObjectPropertyMapper<Outer, Source, Outer, Target>(
+                        Collections.singletonList(createMapper())
+                ) {
+                    @Override
+                    protected Source getPropertyFromSource(Outer source) {
+                        return source.getSource();
+                    }
+
+                    @Override
+                    protected Target getPropertyFromTarget(Outer target) {
+                        return target.getTarget();
+                    }
+                };
+        List<Outer> targets = Arrays.asList(new Outer(null), new Outer(null));
+
+        mapper.mapAll(Arrays.asList(new Outer(new Source(1)), new Outer(new Source(2))), targets);
+
+        assertEquals("one", targets.get(0).getTarget().getTargetProperty());
+        assertEquals("two", targets.get(1).getTarget().getTargetProperty());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2)), convertAllCalls);
+    }
+
+    @Test
+    public void testMapAllSkipsEquivalentProperties() {
+        BatchConvertingPropertyMapper<Source, Integer, Target, String> mapper =
+                new BatchConvertingPropertyMapper<Source, Integer, Target, String>(PropertyEquivalence.equality()) {
+            @Override
+            protected Integer getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, String targetProperty) {
+                target.setTargetProperty(targetProperty + "!");
+            }
+
+            @Override
+            protected String getPropertyFromTarget(Target target) {
+                return target.getTargetProperty();
+            }
+
+            @Override
+            protected Map<Integer, String> convertAll(Collection<Integer> sourceProperties) {
+                return BatchConvertingPropertyMapperTest.this.convertAll(sourceProperties);
+            }
+        };
+        Target target = new Target();
+        target.setTargetProperty("one");
+
+        mapper.mapAll(Arrays.asList(new Source(1)), Arrays.asList(target));
+
+        assertEquals("one", target.getTargetProperty());
+    }
+
+    private BatchConvertingPropertyMapper<Source, Integer, Target, String> createMapper() {
+        return new BatchConvertingPropertyMapper<Source, Integer, Target, String>() {
+            @Override
+            protected Integer getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, String targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected Map<Integer, String> convertAll(Collection<Integer> sourceProperties) {
+                return BatchConvertingPropertyMapperTest.this.convertAll(sourceProperties);
+            }
+        };
+    }
+
+    private Map<Integer, String> convertAll(Collection<Integer> sourceProperties) {
+        convertAllCalls.add(new ArrayList<>(sourceProperties));
+        Map<Integer, String> names = new HashMap<>();
+        names.put(1, "one");
+        names.put(2, "two");
+        names.keySet().retainAll(sourceProperties);
+        return names;
+    }
+
+    private List<String> getTargetProperties(List<Target> targets) {
+        return targets.stream().map(Target::getTargetProperty).collect(Collectors.toList());
+    }
+
+    private static class Source {
+        private final int sourceProperty;
+
+        private Source(int sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public int getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Outer {
+        private final Source source;
+        private final Target target = new Target();
+
+        private Outer(Source source) {
+            this.source = source;
+        }
+
+        public Source getSource() {
+            return source;
+        }
+
+        public Target getTarget() {
+            return target;
+        }
+    }
+
+    private static class Target {
+        private String targetProperty;
+
+        public String getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(String targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryRecordLayoutTest {
+    private final BinaryRecordLayout layout = BinaryRecordLayout.builder()
+            .addInt("quantity")
+            .addDouble("price")
+            .addString("name", 8)
+            .addBoolean("active")
+            .addLong("id")
+            .build();
+
+    @Test
+    public void testFieldsAreLaidOutInOrder() {
+        assertEquals(29, layout.getSize());
+        assertEquals(0, layout.getOffset("quantity"));
+        assertEquals(4, layout.getOffset("price"));
+        assertEquals(12, layout.getOffset("name"));
+        assertEquals(20, layout.getOffset("active"));
+        assertEquals(21, layout.getOffset("id"));
+        assertEquals(
+                Arrays.asList("quantity", "price", "name", "active", "id"),
+                new ArrayList<>(layout.getFieldNames())
+        );
+    }
+
+    @Test
+    public void testMappersWriteFieldsIntoRecord() {
+        Mapper<Source, BinaryRecord> mapper = new EasyObjectMapper<>(
+                layout.intMapper("quantity", Source::getQuantity),
+                layout.doubleMapper("price", Source::getPrice),
+                layout.stringMapper("name", Source::getName),
+                layout.booleanMapper("active", Source::isActive),
+                layout.longMapper("id", Source::getId)
+        );
+        ByteBuffer buffer = ByteBuffer.allocate(layout.getSize() * 2);
+        BinaryRecord record = new BinaryRecord(layout);
+
+        mapper.map(new Source(5, 12.5, "name", true, 10_000_000_000L), record.wrap(buffer, layout.getSize()));
+
+        assertEquals(5, record.getInt(layout.getOffset("quantity")));
+        assertEquals(12.5, record.getDouble(layout.getOffset("price")));
+        assertEquals("name", record.getString(layout.getOffset("name"), 8));
+        assertTrue(record.getBoolean(layout.getOffset("active")));
+        assertEquals(10_000_000_000L, record.getLong(layout.getOffset("id")));
+        assertEquals(5, buffer.getInt(layout.getSize()));
+        assertEquals(0, buffer.getInt(0));
+    }
+
+    @Test
+    public void testNarrowMappersWriteFieldsIntoRecord() {
+        BinaryRecordLayout narrowLayout = BinaryRecordLayout.builder()
+                .addByte("quantity")
+                .addShort("id")
+                .addFloat("price")
+                .build();
+        Mapper<Source, BinaryRecord> mapper = new EasyObjectMapper<>(
+                narrowLayout.byteMapper("quantity", Source::getQuantity),
+                narrowLayout.shortMapper("id", source -> (int) source.getId()),
+                narrowLayout.floatMapper("price", Source::getPrice)
+        );
+        BinaryRecord record = new BinaryRecord(narrowLayout).wrap(ByteBuffer.allocate(narrowLayout.getSize()), 0);
+
+        mapper.map(new Source(-5, 12.5, "name", true, 1_000L), record);
+
+        assertEquals(-5, record.getByte(narrowLayout.getOffset("quantity")));
+        assertEquals(1_000, record.getShort(narrowLayout.getOffset("id")));
+        assertEquals(12.5F, record.getFloat(narrowLayout.getOffset("price")));
+    }
+
+    @Test
+    public void testByteMapperThrowsExceptionIfValueIsOutOfRange() {
+        BinaryRecordLayout byteLayout = BinaryRecordLayout.builder().addByte("quantity").build();
+        Mapper<Source, BinaryRecord> mapper = byteLayout.byteMapper("quantity", Source::getQuantity);
+        BinaryRecord record = new BinaryRecord(byteLayout).wrap(ByteBuffer.allocate(byteLayout.getSize()), 0);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> mapper.map(new Source(128, 12.5, "name", true, 1_000L), record)
+        );
+
+        assertEquals("value must be between -128 and 127, but was 128.", exception.getMessage());
+    }
+
+    @Test
+    public void testShortMapperThrowsExceptionIfValueIsOutOfRange() {
+        BinaryRecordLayout shortLayout = BinaryRecordLayout.builder().addShort("quantity").build();
+        Mapper<Source, BinaryRecord> mapper = shortLayout.shortMapper("quantity", Source::getQuantity);
+        BinaryRecord record = new BinaryRecord(shortLayout).wrap(ByteBuffer.allocate(shortLayout.getSize()), 0);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> mapper.map(new Source(-32_769, 12.5, "name", true, 1_000L), record)
+        );
+
+        assertEquals("value must be between -32768 and 32767, but was -32769.", exception.getMessage());
+    }
+
+    @Test
+    public void testMapperThrowsExceptionIfFieldIsOfAnotherType() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> layout.longMapper("quantity", Source::getId)
+        );
+
+        assertEquals("Field quantity is of type INT, not LONG.", exception.getMessage());
+    }
+
+    @Test
+    public void testGetOffsetThrowsExceptionIfThereIsNoSuchField() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> layout.getOffset("missing")
+        );
+
+        assertEquals("There is no field called missing.", exception.getMessage());
+    }
+
+    @Test
+    public void testBuilderThrowsExceptionIfFieldIsAddedTwice() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BinaryRecordLayout.builder().addInt("quantity").addLong("quantity")
+        );
+
+        assertEquals("There is already a field called quantity.", exception.getMessage());
+    }
+
+    @Test
+    public void testBuilderThrowsExceptionIfStringLengthIsLessThanOne() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> BinaryRecordLayout.builder().addString("name", 0)
+        );
+
+        assertEquals("length must be at least 1, but was 0.", exception.getMessage());
+    }
+
+    private static class Source {
+        private final int quantity;
+        private final double price;
+        private final String name;
+        private final boolean active;
+        private final long id;
+
+        private Source(int quantity, double price, String name, boolean active, long id) {
+            this.quantity = quantity;
+            this.price = price;
+            this.name = name;
+            this.active = active;
+            this.id = id;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public long getId() {
+            return id;
+        }
+    }
+}
\ No newline at end of file
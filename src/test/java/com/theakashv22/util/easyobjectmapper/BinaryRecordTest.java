@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BinaryRecordTest {
+    private final BinaryRecordLayout layout = BinaryRecordLayout.builder()
+            .addByte("byte")
+            .addShort("short")
+            .addFloat("float")
+            .addString("string", 4)
+            .build();
+
+    @Test
+    public void testPutAndGetRelativeToRecordOffset() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(layout.getSize() + 3).order(ByteOrder.LITTLE_ENDIAN);
+        BinaryRecord record = new BinaryRecord(layout);
+
+        assertSame(record, record.wrap(buffer, 3));
+        record.putByte(0, (byte) 7);
+        record.putShort(1, (short) 300);
+        record.putFloat(3, 1.5f);
+        record.putBoolean(0, false);
+
+        assertFalse(record.getBoolean(0));
+        assertEquals(300, record.getShort(1));
+        assertEquals(1.5f, record.getFloat(3));
+        assertEquals(300, buffer.getShort(4));
+        assertEquals(0, buffer.position());
+        assertEquals(3, record.getRecordOffset());
+        assertSame(buffer, record.getBuffer());
+    }
+
+    @Test
+    public void testPutStringPadsWithZeroBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(layout.getSize());
+        BinaryRecord record = new BinaryRecord(layout).wrap(buffer, 0);
+        int offset = layout.getOffset("string");
+
+        record.putString(offset, 4, "abcd");
+        record.putString(offset, 4, "\u00e9f");
+
+        assertEquals("\u00e9f", record.getString(offset, 4));
+        assertEquals(0, buffer.get(offset + 3));
+
+        record.putString(offset, 4, null);
+
+        assertEquals("", record.getString(offset, 4));
+    }
+
+    @Test
+    public void testPutStringThrowsExceptionIfValueIsTooLong() {
+        BinaryRecord record = new BinaryRecord(layout).wrap(ByteBuffer.allocate(layout.getSize()), 0);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> record.putString(layout.getOffset("string"), 4, "abcde")
+        );
+
+        assertEquals("value must be at most 4 characters long, but was 5.", exception.getMessage());
+    }
+
+    @Test
+    public void testPutStringThrowsExceptionIfValueIsNotIso88591() {
+        BinaryRecord record = new BinaryRecord(layout).wrap(ByteBuffer.allocate(layout.getSize()), 0);
+        record.putString(layout.getOffset("string"), 4, "abcd");
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> record.putString(layout.getOffset("string"), 4, "x\u20ac")
+        );
+
+        assertEquals("value has a character outside ISO-8859-1 at index 1.", exception.getMessage());
+        assertEquals("abcd", record.getString(layout.getOffset("string"), 4));
+    }
+
+    @Test
+    public void testWrapThrowsExceptionIfRecordDoesNotFit() {
+        BinaryRecord record = new BinaryRecord(layout);
+
+        IndexOutOfBoundsException exception = assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> record.wrap(ByteBuffer.allocate(layout.getSize()), 1)
+        );
+
+        assertEquals("A record of 11 bytes at 1 does not fit within 11 bytes.", exception.getMessage());
+    }
+
+    @Test
+    public void testWrapThrowsExceptionIfRecordDoesNotFitWithinLimit() {
+        BinaryRecord record = new BinaryRecord(layout);
+        ByteBuffer buffer = ByteBuffer.allocate(layout.getSize() * 2);
+        buffer.limit(layout.getSize() + 1);
+
+        IndexOutOfBoundsException exception = assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> record.wrap(buffer, layout.getSize())
+        );
+
+        assertEquals("A record of 11 bytes at 11 does not fit within 12 bytes.", exception.getMessage());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BooleanPropertyMapperTest {
+    @Test
+    public void testMapper() {
+        BooleanPropertyMapper<Source, Target> mapper = new BooleanPropertyMapper<Source, Target>() {
+            @Override
+            protected boolean getPropertyFromSource(Source source) {
+                return source.isSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, boolean targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+        };
+        Target target = new Target();
+
+        mapper.map(new Source(true), target);
+
+        assertTrue(target.isTargetProperty());
+    }
+
+    @Test
+    public void testMapperWithOverriddenConvert() {
+        BooleanPropertyMapper<Source, Target> mapper = new BooleanPropertyMapper<Source, Target>() {
+            @Override
+            protected boolean getPropertyFromSource(Source source) {
+                return source.isSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, boolean targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected boolean convert(boolean sourceProperty) {
+                return !sourceProperty;
+            }
+        };
+        Target target = new Target();
+
+        mapper.map(new Source(true), target);
+
+        assertFalse(target.isTargetProperty());
+    }
+
+    private static class Source {
+        private final boolean sourceProperty;
+
+        private Source(boolean sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public boolean isSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private boolean targetProperty;
+
+        public boolean isTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(boolean targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CollectionToCollectionPropertyMapperTest {
+    @Test
+    public void testMapperUsingDefaultConstructor() {
+        Target target = new Target(new ArrayList<>(Arrays.asList(new TargetElement("0"))));
+
+        new CollectionToCollectionPropertyMapper<Source, Integer, Target, TargetElement>() {
+            @Override
+            protected Collection<Integer> getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected Collection<TargetElement> getPropertyFromTarget(Target target) {
+                return target.getTargetProperty();
+            }
+
+            @Override
+            protected TargetElement convert(Integer sourceProperty) {
+                return new TargetElement(sourceProperty.toString());
+            }
+        }.map(new Source(Arrays.asList(1, 2)), target);
+
+        assertEquals(Arrays.asList("0", "1", "2"), target.getValues());
+    }
+
+    @Test
+    public void testMapperWithoutClearingTargetProperty() {
+        Target target = new Target(new ArrayList<>(Arrays.asList(new TargetElement("0"))));
+
+        createMapper(false).map(new Source(Arrays.asList(1, 2, 3)), target);
+
+        assertEquals(Arrays.asList("0", "1!", "2!", "3!"), target.getValues());
+    }
+
+    @Test
+    public void testMapperWhileClearingTargetProperty() {
+        Target target = new Target(new ArrayList<>(Arrays.asList(new TargetElement("0"))));
+
+        createMapper(true).map(new Source(Arrays.asList(1, 2, 3)), target);
+
+        assertEquals(Arrays.asList("1!", "2!", "3!"), target.getValues());
+    }
+
+    @Test
+    public void testMapperWithNonRandomAccessSourceAndNonListTarget() {
+        Target target = new Target(new LinkedHashSet<>());
+
+        createMapper(false).map(new Source(new LinkedList<>(Arrays.asList(3, 1, 2))), target);
+
+        assertEquals(Arrays.asList("3!", "1!", "2!"), target.getValues());
+    }
+
+    @Test
+    public void testMapperWithEmptySourceProperty() {
+        Target target = new Target(new ArrayList<>(Arrays.asList(new TargetElement("0"))));
+
+        createMapper(true).map(new Source(new ArrayList<>()), target);
+
+        assertEquals(new ArrayList<String>(), target.getValues());
+    }
+
+    private CollectionToCollectionPropertyMapper<Source, Integer, Target, TargetElement> createMapper(
+            boolean clearCollectionUponAdding
+    ) {
+        Mapper<Integer, TargetElement> elementMapper =
+                (sourceElement, targetElement) -> targetElement.setValue(targetElement.getValue() + "!");
+        return new CollectionToCollectionPropertyMapper<Source, Integer, Target, TargetElement>(
+                clearCollectionUponAdding,
+                Collections.singletonList(elementMapper)
+        ) {
+            @Override
+            protected Collection<Integer> getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected Collection<TargetElement> getPropertyFromTarget(Target target) {
+                return target.getTargetProperty();
+            }
+
+            @Override
+            protected TargetElement convert(Integer sourceProperty) {
+                return new TargetElement(sourceProperty.toString());
+            }
+        };
+    }
+
+    private static class Source {
+        private final Collection<Integer> sourceProperty;
+
+        private Source(Collection<Integer> sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public Collection<Integer> getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private final Collection<TargetElement> targetProperty;
+
+        private Target(Collection<TargetElement> targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+
+        public Collection<TargetElement> getTargetProperty() {
+            return targetProperty;
+        }
+
+        public List<String> getValues() {
+            List<String> values = new ArrayList<>();
+            for (TargetElement element : targetProperty) {
+                values.add(element.getValue());
+            }
+            return values;
+        }
+    }
+
+    private static class TargetElement {
+        private String value;
+
+        private TargetElement(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
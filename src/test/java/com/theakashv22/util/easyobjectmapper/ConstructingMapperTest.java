@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConstructingMapperTest {
+    @Test
+    public void testApply() {
+        Target target = createMapper().apply(new Source("name", 10, null));
+
+        assertEquals("name", target.getName());
+        assertEquals(10, target.getCount());
+        assertNull(target.getInner());
+    }
+
+    @Test
+    public void testApplyWithNullSource() {
+        assertNull(createMapper().apply(null));
+    }
+
+    @Test
+    public void testApplyConstructsNestedTargetThroughSourceToTargetObjectPropertyMapper() {
+        Target target = createMapper().apply(new Source("outer", 1, new Source("inner", 2, null)));
+
+        assertEquals("outer", target.getName());
+        assertEquals("inner", target.getInner().getName());
+        assertEquals(2, target.getInner().getCount());
+    }
+
+    @Test
+    public void testApplyConstructsNestedTargetOfSameTypeWithSeparateArguments() {
+        Target target = createMapper().apply(
+                new Source("outer", 1, new Source("middle", 2, new Source("inner", 3, null)))
+        );
+
+        assertEquals("outer", target.getName());
+        assertEquals(1, target.getCount());
+        assertEquals("middle", target.getInner().getName());
+        assertEquals(2, target.getInner().getCount());
+        assertEquals("inner", target.getInner().getInner().getName());
+        assertEquals(3, target.getInner().getInner().getCount());
+    }
+
+    @Test
+    public void testApplyConstructsUnchangedVersionStampedPropertyEveryTime() {
+        ConstructingMapper<Source, Target> mapper = createMapper();
+        Source source = new Source("outer", 1, new VersionStampedSource("inner", 2, null, 5));
+
+        assertEquals("inner", mapper.apply(source).getInner().getName());
+        assertEquals("inner", mapper.apply(source).getInner().getName());
+    }
+
+    @Test
+    public void testApplyClearsArgumentsOfPreviousSource() {
+        ConstructingMapper<Source, Target> mapper = new ConstructingMapper<>(
+                2,
+                arguments -> new Target(arguments.get(0), arguments.getInt(1), null),
+                (source, arguments) -> {
+                    if (source.getName() != null) {
+                        arguments.set(0, source.getName());
+                        arguments.setInt(1, source.getCount());
+                    }
+                }
+        );
+
+        mapper.apply(new Source("name", 10, null));
+        Target target = mapper.apply(new Source(null, 20, null));
+
+        assertNull(target.getName());
+        assertEquals(0, target.getCount());
+    }
+
+    @Test
+    public void testApplyReusesArgumentsAfterException() {
+        AtomicInteger calls = new AtomicInteger();
+        ConstructorArguments[] usedArguments = new ConstructorArguments[2];
+        ConstructingMapper<Source, Target> mapper = new ConstructingMapper<>(
+                1,
+                arguments -> {
+                    int call = calls.getAndIncrement();
+                    usedArguments[call] = arguments;
+                    if (call == 0) {
+                        throw new IllegalStateException();
+                    }
+                    return new Target(arguments.get(0), 0, null);
+                },
+                (source, arguments) -> arguments.set(0, source.getName())
+        );
+
+        assertThrows(IllegalStateException.class, () -> mapper.apply(new Source("first", 0, null)));
+        Target target = mapper.apply(new Source("second", 0, null));
+
+        assertEquals("second", target.getName());
+        assertSame(usedArguments[0], usedArguments[1]);
+    }
+
+    @Test
+    public void testGetArgumentCount() {
+        assertEquals(3, createMapper().getArgumentCount());
+    }
+
+    @Test
+    public void testNegativeArgumentCount() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ConstructingMapper<Source, Target>(-1, arguments -> null)
+        );
+
+        assertEquals("argumentCount must be at least 0, but was -1.", exception.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConstructingMapper<Source, Target> createMapper() {
+        ConstructingMapper<Source, Target>[] mapper = new ConstructingMapper[1];
+        mapper[0] = new ConstructingMapper<>(
+                3,
+                arguments -> new Target(arguments.get(0), arguments.getInt(1), arguments.get(2)),
+                new SimplePropertyMapper<Source, ConstructorArguments, String>() {
+                    @Override
+                    protected String getPropertyFromSource(Source source) {
+                        return source.getName();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, String targetProperty) {
+                        target.set(0, targetProperty);
+                    }
+                },
+                new IntPropertyMapper<Source, ConstructorArguments>() {
+                    @Override
+                    protected int getPropertyFromSource(Source source) {
+                        return source.getCount();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, int targetProperty) {
+                        target.setInt(1, targetProperty);
+                    }
+                },
+                new SourceToTargetObjectPropertyMapper<Source, Source, ConstructorArguments, Target>(true, true) {
+                    @Override
+                    protected Source getPropertyFromSource(Source source) {
+                        return source.getInner();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(ConstructorArguments target, Target targetProperty) {
+                        target.set(2, targetProperty);
+                    }
+
+                    @Override
+                    protected Target convert(Source sourceProperty) {
+                        return mapper[0].apply(sourceProperty);
+                    }
+                }
+        );
+        return mapper[0];
+    }
+
+    private static class Source {
+        private final String name;
+        private final int count;
+        private final Source inner;
+
+        private Source(String name, int count, Source inner) {
+            this.name = name;
+            this.count = count;
+            this.inner = inner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Source getInner() {
+            return inner;
+        }
+    }
+
+    private static class VersionStampedSource extends Source implements VersionStamped {
+        private final long versionStamp;
+
+        private VersionStampedSource(String name, int count, Source inner, long versionStamp) {
+            super(name, count, inner);
+            this.versionStamp = versionStamp;
+        }
+
+        @Override
+        public long getVersionStamp() {
+            return versionStamp;
+        }
+    }
+
+    private static class Target {
+        private final String name;
+        private final int count;
+        private final Target inner;
+
+        private Target(String name, int count, Target inner) {
+            this.name = name;
+            this.count = count;
+            this.inner = inner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public Target getInner() {
+            return inner;
+        }
+    }
+}
\ No newline at end of file
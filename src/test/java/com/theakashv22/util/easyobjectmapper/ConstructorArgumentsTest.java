@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConstructorArgumentsTest {
+    @Test
+    public void testSize() {
+        assertEquals(4, new ConstructorArguments(4).size());
+    }
+
+    @Test
+    public void testSetAndGet() {
+        ConstructorArguments arguments = new ConstructorArguments(5);
+
+        arguments.set(0, "value");
+        arguments.setInt(1, -7);
+        arguments.setLong(2, Long.MIN_VALUE);
+        arguments.setDouble(3, -1.5);
+        arguments.setBoolean(4, true);
+
+        assertEquals("value", arguments.get(0));
+        assertEquals(-7, arguments.getInt(1));
+        assertEquals(Long.MIN_VALUE, arguments.getLong(2));
+        assertEquals(-1.5, arguments.getDouble(3));
+        assertTrue(arguments.getBoolean(4));
+    }
+
+    @Test
+    public void testClear() {
+        ConstructorArguments arguments = new ConstructorArguments(2);
+        arguments.set(0, "value");
+        arguments.setDouble(1, 2.5);
+
+        arguments.clear();
+
+        assertNull(arguments.get(0));
+        assertEquals(0, arguments.getDouble(1));
+        assertFalse(arguments.getBoolean(1));
+    }
+}
\ No newline at end of file
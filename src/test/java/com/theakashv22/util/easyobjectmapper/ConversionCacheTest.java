@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConversionCacheTest {
+    @Test
+    public void testConvertCachesResults() {
+        AtomicInteger conversionCount = new AtomicInteger();
+        ConversionCache<Integer, String> cache = new ConversionCache<>(16, sourceProperty -> {
+            conversionCount.incrementAndGet();
+            return sourceProperty.toString();
+        });
+
+        assertEquals("1", cache.convert(1));
+        assertEquals("1", cache.convert(1));
+        assertEquals("2", cache.convert(2));
+
+        assertEquals(2, conversionCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1.0 / 3, cache.getHitRate());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testConvertCachesNullPropertiesAndResults() {
+        AtomicInteger conversionCount = new AtomicInteger();
+        ConversionCache<Integer, String> cache = new ConversionCache<>(16, sourceProperty -> {
+            conversionCount.incrementAndGet();
+            return null;
+        });
+
+        assertNull(cache.convert(null));
+        assertNull(cache.convert(null));
+
+        assertEquals(1, conversionCount.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testUnusedResultIsEvicted() {
+        List<Integer> convertedProperties = new ArrayList<>();
+        ConversionCache<Integer, Integer> cache = new ConversionCache<>(1, sourceProperty -> {
+            convertedProperties.add(sourceProperty);
+            return sourceProperty;
+        });
+
+        cache.convert(1);
+        cache.convert(2);
+        cache.convert(2);
+        cache.convert(1);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(Arrays.asList(1, 2, 1), convertedProperties);
+    }
+
+    @Test
+    public void testUsedResultIsNotEvicted() {
+        List<Integer> convertedProperties = new ArrayList<>();
+        ConversionCache<Integer, Integer> cache = new ConversionCache<>(2, sourceProperty -> {
+            convertedProperties.add(sourceProperty);
+            return sourceProperty;
+        });
+
+        cache.convert(1);
+        cache.convert(2);
+        cache.convert(1);
+        cache.convert(3);
+        cache.convert(1);
+        cache.convert(2);
+
+        assertEquals(Arrays.asList(1, 2, 3, 2), convertedProperties);
+    }
+
+    @Test
+    public void testSizeNeverExceedsMaximumSize() {
+        ConversionCache<Integer, Integer> cache = new ConversionCache<>(100, sourceProperty -> sourceProperty);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.convert(i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(10_000 - cache.size(), cache.getEvictionCount());
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testConvertFromManyThreads() throws Exception {
+        ConversionCache<Integer, String> cache = new ConversionCache<>(64, String::valueOf);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        assertEquals(String.valueOf(j % 32), cache.convert(j % 32));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= 32);
+    }
+
+    @Test
+    public void testMaximumSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ConversionCache<Integer, Integer>(0, value -> value));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DirtyTrackingMapperTest {
+    private final SimplePropertyMapper<Source, Target, String> nameMapper =
+            new SimplePropertyMapper<Source, Target, String>(PropertyEquivalence.equality()) {
+                @Override
+                protected String getPropertyFromSource(Source source) {
+                    return source.name;
+                }
+
+                @Override
+                protected void setPropertyToTarget(Target target, String targetProperty) {
+                    target.name = targetProperty;
+                }
+
+                @Override
+                protected String getPropertyFromTarget(Target target) {
+                    return target.name;
+                }
+            };
+    private final SimplePropertyMapper<Inner, Inner, String> innerValueMapper =
+            new SimplePropertyMapper<Inner, Inner, String>(PropertyEquivalence.equality()) {
+                @Override
+                protected String getPropertyFromSource(Inner source) {
+                    return source.value;
+                }
+
+                @Override
+                protected void setPropertyToTarget(Inner target, String targetProperty) {
+                    target.value = targetProperty;
+                }
+
+                @Override
+                protected String getPropertyFromTarget(Inner target) {
+                    return target.value;
+                }
+            };
+    private final SimpleObjectPropertyMapper<Source, Target, Inner> innerMapper =
+            new SimpleObjectPropertyMapper<Source, Target, Inner>(Collections.singletonList(innerValueMapper)) {
+                @Override
+                protected Inner getPropertyFromSource(Source source) {
+                    return source.inner;
+                }
+
+                @Override
+                protected Inner getPropertyFromTarget(Target target) {
+                    return target.inner;
+                }
+            };
+    private final AddSingleToCollectionPropertyMapper<Source, String, Target, String> tagMapper =
+            new AddSingleToCollectionPropertyMapper<Source, String, Target, String>(
+                    true,
+                    PropertyEquivalence.equality()
+            ) {
+                @Override
+                protected String getPropertyFromSource(Source source) {
+                    return source.tag;
+                }
+
+                @Override
+                protected Collection<String> getPropertyFromTarget(Target target) {
+                    return target.tags;
+                }
+
+                @Override
+                protected String convert(String sourceProperty) {
+                    return sourceProperty;
+                }
+            };
+    private final Mapper<Source, Target> otherMapper = (source, target) -> target.other = source.name;
+    private final DirtyTrackingMapper<Source, Target> mapper = new DirtyTrackingMapper<>(new EasyObjectMapper<>(
+            nameMapper,
+            new EasyObjectMapper<>(innerMapper),
+            tagMapper,
+            otherMapper
+    ));
+
+    @Test
+    public void testPropertyMappersHaveStableIndices() {
+        assertEquals(5, mapper.getPropertyCount());
+        assertEquals(0, mapper.getIndex(nameMapper));
+        assertEquals(1, mapper.getIndex(innerMapper));
+        assertEquals(2, mapper.getIndex(innerValueMapper));
+        assertEquals(3, mapper.getIndex(tagMapper));
+        assertEquals(4, mapper.getIndex(otherMapper));
+        assertEquals(-1, mapper.getIndex(new EasyObjectMapper<Source, Target>()));
+        assertSame(tagMapper, mapper.getPropertyMapper(3));
+    }
+
+    @Test
+    public void testMapReportsChangedPropertiesInWords() {
+        Target target = new Target();
+        long[] changedProperties = mapper.newChangedProperties();
+
+        mapper.map(new Source("name", "value", "tag"), target, changedProperties);
+
+        assertArrayEquals(new long[] {0b11101L}, changedProperties);
+
+        mapper.map(new Source("name", "value", "tag"), target, changedProperties);
+
+        assertArrayEquals(new long[] {0b10000L}, changedProperties);
+
+        mapper.map(new Source("name", "otherValue", "tag"), target, changedProperties);
+
+        assertArrayEquals(new long[] {0b10100L}, changedProperties);
+        assertEquals("otherValue", target.inner.value);
+    }
+
+    @Test
+    public void testMapReportsChangedPropertiesInBitSet() {
+        Target target = new Target();
+        BitSet changedProperties = new BitSet();
+        mapper.map(new Source("name", "value", "tag"), target, changedProperties);
+
+        mapper.map(new Source("otherName", "value", "otherTag"), target, changedProperties);
+
+        assertEquals(BitSet.valueOf(new long[] {0b11001L}), changedProperties);
+    }
+
+    @Test
+    public void testPropertiesChangedOutsideRunAreNotReported() {
+        Target target = new Target();
+        long[] changedProperties = mapper.newChangedProperties();
+        mapper.map(new Source("name", "value", "tag"), target, changedProperties);
+
+        mapper.map(new Source("otherName", "value", "tag"), target);
+        mapper.map(new Source("otherName", "value", "tag"), target, changedProperties);
+
+        assertArrayEquals(new long[] {0b10000L}, changedProperties);
+    }
+
+    @Test
+    public void testMapperHandingWorkToOtherThreadsIsAlwaysReportedAsChanged() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Mapper<Source, Target> threadHoppingMapper = (source, target) -> {
+                try {
+                    executor.submit(() -> nameMapper.map(source, target)).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            DirtyTrackingMapper<Source, Target> hoppingMapper = new DirtyTrackingMapper<>(
+                    new EasyObjectMapper<>(threadHoppingMapper, tagMapper)
+            );
+            Target target = new Target();
+            long[] changedProperties = hoppingMapper.newChangedProperties();
+
+            hoppingMapper.map(new Source("name", "value", "tag"), target, changedProperties);
+            hoppingMapper.map(new Source("name", "value", "tag"), target, changedProperties);
+
+            assertEquals("name", target.name);
+            assertEquals(-1, hoppingMapper.getIndex(nameMapper));
+            assertArrayEquals(new long[] {0b01L}, changedProperties);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInstrumentedTreeIsTrackedAsTreeItWasInstrumentedFrom() {
+        SourceToTargetObjectPropertyMapper<Source, Inner, Target, Inner> convertingMapper =
+                new SourceToTargetObjectPropertyMapper<Source, Inner, Target, Inner>(
+                        true,
+                        Collections.singletonList(innerValueMapper)
+                ) {
+                    @Override
+                    protected Inner getPropertyFromSource(Source source) {
+                        return source.inner;
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Target target, Inner targetProperty) {
+                        target.convertedInner = targetProperty;
+                    }
+
+                    @Override
+                    protected Inner convert(Inner sourceProperty) {
+                        return new Inner(null);
+                    }
+                };
+        MapperMetrics metrics = new MapperMetrics();
+        DirtyTrackingMapper<Source, Target> instrumentedMapper = new DirtyTrackingMapper<>(
+                metrics.instrument("root", new EasyObjectMapper<>(nameMapper, convertingMapper))
+        );
+        long[] changedProperties = instrumentedMapper.newChangedProperties();
+
+        assertEquals(0, instrumentedMapper.getIndex(nameMapper));
+        assertEquals(1, instrumentedMapper.getIndex(convertingMapper));
+        assertEquals(2, instrumentedMapper.getIndex(innerValueMapper));
+
+        instrumentedMapper.map(new Source("name", "value", "tag"), new Target(), changedProperties);
+
+        assertArrayEquals(new long[] {0b111L}, changedProperties);
+
+        metrics.setEnabled(false);
+        instrumentedMapper.map(new Source("name", "value", "tag"), new Target(), changedProperties);
+
+        assertArrayEquals(new long[] {0b111L}, changedProperties);
+    }
+
+    @Test
+    public void testMapThrowsExceptionIfTooFewWords() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> mapper.map(new Source("name", "value", "tag"), new Target(), new long[0])
+        );
+
+        assertEquals("changedProperties must have at least 1 words, but had 0.", exception.getMessage());
+    }
+
+    @Test
+    public void testMoreThanSixtyFourPropertyMappers() {
+        List<Mapper<Source, Target>> propertyMappers = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            String other = Integer.toString(i);
+            propertyMappers.add((source, target) -> target.other = other);
+        }
+        propertyMappers.add(nameMapper);
+        DirtyTrackingMapper<Source, Target> wideMapper = new DirtyTrackingMapper<>(
+                new EasyObjectMapper<>(propertyMappers)
+        );
+        long[] changedProperties = wideMapper.newChangedProperties();
+
+        wideMapper.map(new Source("name", "value", "tag"), new Target(), changedProperties);
+
+        assertEquals(2, changedProperties.length);
+        assertEquals(71, BitSet.valueOf(changedProperties).cardinality());
+        assertEquals(70, wideMapper.getIndex(nameMapper));
+    }
+
+    private static class Source {
+        private final String name;
+        private final Inner inner;
+        private final String tag;
+
+        private Source(String name, String innerValue, String tag) {
+            this.name = name;
+            this.inner = new Inner(innerValue);
+            this.tag = tag;
+        }
+    }
+
+    private static class Target {
+        private String name;
+        private final Inner inner = new Inner(null);
+        private final List<String> tags = new ArrayList<>();
+        private String other;
+        private Inner convertedInner;
+    }
+
+    private static class Inner {
+        private String value;
+
+        private Inner(String value) {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EasyObjectMapperBuilderTest {
+    @Test
+    public void testBuiltMapper() {
+        EasyObjectMapper<Source, Target> mapper = EasyObjectMapper.builder(Source.class, Target.class)
+                .map(Source::getName, Target::setName)
+                .map(Source::getCount, String::valueOf, Target::setCount)
+                .addToCollection(Source::getCount, count -> count * 2, Target::getCounts, false)
+                .nested(
+                        Source::getInner,
+                        Target::getExistingInner,
+                        EasyObjectMapper.builder(InnerSource.class, InnerTarget.class)
+                                .map(InnerSource::getValue, InnerTarget::setValue)
+                                .build()
+                )
+                .nested(
+                        Source::getInner,
+                        inner -> new InnerTarget(),
+                        Target::setNewInner,
+                        EasyObjectMapper.builder(InnerSource.class, InnerTarget.class)
+                                .map(InnerSource::getValue, String::toUpperCase, InnerTarget::setValue)
+                                .build()
+                )
+                .add((source, target) -> target.setName(target.getName() + "!"))
+                .build();
+        Source source = new Source("Team, unite up", 10, new InnerSource("inner"));
+        Target target = new Target();
+        InnerTarget existingInner = target.getExistingInner();
+
+        mapper.map(source, target);
+
+        assertEquals("Team, unite up!", target.getName());
+        assertEquals("10", target.getCount());
+        assertEquals(Collections.singletonList(20), target.getCounts());
+        assertSame(existingInner, target.getExistingInner());
+        assertEquals("inner", target.getExistingInner().getValue());
+        assertEquals("INNER", target.getNewInner().getValue());
+    }
+
+    @Test
+    public void testAddToCollectionWhileClearingCollection() {
+        EasyObjectMapper<Source, Target> mapper = EasyObjectMapper.builder(Source.class, Target.class)
+                .addToCollection(Source::getCount, count -> count, Target::getCounts, true)
+                .build();
+        Target target = new Target();
+        target.getCounts().add(5);
+
+        mapper.map(new Source(null, 10, null), target);
+
+        assertEquals(Collections.singletonList(10), target.getCounts());
+    }
+
+    @Test
+    public void testBuiltMapperUsesFinalPropertyMapperClasses() {
+        EasyObjectMapper<Source, Target> mapper = EasyObjectMapper.builder(Source.class, Target.class)
+                .map(Source::getName, Target::setName)
+                .map(Source::getCount, String::valueOf, Target::setCount)
+                .nested(Source::getInner, Target::getExistingInner, (source, target) -> {})
+                .build();
+
+        assertEquals(
+                new HashSet<>(Arrays.asList(FunctionalPropertyMapper.class, FunctionalObjectPropertyMapper.class)),
+                new HashSet<>(Arrays.asList(
+                        mapper.getInnerMappers()[0].getClass(),
+                        mapper.getInnerMappers()[1].getClass(),
+                        mapper.getInnerMappers()[2].getClass()
+                ))
+        );
+    }
+
+    @Test
+    public void testBuilderIsIndependentOfBuiltMapper() {
+        EasyObjectMapperBuilder<Source, Target> builder = EasyObjectMapper.builder(Source.class, Target.class)
+                .map(Source::getName, Target::setName);
+        EasyObjectMapper<Source, Target> mapper = builder.build();
+        builder.map(Source::getCount, String::valueOf, Target::setCount);
+        Target target = new Target();
+
+        mapper.map(new Source("name", 10, null), target);
+
+        assertNotSame(mapper, builder.build());
+        assertEquals("name", target.getName());
+        assertNull(target.getCount());
+    }
+
+    private static class Source {
+        private final String name;
+        private final Integer count;
+        private final InnerSource inner;
+
+        private Source(String name, Integer count, InnerSource inner) {
+            this.name = name;
+            this.count = count;
+            this.inner = inner;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getCount() {
+            return count;
+        }
+
+        public InnerSource getInner() {
+            return inner;
+        }
+    }
+
+    private static class Target {
+        private String name;
+        private String count;
+        private final List<Integer> counts = new ArrayList<>();
+        private final InnerTarget existingInner = new InnerTarget();
+        private InnerTarget newInner;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCount() {
+            return count;
+        }
+
+        public void setCount(String count) {
+            this.count = count;
+        }
+
+        public List<Integer> getCounts() {
+            return counts;
+        }
+
+        public InnerTarget getExistingInner() {
+            return existingInner;
+        }
+
+        public InnerTarget getNewInner() {
+            return newInner;
+        }
+
+        public void setNewInner(InnerTarget newInner) {
+            this.newInner = newInner;
+        }
+    }
+
+    private static class InnerSource {
+        private final String value;
+
+        private InnerSource(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private static class InnerTarget {
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
@@ -40,9 +40,41 @@ public class EasyObjectMapperTest {
         testMapper(new EasyObjectMapper<>(createInnerMappers()));
     }
 
+    @Test
+    public void testMapAll() {
+        EasyObjectMapper<Source, Target> mapper = new EasyObjectMapper<>(createInnerMappers());
+        List<Source> sources = Arrays.asList(
+                new Source(new InnerSource(10, 1.1), new InnerObjectProperty(15)),
+                new Source(new InnerSource(20, 2.2), new InnerObjectProperty(25))
+        );
+
+        List<Target> targets = mapper.mapAll(sources, Target::new);
+
+        assertEquals(2, targets.size());
+        assertEquals("10", targets.get(0).getInnerTarget().getStringProp());
+        assertEquals(Collections.singletonList("1.1"), targets.get(0).getInnerTarget().getListProp());
+        assertEquals(15, targets.get(0).getInnerObjectProperty().getIntProperty());
+        assertEquals("20", targets.get(1).getInnerTarget().getStringProp());
+        assertEquals(Collections.singletonList("2.2"), targets.get(1).getInnerTarget().getListProp());
+        assertEquals(25, targets.get(1).getInnerObjectProperty().getIntProperty());
+    }
+
+    @Test
+    public void testMapAllCallsEachInnerMapperForWholeBatch() {
+        List<String> calls = new ArrayList<>();
+        EasyObjectMapper<String, List<String>> mapper = new EasyObjectMapper<>(
+                (source, target) -> calls.add("first:" + source),
+                (source, target) -> calls.add("second:" + source)
+        );
+
+        mapper.mapAll(Arrays.asList("a", "b"), Arrays.asList(new ArrayList<>(), new ArrayList<>()));
+
+        assertEquals(Arrays.asList("first:a", "first:b", "second:a", "second:b"), calls);
+    }
+
     private Collection<Mapper<Source, Target>> createInnerMappers() {
         return Arrays.asList(
-                new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
+                new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(Arrays.asList(
                         new SourceToTargetPropertyMapper<InnerSource, Integer, InnerTarget, String>() {
                             @Override
                             protected Integer getPropertyFromSource(InnerSource source) {
@@ -75,7 +107,7 @@ public class EasyObjectMapperTest {
                                 return String.valueOf(sourceProperty);
                             }
                         }
-                ) {
+                )) {
                     @Override
                     protected InnerSource getPropertyFromSource(Source source) {
                         return source.getInnerSource();
@@ -86,7 +118,7 @@ public class EasyObjectMapperTest {
                         return target.getInnerTarget();
                     }
                 },
-                new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(
+                new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(Collections.singletonList(
                         new SimplePropertyMapper<InnerObjectProperty, InnerObjectProperty, Integer>() {
                             @Override
                             protected Integer getPropertyFromSource(InnerObjectProperty source) {
@@ -98,7 +130,7 @@ public class EasyObjectMapperTest {
                                 target.setIntProperty(targetProperty);
                             }
                         }
-                ) {
+                )) {
                     @Override
                     protected InnerObjectProperty getPropertyFromSource(Source source) {
                         return source.getInnerObjectProperty();
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IndependentMapperTest {
+    @Test
+    public void testOf() {
+        IndependentMapper<Source, Target> mapper = IndependentMapper.of(
+                (source, target) -> target.setTargetProperty(source.getSourceProperty()),
+                10,
+                "targetProperty",
+                "otherTargetProperty"
+        );
+        Target target = new Target();
+
+        mapper.map(new Source("value"), target);
+
+        assertEquals("value", target.getTargetProperty());
+        assertEquals(10, mapper.getCost());
+        assertEquals(
+                new HashSet<>(Arrays.asList("targetProperty", "otherTargetProperty")),
+                mapper.getTargetWriteSet()
+        );
+        assertThrows(UnsupportedOperationException.class, () -> mapper.getTargetWriteSet().add("thirdTargetProperty"));
+    }
+
+    @Test
+    public void testOfPassesBatchToMapper() {
+        List<List<? extends Source>> batches = new ArrayList<>();
+        IndependentMapper<Source, Target> mapper = IndependentMapper.of(
+                new Mapper<Source, Target>() {
+                    @Override
+                    public void map(Source source, Target target) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public void mapAll(List<? extends Source> sources, List<? extends Target> targets) {
+                        batches.add(sources);
+                    }
+                },
+                10,
+                "targetProperty"
+        );
+        List<Source> sources = Arrays.asList(new Source("first"), new Source("second"));
+
+        mapper.mapAll(sources, Arrays.asList(new Target(), new Target()));
+
+        assertEquals(Collections.singletonList(sources), batches);
+    }
+
+    private static class Source {
+        private final String sourceProperty;
+
+        private Source(String sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public String getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private String targetProperty;
+
+        public String getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(String targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongPropertyMapperTest {
+    @Test
+    public void testMapper() {
+        LongPropertyMapper<Source, Target> mapper = new LongPropertyMapper<Source, Target>() {
+            @Override
+            protected long getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, long targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+        };
+        Target target = new Target();
+
+        mapper.map(new Source(10_000_000_000L), target);
+
+        assertEquals(10_000_000_000L, target.getTargetProperty());
+    }
+
+    @Test
+    public void testMapperWithOverriddenConvert() {
+        LongPropertyMapper<Source, Target> mapper = new LongPropertyMapper<Source, Target>() {
+            @Override
+            protected long getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, long targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected long convert(long sourceProperty) {
+                return sourceProperty + 1;
+            }
+        };
+        Target target = new Target();
+
+        mapper.map(new Source(10_000_000_000L), target);
+
+        assertEquals(10_000_000_001L, target.getTargetProperty());
+    }
+
+    private static class Source {
+        private final long sourceProperty;
+
+        private Source(long sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public long getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private long targetProperty;
+
+        public long getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(long targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
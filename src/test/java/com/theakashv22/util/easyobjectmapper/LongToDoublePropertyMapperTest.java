@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongToDoublePropertyMapperTest {
+    @Test
+    public void testMapper() {
+        LongToDoublePropertyMapper<Source, Target> mapper = new LongToDoublePropertyMapper<Source, Target>() {
+            @Override
+            protected long getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, double targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected double convert(long sourceProperty) {
+                return sourceProperty / 2.0;
+            }
+        };
+        Target target = new Target();
+
+        mapper.map(new Source(3L), target);
+
+        assertEquals(1.5, target.getTargetProperty());
+    }
+
+    private static class Source {
+        private final long sourceProperty;
+
+        private Source(long sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public long getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private double targetProperty;
+
+        public double getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(double targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedRecordFileTest {
+    private static final BinaryRecordLayout LAYOUT = BinaryRecordLayout.builder()
+            .addInt("quantity")
+            .addString("name", 4)
+            .build();
+    private static final int QUANTITY = LAYOUT.getOffset("quantity");
+    private static final int NAME = LAYOUT.getOffset("name");
+
+    private final Mapper<BinaryRecord, Target> mapper = new EasyObjectMapper<>(
+            new IntPropertyMapper<BinaryRecord, Target>() {
+                @Override
+                protected int getPropertyFromSource(BinaryRecord source) {
+                    return source.getInt(QUANTITY);
+                }
+
+                @Override
+                protected void setPropertyToTarget(Target target, int targetProperty) {
+                    target.quantity = targetProperty;
+                }
+            },
+            new SimplePropertyMapper<BinaryRecord, Target, String>() {
+                @Override
+                protected String getPropertyFromSource(BinaryRecord source) {
+                    return source.getString(NAME, 4);
+                }
+
+                @Override
+                protected void setPropertyToTarget(Target target, String targetProperty) {
+                    target.name = targetProperty;
+                }
+            }
+    );
+
+    private Path path;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        path = Files.createTempFile(getClass().getSimpleName(), ".bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void testForEachMapsEveryRecordAcrossWindows() throws IOException {
+        writeRecords(ByteOrder.LITTLE_ENDIAN, "a", "bb", "ccc", "dddd", "e");
+
+        try (MappedRecordFile file = MappedRecordFile.open(path, LAYOUT, ByteOrder.LITTLE_ENDIAN, 2 * 8 + 7)) {
+            List<String> mapped = new ArrayList<>();
+            file.forEach(mapper, new Target(), target -> mapped.add(target.name + target.quantity));
+
+            assertEquals(5, file.getRecordCount());
+            assertEquals(Arrays.asList("a0", "bb1", "ccc2", "dddd3", "e4"), mapped);
+        }
+    }
+
+    @Test
+    public void testForEachMapsRangeOfRecords() throws IOException {
+        writeRecords(ByteOrder.BIG_ENDIAN, "a", "bb", "ccc", "dddd", "e");
+
+        try (MappedRecordFile file = MappedRecordFile.open(path, LAYOUT)) {
+            List<String> mapped = new ArrayList<>();
+            file.forEach(1, 4, mapper, new Target(), target -> mapped.add(target.name + target.quantity));
+
+            assertEquals(Arrays.asList("bb1", "ccc2", "dddd3"), mapped);
+            assertThrows(
+                    IndexOutOfBoundsException.class,
+                    () -> file.forEach(4, 6, mapper, new Target(), target -> { })
+            );
+        }
+    }
+
+    @Test
+    public void testOpenThrowsExceptionIfFileIsNotWholeNumberOfRecords() throws IOException {
+        Files.write(path, new byte[LAYOUT.getSize() + 1]);
+
+        IOException exception = assertThrows(IOException.class, () -> MappedRecordFile.open(path, LAYOUT));
+
+        assertEquals(path + " has 9 bytes, which is not a whole number of 8-byte records.", exception.getMessage());
+    }
+
+    @Test
+    public void testOpenThrowsExceptionIfWindowSizeIsSmallerThanRecord() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> MappedRecordFile.open(path, LAYOUT, ByteOrder.BIG_ENDIAN, 7)
+        );
+
+        assertEquals("windowSize must be at least 8, but was 7.", exception.getMessage());
+    }
+
+    private void writeRecords(ByteOrder order, String... names) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LAYOUT.getSize() * names.length).order(order);
+        BinaryRecord record = new BinaryRecord(LAYOUT);
+        for (int i = 0; i < names.length; i++) {
+            record.wrap(buffer, i * LAYOUT.getSize());
+            record.putInt(QUANTITY, i);
+            record.putString(NAME, 4, names[i]);
+        }
+        Files.write(path, buffer.array());
+    }
+
+    private static class Target {
+        private int quantity;
+        private String name;
+    }
+}
\ No newline at end of file
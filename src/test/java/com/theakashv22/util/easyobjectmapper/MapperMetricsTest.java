@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapperMetricsTest {
+    @Test
+    public void testInstrumentedTreeRecordsEachNode() {
+        MapperMetrics metrics = new MapperMetrics();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("root", createMapper());
+        Source source = new Source("value", new InnerSource("inner"));
+
+        for (int i = 0; i < 3; i++) {
+            Target target = new Target();
+            mapper.map(source, target);
+            assertEquals("value", target.getValue());
+            assertEquals("inner", target.getInner().getValue());
+        }
+
+        SortedMap<String, MapperMetricsSnapshot> snapshots = metrics.getSnapshots();
+        assertEquals(Arrays.asList("root", "root/0", "root/1", "root/1/0"), new ArrayList<>(snapshots.keySet()));
+        for (MapperMetricsSnapshot snapshot : snapshots.values()) {
+            assertEquals(3, snapshot.getInvocationCount());
+            assertEquals(0, snapshot.getFailureCount());
+        }
+        assertTrue(snapshots.get("root").getTotalLatencyNanos() >= snapshots.get("root/1").getTotalLatencyNanos());
+    }
+
+    @Test
+    public void testFailuresAreRecorded() {
+        MapperMetrics metrics = new MapperMetrics();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("root", (source, target) -> {
+            throw new IllegalStateException();
+        });
+
+        assertThrows(IllegalStateException.class, () -> mapper.map(new Source(null, null), new Target()));
+
+        MapperMetricsSnapshot snapshot = metrics.getSnapshot("root");
+        assertEquals(1, snapshot.getInvocationCount());
+        assertEquals(1, snapshot.getFailureCount());
+    }
+
+    @Test
+    public void testNothingIsRecordedWhileDisabled() {
+        MapperMetrics metrics = new MapperMetrics();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("root", createMapper());
+        Source source = new Source("value", new InnerSource("inner"));
+
+        metrics.setEnabled(false);
+        mapper.map(source, new Target());
+        mapper.mapAll(Collections.singletonList(source), Collections.singletonList(new Target()));
+
+        for (MapperMetricsSnapshot snapshot : metrics.getSnapshots().values()) {
+            assertEquals(0, snapshot.getInvocationCount());
+        }
+
+        metrics.setEnabled(true);
+        mapper.mapAll(Arrays.asList(source, source), Arrays.asList(new Target(), new Target()));
+
+        assertEquals(1, metrics.getSnapshot("root").getInvocationCount());
+        assertEquals(1, metrics.getSnapshot("root/1/0").getInvocationCount());
+    }
+
+    @Test
+    public void testMapAllPassesBatchToWrappedMapper() {
+        MapperMetrics metrics = new MapperMetrics();
+        AtomicInteger mapAllCount = new AtomicInteger();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("root", new Mapper<Source, Target>() {
+            @Override
+            public void map(Source source, Target target) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void mapAll(List<? extends Source> sources, List<? extends Target> targets) {
+                mapAllCount.incrementAndGet();
+            }
+        });
+        List<Source> sources = Arrays.asList(new Source("first", null), new Source("second", null));
+        List<Target> targets = Arrays.asList(new Target(), new Target());
+
+        mapper.mapAll(sources, targets);
+        metrics.setEnabled(false);
+        mapper.mapAll(sources, targets);
+
+        assertEquals(2, mapAllCount.get());
+        assertEquals(1, metrics.getSnapshot("root").getInvocationCount());
+    }
+
+    @Test
+    public void testInstrumentedMapperIsNotWrappedAgain() {
+        MapperMetrics metrics = new MapperMetrics();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("root", createMapper());
+
+        assertSame(mapper, metrics.instrument("other", mapper));
+        assertNull(metrics.getSnapshot("other"));
+    }
+
+    @Test
+    public void testInstrumentLeavesOriginalTreeAsItIs() {
+        MapperMetrics metrics = new MapperMetrics();
+        EasyObjectMapper<Source, Target> originalMapper = createMapper();
+        Mapper<Source, Target>[] innerMappers = originalMapper.getInnerMappers().clone();
+
+        metrics.instrument("root", originalMapper);
+        originalMapper.map(new Source("value", new InnerSource("inner")), new Target());
+
+        assertArrayEquals(innerMappers, originalMapper.getInnerMappers());
+        for (Mapper<Source, Target> innerMapper : originalMapper.getInnerMappers()) {
+            assertFalse(innerMapper instanceof InstrumentedMapper);
+        }
+        for (MapperMetricsSnapshot snapshot : metrics.getSnapshots().values()) {
+            assertEquals(0, snapshot.getInvocationCount());
+        }
+    }
+
+    @Test
+    public void testSharedSubtreeIsRecordedUnderPathOfEachTree() {
+        MapperMetrics metrics = new MapperMetrics();
+        EasyObjectMapper<Source, Target> sharedMapper = createMapper();
+        InstrumentedMapper<Source, Target> mapper = metrics.instrument("first", new EasyObjectMapper<>(sharedMapper));
+        metrics.instrument("second", new EasyObjectMapper<>(sharedMapper));
+
+        mapper.map(new Source("value", new InnerSource("inner")), new Target());
+
+        assertEquals(1, metrics.getSnapshot("first/0/1/0").getInvocationCount());
+        assertEquals(0, metrics.getSnapshot("second/0/1/0").getInvocationCount());
+    }
+
+    @Test
+    public void testPathsFollowTreeAsItWasBuilt() {
+        MapperMetrics metrics = new MapperMetrics();
+        EasyObjectMapper<Source, Target> mapper = new EasyObjectMapper<>(
+                (source, target) -> { },
+                new EasyObjectMapper<>(createMapper().getDeclaredInnerMappers())
+        );
+
+        metrics.instrument("root", mapper);
+
+        assertEquals(
+                Arrays.asList("root", "root/0", "root/1", "root/1/0", "root/1/1", "root/1/1/0"),
+                new ArrayList<>(metrics.getSnapshots().keySet())
+        );
+    }
+
+    private static EasyObjectMapper<Source, Target> createMapper() {
+        return new EasyObjectMapper<Source, Target>(Arrays.asList(
+                new SimplePropertyMapper<Source, Target, String>() {
+                    @Override
+                    protected String getPropertyFromSource(Source source) {
+                        return source.getValue();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(Target target, String value) {
+                        target.setValue(value);
+                    }
+                },
+                new SimpleObjectPropertyMapper<Source, Target, InnerSource>(Collections.singletonList(
+                        new SimplePropertyMapper<InnerSource, InnerSource, String>() {
+                            @Override
+                            protected String getPropertyFromSource(InnerSource source) {
+                                return source.getValue();
+                            }
+
+                            @Override
+                            protected void setPropertyToTarget(InnerSource target, String value) {
+                                target.setValue(value);
+                            }
+                        }
+                )) {
+                    @Override
+                    protected InnerSource getPropertyFromSource(Source source) {
+                        return source.getInner();
+                    }
+
+                    @Override
+                    protected InnerSource getPropertyFromTarget(Target target) {
+                        return target.getInner();
+                    }
+                }
+        )) {};
+    }
+
+    private static class Source {
+        private final String value;
+        private final InnerSource inner;
+
+        private Source(String value, InnerSource inner) {
+            this.value = value;
+            this.inner = inner;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private InnerSource getInner() {
+            return inner;
+        }
+    }
+
+    private static class InnerSource {
+        private String value;
+
+        private InnerSource(String value) {
+            this.value = value;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class Target {
+        private final InnerSource inner = new InnerSource(null);
+        private String value;
+
+        private InnerSource getInner() {
+            return inner;
+        }
+
+        private String getValue() {
+            return value;
+        }
+
+        private void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
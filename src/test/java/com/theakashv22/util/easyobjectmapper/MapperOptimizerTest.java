@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapperOptimizerTest {
+    private final Mapper<String, List<String>> first = (source, target) -> target.add("first:" + source);
+    private final Mapper<String, List<String>> second = (source, target) -> target.add("second:" + source);
+    private final Mapper<String, List<String>> third = (source, target) -> target.add("third:" + source);
+
+    @Test
+    public void testFlattenNestedEasyObjectMappers() {
+        Mapper<String, List<String>>[] flattenedMappers = MapperOptimizer.flatten(Arrays.asList(
+                new EasyObjectMapper<>(first, new EasyObjectMapper<>(second)),
+                third
+        ));
+
+        assertArrayEquals(new Object[] {first, second, third}, flattenedMappers);
+    }
+
+    @Test
+    public void testFlattenDropsEmptyEasyObjectMappers() {
+        Mapper<String, List<String>>[] flattenedMappers = MapperOptimizer.flatten(Arrays.asList(
+                new EasyObjectMapper<>(),
+                first,
+                new EasyObjectMapper<>(new EasyObjectMapper<>())
+        ));
+
+        assertArrayEquals(new Object[] {first}, flattenedMappers);
+    }
+
+    @Test
+    public void testFlattenKeepsEasyObjectMapperSubclasses() {
+        EasyObjectMapper<String, List<String>> subclassMapper =
+                new EasyObjectMapper<String, List<String>>(Collections.singletonList(first)) {};
+
+        Mapper<String, List<String>>[] flattenedMappers =
+                MapperOptimizer.flatten(Arrays.asList(subclassMapper, second));
+
+        assertArrayEquals(new Object[] {subclassMapper, second}, flattenedMappers);
+    }
+
+    @Test
+    public void testFlattenedMappersMapInOriginalOrder() {
+        EasyObjectMapper<String, List<String>> mapper = new EasyObjectMapper<>(
+                new EasyObjectMapper<>(first, new EasyObjectMapper<>(second)),
+                third
+        );
+        List<String> target = new ArrayList<>();
+
+        mapper.map("a", target);
+
+        assertEquals(Arrays.asList("first:a", "second:a", "third:a"), target);
+    }
+
+    @Test
+    public void testFlattenCopiesMappers() {
+        List<Mapper<String, List<String>>> mappers = new ArrayList<>(Collections.singletonList(first));
+        EasyObjectMapper<String, List<String>> mapper = new EasyObjectMapper<>(mappers);
+        mappers.add(second);
+        List<String> target = new ArrayList<>();
+
+        mapper.map("a", target);
+
+        assertEquals(Collections.singletonList("first:a"), target);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MapperTest {
+    private final Mapper<Source, Target> mapper =
+            (source, target) -> target.setTargetProperty(source.getSourceProperty());
+
+    @Test
+    public void testMapAllWithLists() {
+        List<Target> targets = Arrays.asList(new Target(), new Target());
+
+        mapper.mapAll(Arrays.asList(new Source("a"), new Source("b")), targets);
+
+        assertEquals(Arrays.asList("a", "b"), getTargetProperties(targets));
+    }
+
+    @Test
+    public void testMapAllWithArrays() {
+        Target[] targets = {new Target(), new Target()};
+
+        Target[] mappedTargets = mapper.mapAll(new Source[] {new Source("a"), new Source("b")}, targets);
+
+        assertSame(targets, mappedTargets);
+        assertEquals(Arrays.asList("a", "b"), getTargetProperties(Arrays.asList(targets)));
+    }
+
+    @Test
+    public void testMapAllWithTargetSupplier() {
+        List<Target> targets = mapper.mapAll(
+                Arrays.asList(new Source("a"), new Source("b"), new Source("c")),
+                Target::new
+        );
+
+        assertEquals(Arrays.asList("a", "b", "c"), getTargetProperties(targets));
+    }
+
+    @Test
+    public void testMapAllWithTargetSupplierAndNonListIterable() {
+        Iterable<Source> sources = () -> Arrays.asList(new Source("a"), new Source("b")).iterator();
+
+        List<Target> targets = mapper.mapAll(sources, Target::new);
+
+        assertEquals(Arrays.asList("a", "b"), getTargetProperties(targets));
+    }
+
+    @Test
+    public void testMapAllWithDifferentSizes() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> mapper.mapAll(
+                        Arrays.asList(new Source("a"), new Source("b")),
+                        Collections.singletonList(new Target())
+                )
+        );
+    }
+
+    @Test
+    public void testStreamMapsLazily() {
+        AtomicInteger sourceCount = new AtomicInteger();
+        Stream<Source> sources = Stream.iterate(0, i -> i + 1)
+                .map(i -> new Source(String.valueOf(i)))
+                .peek(source -> sourceCount.incrementAndGet());
+
+        List<Target> targets = mapper.stream(sources, Target::new).limit(3).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("0", "1", "2"), getTargetProperties(targets));
+        assertEquals(3, sourceCount.get());
+    }
+
+    @Test
+    public void testStreamInParallel() {
+        List<Source> sources = IntStream.range(0, 10_000)
+                .mapToObj(i -> new Source(String.valueOf(i)))
+                .collect(Collectors.toList());
+
+        Stream<Target> targets = mapper.stream(sources.parallelStream(), Target::new);
+
+        assertTrue(targets.isParallel());
+        assertEquals(
+                IntStream.range(0, 10_000).mapToObj(String::valueOf).collect(Collectors.toList()),
+                targets.map(Target::getTargetProperty).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testIterator() {
+        Iterator<Target> targets = mapper.iterator(
+                Arrays.asList(new Source("a"), new Source("b")).iterator(),
+                Target::new
+        );
+
+        assertEquals("a", targets.next().getTargetProperty());
+        assertEquals("b", targets.next().getTargetProperty());
+        assertFalse(targets.hasNext());
+    }
+
+    @Test
+    public void testIteratorDoesNotObtainTargetOnceSourcesAreExhausted() {
+        AtomicInteger targetCount = new AtomicInteger();
+        Iterator<Target> targets = mapper.iterator(
+                Collections.singletonList(new Source("a")).iterator(),
+                () -> {
+                    targetCount.incrementAndGet();
+                    return new Target();
+                }
+        );
+
+        targets.next();
+
+        assertThrows(NoSuchElementException.class, targets::next);
+        assertEquals(1, targetCount.get());
+    }
+
+    @Test
+    public void testSpliteratorKeepsSizeAndSplits() {
+        List<Source> sources = IntStream.range(0, 100)
+                .mapToObj(i -> new Source(String.valueOf(i)))
+                .collect(Collectors.toList());
+
+        Spliterator<Target> targets = mapper.spliterator(sources.spliterator(), Target::new);
+
+        assertTrue(targets.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(100, targets.getExactSizeIfKnown());
+
+        Spliterator<Target> prefix = targets.trySplit();
+
+        assertEquals(100, prefix.getExactSizeIfKnown() + targets.getExactSizeIfKnown());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertTrue(prefix.tryAdvance(target -> assertEquals("0", target.getTargetProperty())));
+
+        List<String> remaining = new ArrayList<>();
+        prefix.forEachRemaining(target -> remaining.add(target.getTargetProperty()));
+        targets.forEachRemaining(target -> remaining.add(target.getTargetProperty()));
+
+        assertEquals(99, remaining.size());
+        assertEquals("99", remaining.get(98));
+    }
+
+    @Test
+    public void testSpliteratorDropsSortedAndDistinct() {
+        Spliterator<Target> targets = mapper.spliterator(
+                new TreeSet<>(Arrays.asList("a", "b")).stream().map(Source::new).spliterator(),
+                Target::new
+        );
+
+        assertFalse(targets.hasCharacteristics(Spliterator.SORTED));
+        assertFalse(targets.hasCharacteristics(Spliterator.DISTINCT));
+    }
+
+    @Test
+    public void testMapPooled() {
+        TargetPool<Target> pool = new TargetPool<>(Target::new, target -> target.setTargetProperty(null), 1);
+        List<String> targetProperties = new ArrayList<>();
+
+        mapper.mapPooled(new Source("a"), pool, target -> targetProperties.add(target.getTargetProperty()));
+        mapper.mapPooled(new Source("b"), pool, target -> targetProperties.add(target.getTargetProperty()));
+
+        assertEquals(Arrays.asList("a", "b"), targetProperties);
+        assertEquals(1, pool.size());
+    }
+
+    private List<String> getTargetProperties(List<Target> targets) {
+        return targets.stream().map(Target::getTargetProperty).collect(Collectors.toList());
+    }
+
+    private static class Source {
+        private final String sourceProperty;
+
+        private Source(String sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public String getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private String targetProperty;
+
+        public String getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(String targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
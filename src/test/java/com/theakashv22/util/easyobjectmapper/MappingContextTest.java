@@ -0,0 +1,239 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappingContextTest {
+    @Test
+    public void testCyclicGraphIsMappedToCyclicGraph() {
+        AtomicInteger conversionCount = new AtomicInteger();
+        Mapper<SourceNode, TargetNode> mapper = createNodeMapper(conversionCount);
+        SourceNode first = new SourceNode("first");
+        SourceNode second = new SourceNode("second");
+        first.setChild(second);
+        second.setChild(first);
+        TargetNode target = new TargetNode();
+
+        new MappingContext().map(mapper, first, target);
+
+        assertEquals("first", target.getName());
+        assertEquals("second", target.getChild().getName());
+        assertSame(target, target.getChild().getChild());
+        assertEquals(1, conversionCount.get());
+    }
+
+    @Test
+    public void testCyclicGraphRecursesEndlesslyOutsideContext() {
+        Mapper<SourceNode, TargetNode> mapper = createNodeMapper(new AtomicInteger());
+        SourceNode node = new SourceNode("node");
+        node.setChild(node);
+
+        assertThrows(StackOverflowError.class, () -> mapper.map(node, new TargetNode()));
+        assertNull(MappingContext.current());
+    }
+
+    @Test
+    public void testSharedObjectIsMappedOnceAcrossRoots() {
+        AtomicInteger conversionCount = new AtomicInteger();
+        Mapper<SourceNode, TargetNode> mapper = createNodeMapper(conversionCount);
+        SourceNode shared = new SourceNode("shared");
+        SourceNode first = new SourceNode("first");
+        SourceNode second = new SourceNode("second");
+        first.setChild(shared);
+        second.setChild(shared);
+        TargetNode firstTarget = new TargetNode();
+        TargetNode secondTarget = new TargetNode();
+        MappingContext context = new MappingContext();
+
+        context.map(mapper, first, firstTarget);
+        context.map(mapper, second, secondTarget);
+
+        assertSame(firstTarget.getChild(), secondTarget.getChild());
+        assertEquals("shared", secondTarget.getChild().getName());
+        assertEquals(1, conversionCount.get());
+
+        context.clear();
+        TargetNode thirdTarget = new TargetNode();
+        context.map(mapper, first, thirdTarget);
+
+        assertNotSame(firstTarget.getChild(), thirdTarget.getChild());
+        assertEquals(2, conversionCount.get());
+    }
+
+    @Test
+    public void testObjectPropertyIsNotMappedAgainIntoSameTargetProperty() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        Mapper<SourceNode, SourceNode> innerMapper = (source, target) -> innerMapCount.incrementAndGet();
+        SimpleObjectPropertyMapper<SourceNode, TargetNode, SourceNode> mapper =
+                new SimpleObjectPropertyMapper<SourceNode, TargetNode, SourceNode>(
+                        Collections.singletonList(innerMapper)
+                ) {
+                    @Override
+                    protected SourceNode getPropertyFromSource(SourceNode source) {
+                        return source.getChild();
+                    }
+
+                    @Override
+                    protected SourceNode getPropertyFromTarget(TargetNode target) {
+                        return target.getExistingChild();
+                    }
+                };
+        SourceNode source = new SourceNode("source");
+        source.setChild(new SourceNode("child"));
+        TargetNode target = new TargetNode();
+        MappingContext context = new MappingContext();
+
+        context.map(mapper, source, target);
+        context.map(mapper, source, target);
+        context.map(mapper, source, new TargetNode());
+
+        assertEquals(2, innerMapCount.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testContextIsNotInEffectOnOtherThreads() throws Exception {
+        AtomicInteger conversionCount = new AtomicInteger();
+        Mapper<SourceNode, TargetNode> mapper = createNodeMapper(conversionCount);
+        SourceNode shared = new SourceNode("shared");
+        SourceNode first = new SourceNode("first");
+        SourceNode second = new SourceNode("second");
+        first.setChild(shared);
+        second.setChild(shared);
+        TargetNode firstTarget = new TargetNode();
+        TargetNode secondTarget = new TargetNode();
+        MappingContext context = new MappingContext();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Mapper<SourceNode, TargetNode> threadHoppingMapper = (source, target) -> {
+                try {
+                    assertNull(executor.submit(MappingContext::current).get());
+                    executor.submit(() -> mapper.map(source, target)).get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+
+            context.map(mapper, first, firstTarget);
+            context.map(threadHoppingMapper, second, secondTarget);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertNotSame(firstTarget.getChild(), secondTarget.getChild());
+        assertEquals("shared", secondTarget.getChild().getName());
+        assertEquals(2, conversionCount.get());
+    }
+
+    private static Mapper<SourceNode, TargetNode> createNodeMapper(AtomicInteger conversionCount) {
+        @SuppressWarnings("unchecked")
+        Mapper<SourceNode, TargetNode>[] nodeMapper = new Mapper[1];
+        Mapper<SourceNode, TargetNode> nameMapper = (source, target) -> target.setName(source.getName());
+        Mapper<SourceNode, TargetNode> childMapper = (source, target) -> {
+            if (source != null) {
+                nodeMapper[0].map(source, target);
+            }
+        };
+        nodeMapper[0] = new EasyObjectMapper<SourceNode, TargetNode>(Arrays.asList(
+                nameMapper,
+                new SourceToTargetObjectPropertyMapper<SourceNode, SourceNode, TargetNode, TargetNode>(
+                        true,
+                        Collections.singletonList(childMapper)
+                ) {
+                    @Override
+                    protected SourceNode getPropertyFromSource(SourceNode source) {
+                        return source.getChild();
+                    }
+
+                    @Override
+                    protected TargetNode convert(SourceNode sourceProperty) {
+                        if (sourceProperty == null) {
+                            return null;
+                        }
+                        conversionCount.incrementAndGet();
+                        return new TargetNode();
+                    }
+
+                    @Override
+                    protected void setPropertyToTarget(TargetNode target, TargetNode targetProperty) {
+                        target.setChild(targetProperty);
+                    }
+                }
+        )) {};
+        return nodeMapper[0];
+    }
+
+    private static class SourceNode {
+        private final String name;
+        private SourceNode child;
+
+        private SourceNode(String name) {
+            this.name = name;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private SourceNode getChild() {
+            return child;
+        }
+
+        private void setChild(SourceNode child) {
+            this.child = child;
+        }
+    }
+
+    private static class TargetNode {
+        private final SourceNode existingChild = new SourceNode(null);
+        private String name;
+        private TargetNode child;
+
+        private SourceNode getExistingChild() {
+            return existingChild;
+        }
+
+        private String getName() {
+            return name;
+        }
+
+        private void setName(String name) {
+            this.name = name;
+        }
+
+        private TargetNode getChild() {
+            return child;
+        }
+
+        private void setChild(TargetNode child) {
+            this.child = child;
+        }
+    }
+}
\ No newline at end of file
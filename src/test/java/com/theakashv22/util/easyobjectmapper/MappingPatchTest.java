@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappingPatchTest {
+    private final AtomicInteger convertCount = new AtomicInteger();
+    private final AtomicInteger otherMapCount = new AtomicInteger();
+    private final Mapper<Source, Target> mapper = new EasyObjectMapper<>(
+            new SourceToTargetPropertyMapper<Source, Integer, Target, String>() {
+                @Override
+                protected Integer getPropertyFromSource(Source source) {
+                    return source.number;
+                }
+
+                @Override
+                protected void setPropertyToTarget(Target target, String targetProperty) {
+                    target.number = targetProperty;
+                }
+
+                @Override
+                protected String convert(Integer sourceProperty) {
+                    convertCount.incrementAndGet();
+                    return String.valueOf(sourceProperty);
+                }
+            },
+            new EasyObjectMapper<>(
+                    new SimpleObjectPropertyMapper<Source, Target, InnerSource>(Collections.singletonList(
+                            new SimplePropertyMapper<InnerSource, InnerSource, String>() {
+                                @Override
+                                protected String getPropertyFromSource(InnerSource source) {
+                                    return source.value;
+                                }
+
+                                @Override
+                                protected void setPropertyToTarget(InnerSource target, String targetProperty) {
+                                    target.value = targetProperty;
+                                }
+                            }
+                    )) {
+                        @Override
+                        protected InnerSource getPropertyFromSource(Source source) {
+                            return source.inner;
+                        }
+
+                        @Override
+                        protected InnerSource getPropertyFromTarget(Target target) {
+                            return target.inner;
+                        }
+                    },
+                    new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerSource>(
+                            true,
+                            Collections.singletonList((InnerSource source, InnerSource target) ->
+                                    target.value = source.value)
+                    ) {
+                        @Override
+                        protected InnerSource getPropertyFromSource(Source source) {
+                            return source.convertedInner;
+                        }
+
+                        @Override
+                        protected void setPropertyToTarget(Target target, InnerSource targetProperty) {
+                            target.convertedInner = targetProperty;
+                        }
+
+                        @Override
+                        protected InnerSource convert(InnerSource sourceProperty) {
+                            return new InnerSource(null);
+                        }
+                    }
+            ),
+            new AddSingleToCollectionPropertyMapper<Source, String, Target, String>(true) {
+                @Override
+                protected String getPropertyFromSource(Source source) {
+                    return source.tag;
+                }
+
+                @Override
+                protected Collection<String> getPropertyFromTarget(Target target) {
+                    return target.tags;
+                }
+
+                @Override
+                protected String convert(String sourceProperty) {
+                    return sourceProperty;
+                }
+            },
+            (source, target) -> {
+                otherMapCount.incrementAndGet();
+                target.other = source.number;
+            }
+    );
+
+    @Test
+    public void testPatchBringsTargetsUpToDateWithNewSource() {
+        Source oldSource = new Source(1, new InnerSource("a"), new InnerSource("b"), "c");
+        Source newSource = new Source(2, new InnerSource("d"), new InnerSource("e"), "f");
+        List<Target> targets = Arrays.asList(new Target(), new Target(), new Target());
+        for (Target target : targets) {
+            mapper.map(oldSource, target);
+        }
+        convertCount.set(0);
+        otherMapCount.set(0);
+
+        MappingPatch<Target> patch = MappingPatch.diff(mapper, oldSource, newSource);
+        patch.applyToAll(targets);
+
+        Target expectedTarget = new Target();
+        mapper.map(newSource, expectedTarget);
+        for (Target target : targets) {
+            assertEquals(expectedTarget.number, target.number);
+            assertEquals(expectedTarget.inner.value, target.inner.value);
+            assertEquals(expectedTarget.convertedInner.value, target.convertedInner.value);
+            assertEquals(expectedTarget.tags, target.tags);
+            assertEquals(expectedTarget.other, target.other);
+        }
+        assertEquals(5, patch.size());
+        assertEquals(2, convertCount.get());
+        assertEquals(4, otherMapCount.get());
+        assertNotSame(targets.get(0).convertedInner, targets.get(1).convertedInner);
+    }
+
+    @Test
+    public void testPatchSkipsUnchangedProperties() {
+        InnerSource convertedInner = new InnerSource("b");
+        Source oldSource = new Source(1, new InnerSource("a"), convertedInner, "c");
+        Source newSource = new Source(1, new InnerSource("a"), convertedInner, "c");
+        Target target = new Target();
+        mapper.map(oldSource, target);
+        InnerSource mappedConvertedInner = target.convertedInner;
+        convertCount.set(0);
+        otherMapCount.set(0);
+
+        MappingPatch<Target> patch = MappingPatch.diff(mapper, oldSource, newSource);
+        patch.applyTo(target);
+
+        assertEquals(1, patch.size());
+        assertEquals(0, convertCount.get());
+        assertEquals(1, otherMapCount.get());
+        assertSame(mappedConvertedInner, target.convertedInner);
+    }
+
+    @Test
+    public void testPatchTreatsVersionStampedPropertiesWithSameVersionStampAsEqual() {
+        Source oldSource = new Source(1, new VersionStampedInnerSource("a", 1), new InnerSource("b"), "c");
+        Source newSource = new Source(1, new VersionStampedInnerSource("a", 1), oldSource.convertedInner, "c");
+        Source changedSource = new Source(1, new VersionStampedInnerSource("d", 2), oldSource.convertedInner, "c");
+
+        assertEquals(1, MappingPatch.diff(mapper, oldSource, newSource).size());
+        assertEquals(2, MappingPatch.diff(mapper, oldSource, changedSource).size());
+    }
+
+    @Test
+    public void testEmptyPatch() {
+        Source source = new Source(1, new InnerSource("a"), new InnerSource("b"), "c");
+
+        MappingPatch<Source> patch = MappingPatch.diff(new EasyObjectMapper<Source, Source>(), source, source);
+
+        assertTrue(patch.isEmpty());
+        assertEquals(0, patch.size());
+    }
+
+    private static class Source {
+        private final Integer number;
+        private final InnerSource inner;
+        private final InnerSource convertedInner;
+        private final String tag;
+
+        private Source(Integer number, InnerSource inner, InnerSource convertedInner, String tag) {
+            this.number = number;
+            this.inner = inner;
+            this.convertedInner = convertedInner;
+            this.tag = tag;
+        }
+    }
+
+    private static class Target {
+        private String number;
+        private final InnerSource inner = new InnerSource(null);
+        private InnerSource convertedInner;
+        private final List<String> tags = new ArrayList<>();
+        private Integer other;
+    }
+
+    private static class InnerSource {
+        private String value;
+
+        private InnerSource(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class VersionStampedInnerSource extends InnerSource implements VersionStamped {
+        private final long versionStamp;
+
+        private VersionStampedInnerSource(String value, long versionStamp) {
+            super(value);
+            this.versionStamp = versionStamp;
+        }
+
+        @Override
+        public long getVersionStamp() {
+            return versionStamp;
+        }
+    }
+}
\ No newline at end of file
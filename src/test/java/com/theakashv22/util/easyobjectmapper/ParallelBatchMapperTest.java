@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelBatchMapperTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final Set<Thread> mappingThreads = ConcurrentHashMap.newKeySet();
+    private final Mapper<Source, Target> innerMapper = (source, target) -> {
+        mappingThreads.add(Thread.currentThread());
+        target.setTargetProperty(source.getSourceProperty());
+    };
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testMapAllSplitsLargeBatch() {
+        ParallelBatchMapper<Source, Target> mapper = new ParallelBatchMapper<>(innerMapper, pool, 16);
+        Source[] sources = new Source[1000];
+        Target[] targets = new Target[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new Source(i);
+            targets[i] = new Target();
+        }
+
+        Target[] mappedTargets = mapper.mapAll(sources, targets);
+
+        assertSame(targets, mappedTargets);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(i, targets[i].getTargetProperty());
+        }
+    }
+
+    @Test
+    public void testMapAllMapsSmallBatchOnCallingThread() {
+        ParallelBatchMapper<Source, Target> mapper = new ParallelBatchMapper<>(innerMapper, pool, 16);
+
+        List<Target> targets = mapper.mapAll(Arrays.asList(new Source(1), new Source(2)), Target::new);
+
+        assertEquals(1, targets.get(0).getTargetProperty());
+        assertEquals(2, targets.get(1).getTargetProperty());
+        assertEquals(Collections.singleton(Thread.currentThread()), mappingThreads);
+    }
+
+    @Test
+    public void testMapUsesCallingThread() {
+        ParallelBatchMapper<Source, Target> mapper = new ParallelBatchMapper<>(innerMapper, 16);
+        Target target = new Target();
+
+        mapper.map(new Source(5), target);
+
+        assertEquals(5, target.getTargetProperty());
+        assertEquals(Collections.singleton(Thread.currentThread()), mappingThreads);
+    }
+
+    @Test
+    public void testConstructorWithInvalidMinChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatchMapper<>(innerMapper, pool, 0));
+    }
+
+    private static class Source {
+        private final int sourceProperty;
+
+        private Source(int sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public int getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private int targetProperty;
+
+        public int getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(int targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
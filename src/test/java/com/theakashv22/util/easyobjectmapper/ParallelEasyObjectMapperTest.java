@@ -0,0 +1,297 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParallelEasyObjectMapperTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testMapperCallsIndependentMappersConcurrently() {
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                5,
+                IndependentMapper.of(awaitingMapper("first", barrier), 10, "first"),
+                new EasyObjectMapper<>(IndependentMapper.of(awaitingMapper("second", barrier), 10, "second")),
+                IndependentMapper.of(awaitingMapper("third", barrier), 10, "third")
+        );
+        Target target = new Target();
+
+        mapper.map(new Source(10), target);
+
+        assertEquals(3, target.threads.size());
+        assertEquals(10, target.first);
+        assertEquals(10, target.second);
+        assertEquals(10, target.third);
+        assertEquals(3, target.threads.values().stream().distinct().count());
+    }
+
+    @Test
+    public void testMapperCallsMappersBelowCostThresholdOnCallingThread() {
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                5,
+                IndependentMapper.of(recordingMapper("first"), 4, "first"),
+                IndependentMapper.of(recordingMapper("second"), 0, "second")
+        );
+
+        testMapperCallsAllMappersOnCallingThread(mapper);
+    }
+
+    @Test
+    public void testMapperCallsMappersWithOverlappingWriteSetsOnCallingThread() {
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                5,
+                IndependentMapper.of(recordingMapper("first"), 10, "first", "third"),
+                IndependentMapper.of(recordingMapper("second"), 10, "second", "third")
+        );
+
+        testMapperCallsAllMappersOnCallingThread(mapper);
+    }
+
+    @Test
+    public void testMapperCallsUndeclaredMappersOnCallingThread() {
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                0,
+                recordingMapper("first"),
+                recordingMapper("second")
+        );
+
+        testMapperCallsAllMappersOnCallingThread(mapper);
+    }
+
+    @Test
+    public void testMapperCallsMostExpensiveIndependentMapperOnCallingThreadIfNoOtherMapperIs() {
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                5,
+                IndependentMapper.of(recordingMapper("first"), 10, "first"),
+                IndependentMapper.of(recordingMapper("second"), 20, "second")
+        );
+        Target target = new Target();
+
+        mapper.map(new Source(10), target);
+
+        assertNotSame(Thread.currentThread(), target.threads.get("first"));
+        assertSame(Thread.currentThread(), target.threads.get("second"));
+    }
+
+    @Test
+    public void testMapperCallsRejectedMappersOnCallingThread() {
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                command -> {
+                    throw new RejectedExecutionException();
+                },
+                5,
+                IndependentMapper.of(recordingMapper("first"), 10, "first"),
+                IndependentMapper.of(recordingMapper("second"), 10, "second")
+        );
+
+        testMapperCallsAllMappersOnCallingThread(mapper);
+    }
+
+    @Test
+    public void testMapperThrowsExceptionOnceAllMappersHaveFinished() {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                executor,
+                5,
+                IndependentMapper.of(
+                        (Source source, Target target) -> {
+                            throw new IllegalStateException("Mapping failed.");
+                        },
+                        10,
+                        "first"
+                ),
+                IndependentMapper.of(awaitingMapper("second", barrier), 10, "second"),
+                IndependentMapper.of(awaitingMapper("third", barrier), 10, "third")
+        );
+        Target target = new Target();
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> mapper.map(new Source(10), target)
+        );
+
+        assertEquals("Mapping failed.", exception.getMessage());
+        assertEquals(10, target.second);
+        assertEquals(10, target.third);
+    }
+
+    @Test
+    public void testMapperThrowsExecutorExceptionOnceSubmittedMappersHaveFinished() {
+        AtomicInteger taskCount = new AtomicInteger();
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                command -> {
+                    if (taskCount.incrementAndGet() > 1) {
+                        throw new IllegalStateException("Executor failed.");
+                    }
+                    executor.execute(command);
+                },
+                5,
+                IndependentMapper.of(
+                        (source, target) -> {
+                            try {
+                                Thread.sleep(100);
+                            } catch (InterruptedException exception) {
+                                throw new IllegalStateException(exception);
+                            }
+                            target.set("first", source.getSourceProperty());
+                        },
+                        10,
+                        "first"
+                ),
+                IndependentMapper.of(recordingMapper("second"), 10, "second"),
+                IndependentMapper.of(recordingMapper("third"), 20, "third")
+        );
+        Target target = new Target();
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class,
+                () -> mapper.map(new Source(10), target)
+        );
+
+        assertEquals("Executor failed.", exception.getMessage());
+        assertEquals(10, target.first);
+    }
+
+    @Test
+    public void testMapAllHandsEachIndependentMapperToExecutorOncePerBatch() {
+        AtomicInteger taskCount = new AtomicInteger();
+        Mapper<Source, Target> mapper = new ParallelEasyObjectMapper<>(
+                command -> {
+                    taskCount.incrementAndGet();
+                    executor.execute(command);
+                },
+                5,
+                IndependentMapper.of(recordingMapper("first"), 10, "first"),
+                IndependentMapper.of(recordingMapper("second"), 10, "second"),
+                IndependentMapper.of(recordingMapper("third"), 20, "third")
+        );
+        List<Target> targets = Arrays.asList(new Target(), new Target(), new Target());
+
+        mapper.mapAll(Arrays.asList(new Source(10), new Source(20), new Source(30)), targets);
+
+        assertEquals(2, taskCount.get());
+        for (int i = 0; i < targets.size(); i++) {
+            assertEquals((i + 1) * 10, targets.get(i).first);
+            assertEquals((i + 1) * 10, targets.get(i).second);
+            assertEquals((i + 1) * 10, targets.get(i).third);
+        }
+    }
+
+    @Test
+    public void testConstructorThrowsExceptionIfCostThresholdIsNegative() {
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> new ParallelEasyObjectMapper<Source, Target>(executor, -1)
+        );
+
+        assertEquals("costThreshold must be at least 0, but was -1.", exception.getMessage());
+    }
+
+    private void testMapperCallsAllMappersOnCallingThread(Mapper<Source, Target> mapper) {
+        Target target = new Target();
+
+        mapper.map(new Source(10), target);
+
+        assertEquals(10, target.first);
+        assertEquals(10, target.second);
+        assertSame(Thread.currentThread(), target.threads.get("first"));
+        assertSame(Thread.currentThread(), target.threads.get("second"));
+    }
+
+    private static Mapper<Source, Target> recordingMapper(String property) {
+        return (source, target) -> target.set(property, source.getSourceProperty());
+    }
+
+    private static Mapper<Source, Target> awaitingMapper(String property, CyclicBarrier barrier) {
+        return (source, target) -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+            target.set(property, source.getSourceProperty());
+        };
+    }
+
+    private static class Source {
+        private final int sourceProperty;
+
+        private Source(int sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public int getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+        private int first;
+        private int second;
+        private int third;
+
+        private void set(String property, int value) {
+            threads.put(property, Thread.currentThread());
+            switch (property) {
+                case "first":
+                    first = value;
+                    break;
+                case "second":
+                    second = value;
+                    break;
+                default:
+                    third = value;
+                    break;
+            }
+        }
+    }
+}
\ No newline at end of file
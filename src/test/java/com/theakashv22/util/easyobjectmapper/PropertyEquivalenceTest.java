@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PropertyEquivalenceTest {
+    @Test
+    public void testIdentity() {
+        PropertyEquivalence<BigDecimal> equivalence = PropertyEquivalence.identity();
+        BigDecimal value = new BigDecimal("1.0");
+
+        assertTrue(equivalence.isEquivalent(value, value));
+        assertTrue(equivalence.isEquivalent(null, null));
+        assertFalse(equivalence.isEquivalent(value, new BigDecimal("1.0")));
+        assertFalse(equivalence.isEquivalent(value, null));
+    }
+
+    @Test
+    public void testEquality() {
+        PropertyEquivalence<BigDecimal> equivalence = PropertyEquivalence.equality();
+
+        assertTrue(equivalence.isEquivalent(new BigDecimal("1.0"), new BigDecimal("1.0")));
+        assertTrue(equivalence.isEquivalent(null, null));
+        assertFalse(equivalence.isEquivalent(new BigDecimal("1.0"), new BigDecimal("1.00")));
+        assertFalse(equivalence.isEquivalent(null, new BigDecimal("1.0")));
+    }
+
+    @Test
+    public void testComparing() {
+        PropertyEquivalence<BigDecimal> equivalence = PropertyEquivalence.comparing(Comparator.naturalOrder());
+
+        assertTrue(equivalence.isEquivalent(new BigDecimal("1.0"), new BigDecimal("1.00")));
+        assertTrue(equivalence.isEquivalent(null, null));
+        assertFalse(equivalence.isEquivalent(new BigDecimal("1.0"), new BigDecimal("2.0")));
+        assertFalse(equivalence.isEquivalent(new BigDecimal("1.0"), null));
+        assertFalse(equivalence.isEquivalent(null, new BigDecimal("1.0")));
+    }
+}
\ No newline at end of file
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 public class SimpleObjectPropertyMapperTest {
     @Test
     public void testMapperUsingVarargConstructor() {
+        @SuppressWarnings("unchecked")
         SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty> mapper =
                 new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(getInnerMapper()) {
                     @Override
@@ -64,6 +65,7 @@ public class SimpleObjectPropertyMapperTest {
 
     @Test
     public void testMapperUsingVarargConstructorAndConvertSourceToTargetPropertyFalse() {
+        @SuppressWarnings("unchecked")
         SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty> mapper =
                 new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(
                         false,
@@ -106,6 +108,7 @@ public class SimpleObjectPropertyMapperTest {
 
     @Test
     public void testMapperUsingVarargConstructorAndConvertSourceToTargetPropertyTrue() {
+        @SuppressWarnings("unchecked")
         SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty> mapper =
                 new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(
                         true,
@@ -151,7 +154,7 @@ public class SimpleObjectPropertyMapperTest {
         SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty> mapper =
                 new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(
                         true,
-                        getInnerMapper()
+                        Collections.singletonList(getInnerMapper())
                 ) {
                     @Override
                     protected InnerObjectProperty getPropertyFromSource(Source source) {
@@ -172,7 +175,7 @@ public class SimpleObjectPropertyMapperTest {
         SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty> mapper =
                 new SimpleObjectPropertyMapper<Source, Target, InnerObjectProperty>(
                         false,
-                        getInnerMapper()
+                        Collections.singletonList(getInnerMapper())
                 ) {
                     @Override
                     protected InnerObjectProperty getPropertyFromSource(Source source) {
@@ -17,6 +17,7 @@
 package com.theakashv22.util.easyobjectmapper;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 public class SourceToTargetObjectPropertyMapperTest {
     @Test
     public void testMapperUsingVarargConstructor() {
+        @SuppressWarnings("unchecked")
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(getInnerMapper()) {
                     @Override
@@ -64,6 +66,7 @@ public class SourceToTargetObjectPropertyMapperTest {
 
     @Test
     public void testMapperUsingVarargConstructorAndConvertSourceToTargetPropertyFalse() {
+        @SuppressWarnings("unchecked")
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
                         false,
@@ -106,6 +109,7 @@ public class SourceToTargetObjectPropertyMapperTest {
 
     @Test
     public void testMapperUsingVarargConstructorAndConvertSourceToTargetPropertyTrue() {
+        @SuppressWarnings("unchecked")
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
                         true,
@@ -161,7 +165,7 @@ public class SourceToTargetObjectPropertyMapperTest {
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
                         true,
-                        getInnerMapper()
+                        Collections.singletonList(getInnerMapper())
                 ) {
                     @Override
                     protected InnerSource getPropertyFromSource(Source source) {
@@ -187,7 +191,7 @@ public class SourceToTargetObjectPropertyMapperTest {
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
                         true,
-                        getInnerMapper()
+                        Collections.singletonList(getInnerMapper())
                 ) {
                     @Override
                     protected InnerSource getPropertyFromSource(Source source) {
@@ -213,7 +217,7 @@ public class SourceToTargetObjectPropertyMapperTest {
         SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper =
                 new SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget>(
                         false,
-                        getInnerMapper()
+                        Collections.singletonList(getInnerMapper())
                 ) {
                     @Override
                     protected InnerSource getPropertyFromSource(Source source) {
@@ -233,6 +237,121 @@ public class SourceToTargetObjectPropertyMapperTest {
         return (source, target) -> target.setTargetProperty(String.valueOf(source.getSourceProperty()));
     }
 
+    @Test
+    public void testMapperSkipsUnchangedVersionStampedSourceProperty() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget> mapper =
+                createVersionStampedMapper(innerMapCount, true);
+        VersionStampedInnerSource sourceProperty = new VersionStampedInnerSource(5, 1);
+        VersionStampedSource source = new VersionStampedSource(sourceProperty);
+        Target target = new Target();
+
+        mapper.map(source, target);
+        mapper.map(source, target);
+
+        assertEquals("5", target.getTargetProperty().getTargetProperty());
+        assertEquals(1, innerMapCount.get());
+
+        sourceProperty.setSourceProperty(10, 2);
+        mapper.map(source, target);
+
+        assertEquals("10", target.getTargetProperty().getTargetProperty());
+        assertEquals(2, innerMapCount.get());
+    }
+
+    @Test
+    public void testMapperMapsUnchangedVersionStampedSourcePropertyUnlessSkipping() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget> mapper =
+                createVersionStampedMapper(innerMapCount, false);
+        VersionStampedSource source = new VersionStampedSource(new VersionStampedInnerSource(5, 1));
+        Target target = new Target();
+
+        mapper.map(source, target);
+        target.getTargetProperty().setTargetProperty(null);
+        mapper.map(source, target);
+
+        assertEquals("5", target.getTargetProperty().getTargetProperty());
+        assertEquals(2, innerMapCount.get());
+    }
+
+    @Test
+    public void testMapperMapsAgainAfterForgettingTarget() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget> mapper =
+                createVersionStampedMapper(innerMapCount, true);
+        VersionStampedSource source = new VersionStampedSource(new VersionStampedInnerSource(5, 1));
+        Target target = new Target();
+
+        mapper.map(source, target);
+        SourceToTargetObjectPropertyMapper.forget(target);
+        target.setTargetProperty(null);
+        mapper.map(source, target);
+
+        assertEquals("5", target.getTargetProperty().getTargetProperty());
+        assertEquals(2, innerMapCount.get());
+    }
+
+    @Test
+    public void testMapperRecordsVersionStampPerTarget() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget> mapper =
+                createVersionStampedMapper(innerMapCount, true);
+        VersionStampedSource source = new VersionStampedSource(new VersionStampedInnerSource(5, 1));
+        Target target = new Target();
+        Target otherTarget = new Target();
+
+        mapper.map(source, target);
+        mapper.map(source, otherTarget);
+
+        assertEquals("5", otherTarget.getTargetProperty().getTargetProperty());
+        assertEquals(2, innerMapCount.get());
+    }
+
+    @Test
+    public void testMapperMapsAgainAfterMappingSourcePropertyWithoutVersionStamp() {
+        AtomicInteger innerMapCount = new AtomicInteger();
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget> mapper =
+                createVersionStampedMapper(innerMapCount, true);
+        VersionStampedSource source = new VersionStampedSource(new VersionStampedInnerSource(5, 1));
+        Target target = new Target();
+
+        mapper.map(source, target);
+        mapper.map(new VersionStampedSource(new InnerSource(10)), target);
+        mapper.map(source, target);
+
+        assertEquals("5", target.getTargetProperty().getTargetProperty());
+        assertEquals(3, innerMapCount.get());
+    }
+
+    private SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget>
+            createVersionStampedMapper(AtomicInteger innerMapCount, boolean skipUnchangedVersionStamps) {
+        Mapper<InnerSource, InnerTarget> innerMapper = (sourceProperty, targetProperty) -> {
+            innerMapCount.incrementAndGet();
+            targetProperty.setTargetProperty(Integer.toString(sourceProperty.getSourceProperty()));
+        };
+        return new SourceToTargetObjectPropertyMapper<VersionStampedSource, InnerSource, Target, InnerTarget>(
+                true,
+                skipUnchangedVersionStamps,
+                Collections.singletonList(innerMapper)
+        ) {
+            @Override
+            protected InnerSource getPropertyFromSource(VersionStampedSource source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, InnerTarget targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected InnerTarget convert(InnerSource sourceProperty) {
+                return sourceProperty.createInnerTarget();
+            }
+        };
+    }
+
     private void testMapperWorksCorrectly(
             SourceToTargetObjectPropertyMapper<Source, InnerSource, Target, InnerTarget> mapper,
             boolean setTargetPropertyToNewInnerTarget
@@ -290,8 +409,20 @@ public class SourceToTargetObjectPropertyMapperTest {
         }
     }
 
+    private static class VersionStampedSource {
+        private final InnerSource sourceProperty;
+
+        private VersionStampedSource(InnerSource sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public InnerSource getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
     private static class InnerSource {
-        private final int sourceProperty;
+        private int sourceProperty;
 
         private InnerSource(int sourceProperty) {
             this.sourceProperty = sourceProperty;
@@ -306,6 +437,25 @@ public class SourceToTargetObjectPropertyMapperTest {
         }
     }
 
+    private static class VersionStampedInnerSource extends InnerSource implements VersionStamped {
+        private long versionStamp;
+
+        private VersionStampedInnerSource(int sourceProperty, long versionStamp) {
+            super(sourceProperty);
+            this.versionStamp = versionStamp;
+        }
+
+        public void setSourceProperty(int sourceProperty, long versionStamp) {
+            ((InnerSource) this).sourceProperty = sourceProperty;
+            this.versionStamp = versionStamp;
+        }
+
+        @Override
+        public long getVersionStamp() {
+            return versionStamp;
+        }
+    }
+
     private static class InnerTarget {
         private String targetProperty;
 
@@ -19,6 +19,7 @@ package com.theakashv22.util.easyobjectmapper;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SourceToTargetPropertyMapperTest {
     @Test
@@ -49,6 +50,86 @@ public class SourceToTargetPropertyMapperTest {
         assertEquals("10", target.getTargetProperty());
     }
 
+    @Test
+    public void testMapperSkipsSettingEquivalentProperty() {
+        SourceToTargetPropertyMapper<Source, Integer, Target, String> mapper =
+                createMapper(PropertyEquivalence.equality());
+        Target target = new Target();
+
+        mapper.map(new Source(10), target);
+        mapper.map(new Source(10), target);
+
+        assertEquals("10", target.getTargetProperty());
+        assertEquals(1, target.getSetCount());
+
+        mapper.map(new Source(20), target);
+
+        assertEquals("20", target.getTargetProperty());
+        assertEquals(2, target.getSetCount());
+    }
+
+    @Test
+    public void testMapperSetsEqualPropertyWhenComparingByIdentity() {
+        SourceToTargetPropertyMapper<Source, Integer, Target, String> mapper =
+                createMapper(PropertyEquivalence.identity());
+        Target target = new Target();
+
+        mapper.map(new Source(10), target);
+        mapper.map(new Source(10), target);
+
+        assertEquals("10", target.getTargetProperty());
+        assertEquals(2, target.getSetCount());
+    }
+
+    @Test
+    public void testMapperWithEquivalenceRequiresGetPropertyFromTarget() {
+        SourceToTargetPropertyMapper<Source, Integer, Target, String> mapper =
+                new SourceToTargetPropertyMapper<Source, Integer, Target, String>(PropertyEquivalence.equality()) {
+            @Override
+            protected Integer getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, String targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected String convert(Integer sourceProperty) {
+                return sourceProperty.toString();
+            }
+        };
+
+        assertThrows(UnsupportedOperationException.class, () -> mapper.map(new Source(10), new Target()));
+    }
+
+    private SourceToTargetPropertyMapper<Source, Integer, Target, String> createMapper(
+            PropertyEquivalence<? super String> propertyEquivalence
+    ) {
+        return new SourceToTargetPropertyMapper<Source, Integer, Target, String>(propertyEquivalence) {
+            @Override
+            protected Integer getPropertyFromSource(Source source) {
+                return source.getSourceProperty();
+            }
+
+            @Override
+            protected void setPropertyToTarget(Target target, String targetProperty) {
+                target.setTargetProperty(targetProperty);
+            }
+
+            @Override
+            protected String convert(Integer sourceProperty) {
+                return sourceProperty.toString();
+            }
+
+            @Override
+            protected String getPropertyFromTarget(Target target) {
+                return target.getTargetProperty();
+            }
+        };
+    }
+
     private static class Source {
         private final int sourceProperty;
 
@@ -63,6 +144,7 @@ public class SourceToTargetPropertyMapperTest {
 
     private static class Target {
         private String targetProperty;
+        private int setCount;
 
         public String getTargetProperty() {
             return targetProperty;
@@ -70,6 +152,11 @@ public class SourceToTargetPropertyMapperTest {
 
         public void setTargetProperty(String targetProperty) {
             this.targetProperty = targetProperty;
+            setCount++;
+        }
+
+        public int getSetCount() {
+            return setCount;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TargetPoolTest {
+    private final Mapper<Source, Target> mapper = (source, target) -> {
+        target.setTargetProperty(source.getSourceProperty());
+        target.setOtherTargetProperty(source.getSourceProperty());
+    };
+
+    @Test
+    public void testAcquireReusesReleasedTarget() {
+        TargetPool<Target> pool = createPool(2);
+        Target target = pool.acquire();
+        mapper.map(new Source("value"), target);
+
+        pool.release(target);
+
+        assertEquals(1, pool.size());
+        assertSame(target, pool.acquire());
+        assertNull(target.getTargetProperty());
+        assertNull(target.getOtherTargetProperty());
+        assertEquals(0, pool.size());
+        assertNotSame(target, pool.acquire());
+    }
+
+    @Test
+    public void testReleaseDropsTargetIfPoolIsFull() {
+        TargetPool<Target> pool = createPool(1);
+        Target target = pool.acquire();
+        Target otherTarget = pool.acquire();
+
+        pool.release(target);
+        pool.release(otherTarget);
+
+        assertEquals(1, pool.size());
+        assertSame(target, pool.acquire());
+    }
+
+    @Test
+    public void testResetMapper() {
+        TargetPool<Target> pool = new TargetPool<>(
+                Target::new,
+                (Target pristineTarget, Target target) -> {
+                    target.setTargetProperty(pristineTarget.getTargetProperty());
+                    target.setOtherTargetProperty(pristineTarget.getOtherTargetProperty());
+                },
+                1
+        );
+        Target target = pool.acquire();
+        mapper.map(new Source("value"), target);
+
+        pool.release(target);
+
+        assertEquals("default", target.getTargetProperty());
+        assertNull(target.getOtherTargetProperty());
+    }
+
+    @Test
+    public void testMapReleasesTargetEvenIfActionThrows() {
+        TargetPool<Target> pool = createPool(1);
+
+        assertThrows(IllegalStateException.class, () -> pool.map(mapper, new Source("value"), target -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, pool.size());
+        assertNull(pool.acquire().getTargetProperty());
+    }
+
+    @Test
+    public void testApply() {
+        TargetPool<Target> pool = createPool(1);
+
+        String targetProperty = pool.apply(mapper, new Source("value"), Target::getTargetProperty);
+
+        assertEquals("value", targetProperty);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testEachThreadHasItsOwnPool() throws Exception {
+        TargetPool<Target> pool = createPool(1);
+        pool.release(pool.acquire());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> otherThreadSize = executor.submit(pool::size);
+
+            assertEquals(0, (int) otherThreadSize.get());
+            assertEquals(1, pool.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConstructorThrowsExceptionIfMaxSizePerThreadIsLessThanOne() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> createPool(0));
+
+        assertEquals("maxSizePerThread must be at least 1, but was 0.", exception.getMessage());
+    }
+
+    @Test
+    public void testReleaseForgetsVersionStampsRecordedAgainstTarget() {
+        TargetPool<Target> pool = createPool(1);
+        Mapper<VersionStampedSource, Target> innerMapper =
+                (source, target) -> target.setTargetProperty(source.getSourceProperty());
+        SourceToTargetObjectPropertyMapper<VersionStampedSource, VersionStampedSource, Target, Target> stampedMapper =
+                new SourceToTargetObjectPropertyMapper<VersionStampedSource, VersionStampedSource, Target, Target>(
+                        false,
+                        true,
+                        Collections.singletonList(innerMapper)
+                ) {
+                    @Override
+                    protected VersionStampedSource getPropertyFromSource(VersionStampedSource source) {
+                        return source;
+                    }
+
+                    @Override
+                    protected Target getPropertyFromTarget(Target target) {
+                        return target;
+                    }
+                };
+        VersionStampedSource source = new VersionStampedSource("value", 1);
+        Target target = pool.acquire();
+        stampedMapper.map(source, target);
+
+        pool.release(target);
+
+        assertSame(target, pool.acquire());
+        stampedMapper.map(source, target);
+        assertEquals("value", target.getTargetProperty());
+    }
+
+    private TargetPool<Target> createPool(int maxSizePerThread) {
+        return new TargetPool<>(
+                Target::new,
+                target -> {
+                    target.setTargetProperty(null);
+                    target.setOtherTargetProperty(null);
+                },
+                maxSizePerThread
+        );
+    }
+
+    private static class Source {
+        private final String sourceProperty;
+
+        private Source(String sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public String getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class VersionStampedSource extends Source implements VersionStamped {
+        private final long versionStamp;
+
+        private VersionStampedSource(String sourceProperty, long versionStamp) {
+            super(sourceProperty);
+            this.versionStamp = versionStamp;
+        }
+
+        @Override
+        public long getVersionStamp() {
+            return versionStamp;
+        }
+    }
+
+    private static class Target {
+        private String targetProperty = "default";
+        private String otherTargetProperty;
+
+        public String getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(String targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+
+        public String getOtherTargetProperty() {
+            return otherTargetProperty;
+        }
+
+        public void setOtherTargetProperty(String otherTargetProperty) {
+            this.otherTargetProperty = otherTargetProperty;
+        }
+    }
+}
\ No newline at end of file
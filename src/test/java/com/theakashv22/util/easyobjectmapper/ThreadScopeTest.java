@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ThreadScopeTest {
+    @Test
+    public void testCurrentIsOnlyInEffectBetweenEnterAndExit() {
+        ThreadScope<Object> scope = new ThreadScope<>(Object::new);
+
+        assertNull(scope.current());
+
+        Object frame = scope.enter();
+
+        assertSame(frame, scope.current());
+
+        scope.exit();
+
+        assertNull(scope.current());
+    }
+
+    @Test
+    public void testNestedRunsShareFrameUntilOutermostExit() {
+        AtomicInteger frameCount = new AtomicInteger();
+        ThreadScope<Object> scope = new ThreadScope<>(() -> {
+            frameCount.incrementAndGet();
+            return new Object();
+        });
+
+        Object frame = scope.enter();
+        assertSame(frame, scope.enter());
+        scope.exit();
+
+        assertSame(frame, scope.current());
+
+        scope.exit();
+        assertSame(frame, scope.enter());
+        scope.exit();
+
+        assertNull(scope.current());
+        assertEquals(1, frameCount.get());
+    }
+
+    @Test
+    public void testFrameIsNotInEffectOnOtherThreads() throws Exception {
+        ThreadScope<Object> scope = new ThreadScope<>(Object::new);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        scope.enter();
+        try {
+            assertNull(executor.submit(scope::current).get());
+        } finally {
+            scope.exit();
+            executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VersionStampRecordTest {
+    @Test
+    public void testPutAndIsCurrent() {
+        VersionStampRecord record = new VersionStampRecord();
+        Object target = new Object();
+
+        assertFalse(record.isCurrent(target, 1));
+
+        record.put(target, 1);
+
+        assertTrue(record.isCurrent(target, 1));
+        assertFalse(record.isCurrent(target, 2));
+
+        record.put(target, 2);
+
+        assertTrue(record.isCurrent(target, 2));
+        assertEquals(1, record.size());
+    }
+
+    @Test
+    public void testTargetsAreComparedByIdentity() {
+        VersionStampRecord record = new VersionStampRecord();
+
+        record.put(new String("target"), 1);
+
+        assertFalse(record.isCurrent(new String("target"), 1));
+    }
+
+    @Test
+    public void testRemove() {
+        VersionStampRecord record = new VersionStampRecord();
+        Object target = new Object();
+        record.put(target, 1);
+
+        record.remove(target);
+
+        assertFalse(record.isCurrent(target, 1));
+        assertEquals(0, record.size());
+    }
+
+    @Test
+    public void testRemoveFromAll() {
+        VersionStampRecord record = VersionStampRecord.create();
+        VersionStampRecord otherRecord = VersionStampRecord.create();
+        VersionStampRecord unregisteredRecord = new VersionStampRecord();
+        Object target = new Object();
+        Object otherTarget = new Object();
+        record.put(target, 1);
+        otherRecord.put(target, 2);
+        otherRecord.put(otherTarget, 3);
+        unregisteredRecord.put(target, 4);
+
+        VersionStampRecord.removeFromAll(target);
+
+        assertFalse(record.isCurrent(target, 1));
+        assertFalse(otherRecord.isCurrent(target, 2));
+        assertTrue(otherRecord.isCurrent(otherTarget, 3));
+        assertTrue(unregisteredRecord.isCurrent(target, 4));
+    }
+
+    @Test
+    public void testRecordGrowsBeyondInitialCapacity() {
+        VersionStampRecord record = new VersionStampRecord();
+        List<Object> targets = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Object target = new Object();
+            targets.add(target);
+            record.put(target, i);
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            assertTrue(record.isCurrent(targets.get(i), i));
+        }
+        assertEquals(1000, record.size());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadMapperTest {
+    private final AtomicInteger concurrency = new AtomicInteger();
+    private final AtomicInteger maxConcurrency = new AtomicInteger();
+    private final Mapper<Source, Target> mapper = (source, target) -> {
+        maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        if (source.getSourceProperty() < 0) {
+            concurrency.decrementAndGet();
+            throw new IllegalArgumentException();
+        }
+        target.setTargetProperty(source.getSourceProperty());
+        concurrency.decrementAndGet();
+    };
+
+    @Test
+    public void testVirtualThreadSupportMatchesJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        boolean java21OrLater = !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+
+        assertEquals(java21OrLater, VirtualThreadMapper.isVirtualThreadSupported());
+    }
+
+    @Test
+    public void testMapAllWithinConcurrencyLimit() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            VirtualThreadMapper<Source, Target> virtualThreadMapper = new VirtualThreadMapper<>(mapper, 4, executor);
+            List<Source> sources = createSources(100);
+
+            List<Target> targets = virtualThreadMapper.mapAll(sources, Target::new);
+
+            assertEquals(
+                    IntStream.range(0, 100).boxed().collect(Collectors.toList()),
+                    targets.stream().map(Target::getTargetProperty).collect(Collectors.toList())
+            );
+            assertTrue(maxConcurrency.get() <= 4, "At most 4 pairs should have been mapped at once.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMapAllThrowsFailureAfterMappingRest() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            VirtualThreadMapper<Source, Target> virtualThreadMapper = new VirtualThreadMapper<>(mapper, 4, executor);
+            List<Source> sources = createSources(10);
+            sources.set(3, new Source(-1));
+            List<Target> targets = IntStream.range(0, 10).mapToObj(i -> new Target()).collect(Collectors.toList());
+
+            assertThrows(IllegalArgumentException.class, () -> virtualThreadMapper.mapAll(sources, targets));
+            assertEquals(Integer.valueOf(9), targets.get(9).getTargetProperty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMapAsync() {
+        VirtualThreadMapper<Source, Target> virtualThreadMapper = new VirtualThreadMapper<>(mapper, 2);
+        Target target = new Target();
+
+        CompletableFuture<Target> future = virtualThreadMapper.mapAsync(new Source(5), target);
+
+        assertSame(target, future.join());
+        assertEquals(Integer.valueOf(5), target.getTargetProperty());
+    }
+
+    @Test
+    public void testMapAsyncCompletesExceptionally() {
+        VirtualThreadMapper<Source, Target> virtualThreadMapper = new VirtualThreadMapper<>(mapper, 2);
+
+        CompletableFuture<Target> future = virtualThreadMapper.mapAsync(new Source(-1), new Target());
+
+        CompletionException exception = assertThrows(CompletionException.class, future::join);
+        assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testMapAsyncWithoutExecutorMapsOnCallingThread() {
+        VirtualThreadMapper<Source, Target> virtualThreadMapper = new VirtualThreadMapper<>(
+                (source, target) -> target.setTargetProperty((int) Thread.currentThread().getId()),
+                2,
+                null
+        );
+
+        Target target = virtualThreadMapper.mapAsync(new Source(0), new Target()).getNow(null);
+
+        assertEquals(Integer.valueOf((int) Thread.currentThread().getId()), target.getTargetProperty());
+    }
+
+    @Test
+    public void testMaxConcurrencyMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadMapper<>(mapper, 0));
+    }
+
+    private static List<Source> createSources(int count) {
+        return IntStream.range(0, count).mapToObj(Source::new).collect(Collectors.toList());
+    }
+
+    private static class Source {
+        private final int sourceProperty;
+
+        private Source(int sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public int getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private Integer targetProperty;
+
+        public Integer getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(Integer targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2018 AkashV22
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.theakashv22.util.easyobjectmapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappingProcessorTest {
+    private final Mapper<Source, Target> mapper =
+            (source, target) -> target.setTargetProperty(source.getSourceProperty());
+
+    @Test
+    public void testMapsAllItemsInOrder() {
+        ListPublisher publisher = new ListPublisher(createSources(10));
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(createProperties(10), subscriber.getTargetProperties());
+        assertTrue(subscriber.isCompleted());
+        assertNull(subscriber.getError());
+    }
+
+    @Test
+    public void testOnlyDemandedItemsAreRequested() {
+        ListPublisher publisher = new ListPublisher(createSources(10));
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new);
+        CollectingSubscriber subscriber = new CollectingSubscriber(2);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(createProperties(2), subscriber.getTargetProperties());
+        assertEquals(2, publisher.getRequestedCount());
+
+        subscriber.request(3);
+
+        assertEquals(createProperties(5), subscriber.getTargetProperties());
+        assertEquals(5, publisher.getRequestedCount());
+        assertFalse(subscriber.isCompleted());
+    }
+
+    @Test
+    public void testItemsAreRequestedInBatches() {
+        ListPublisher publisher = new ListPublisher(createSources(10));
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new, Runnable::run, 4);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(createProperties(10), subscriber.getTargetProperties());
+        assertEquals(Arrays.asList(4L, 4L, 4L), publisher.getRequests());
+        assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    public void testMapperExceptionCancelsUpstream() {
+        ListPublisher publisher = new ListPublisher(createSources(10));
+        IllegalStateException exception = new IllegalStateException();
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(
+                (source, target) -> {
+                    if (source.getSourceProperty().equals("3")) {
+                        throw exception;
+                    }
+                    mapper.map(source, target);
+                },
+                Target::new,
+                Runnable::run,
+                2
+        );
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(createProperties(3), subscriber.getTargetProperties());
+        assertEquals(exception, subscriber.getError());
+        assertTrue(publisher.isCancelled());
+    }
+
+    @Test
+    public void testNonPositiveRequestIsAnError() {
+        ListPublisher publisher = new ListPublisher(createSources(10));
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new);
+        CollectingSubscriber subscriber = new CollectingSubscriber(0);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertTrue(subscriber.getError() instanceof IllegalArgumentException);
+        assertTrue(publisher.isCancelled());
+    }
+
+    @Test
+    public void testOnlyOneSubscriberIsSupported() {
+        MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new);
+        CollectingSubscriber secondSubscriber = new CollectingSubscriber(1);
+
+        processor.subscribe(new CollectingSubscriber(1));
+        processor.subscribe(secondSubscriber);
+
+        assertTrue(secondSubscriber.getError() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testMapsOnExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (SubmissionPublisher<Source> publisher = new SubmissionPublisher<>()) {
+            MappingProcessor<Source, Target> processor = new MappingProcessor<>(mapper, Target::new, executor, 16);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+
+            for (Source source : createSources(1000)) {
+                publisher.submit(source);
+            }
+            publisher.close();
+
+            assertTrue(subscriber.awaitTermination());
+            assertEquals(createProperties(1000), subscriber.getTargetProperties());
+            assertTrue(subscriber.isCompleted());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchSizeMustBePositive() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MappingProcessor<>(mapper, Target::new, Runnable::run, 0)
+        );
+    }
+
+    private static List<Source> createSources(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Source(String.valueOf(i))).collect(Collectors.toList());
+    }
+
+    private static List<String> createProperties(int count) {
+        return IntStream.range(0, count).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Publishes a list of items synchronously on whichever thread requests them.
+     */
+    private static class ListPublisher implements Flow.Publisher<Source> {
+        private final List<Source> items;
+        private final List<Long> requests = new ArrayList<>();
+        private int index;
+        private boolean cancelled;
+
+        private ListPublisher(List<Source> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Source> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    for (long i = 0; i < n && index < items.size() && !cancelled; i++) {
+                        subscriber.onNext(items.get(index++));
+                    }
+                    if (index == items.size() && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        private List<Long> getRequests() {
+            return requests;
+        }
+
+        private long getRequestedCount() {
+            return requests.stream().mapToLong(Long::longValue).sum();
+        }
+
+        private boolean isCancelled() {
+            return cancelled && index < items.size();
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<Target> {
+        private final long initialRequest;
+        private final List<String> targetProperties = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Target item) {
+            targetProperties.add(item.getTargetProperty());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        private boolean awaitTermination() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+
+        private List<String> getTargetProperties() {
+            return new ArrayList<>(targetProperties);
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+
+        private Throwable getError() {
+            return error;
+        }
+    }
+
+    private static class Source {
+        private final String sourceProperty;
+
+        private Source(String sourceProperty) {
+            this.sourceProperty = sourceProperty;
+        }
+
+        public String getSourceProperty() {
+            return sourceProperty;
+        }
+    }
+
+    private static class Target {
+        private String targetProperty;
+
+        public String getTargetProperty() {
+            return targetProperty;
+        }
+
+        public void setTargetProperty(String targetProperty) {
+            this.targetProperty = targetProperty;
+        }
+    }
+}
\ No newline at end of file